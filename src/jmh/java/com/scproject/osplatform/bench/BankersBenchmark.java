@@ -0,0 +1,43 @@
+package com.scproject.osplatform.bench;
+
+import com.scproject.osplatform.dto.sim.BankerReq;
+import com.scproject.osplatform.service.BankersService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 은행원 알고리즘 안전성 검사 처리량 (n 프로세스 x m 자원).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BankersBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int n;
+
+    @Param({"3", "32"})
+    public int m;
+
+    @Param({"false", "true"})
+    public boolean trace;
+
+    private final BankersService service = new BankersService();
+    private BankerReq req;
+
+    @Setup
+    public void setup() {
+        req = Workloads.bankers(n, m, 42);
+        req.trace = trace;
+    }
+
+    @Benchmark
+    public Map<String, Object> safety() {
+        return service.run(req);
+    }
+}
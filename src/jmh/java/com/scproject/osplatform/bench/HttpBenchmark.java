@@ -0,0 +1,83 @@
+package com.scproject.osplatform.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scproject.osplatform.OsplatformApplication;
+import com.scproject.osplatform.dto.sim.PagingReq;
+import com.scproject.osplatform.dto.sim.SchedulingReq;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실제 서버를 띄우고 /api/sim/* 를 HTTP 로 호출합니다.
+ * JSON 역직렬화 -> 시뮬레이션 -> 직렬화 -> 전송까지의 전체 경로를 잽니다.
+ * cache=0 이면 결과 캐시를 끄고 매번 계산, 기본 용량이면 같은 요청이 캐시에서 나가는 경로입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HttpBenchmark {
+
+    @Param({"paging", "scheduling", "deadlock"})
+    public String endpoint;
+
+    @Param({"0", "67108864"})
+    public long cache;
+
+    private ConfigurableApplicationContext app;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup
+    public void setup() throws Exception {
+        app = SpringApplication.run(OsplatformApplication.class,
+                "--server.port=0", "--sim.cache.max-bytes=" + cache, "--records.dir=",
+                "--spring.main.banner-mode=off", "--logging.level.root=WARN");
+        String port = app.getEnvironment().getProperty("local.server.port");
+
+        Object body = switch (endpoint) {
+            case "paging" -> {
+                PagingReq r = new PagingReq();
+                r.algo = "LRU";
+                r.frames = 8;
+                r.refs = Workloads.refs(Workloads.RefPattern.ZIPF, 2000, 64, 42);
+                yield r;
+            }
+            case "scheduling" -> {
+                SchedulingReq r = new SchedulingReq();
+                r.algo = "RR";
+                r.quantum = 4;
+                r.processes = Workloads.processes(500, Workloads.BurstPattern.EXPONENTIAL, 20, 42);
+                yield r;
+            }
+            default -> Workloads.bankers(200, 8, 42);
+        };
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/sim/" + endpoint))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(new ObjectMapper().writeValueAsBytes(body)))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        app.close();
+    }
+
+    @Benchmark
+    public int roundTrip() throws Exception {
+        HttpResponse<byte[]> res = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (res.statusCode() != 200) throw new IllegalStateException("status " + res.statusCode());
+        return res.body().length;
+    }
+}
@@ -0,0 +1,67 @@
+package com.scproject.osplatform.bench;
+
+import com.scproject.osplatform.dto.sim.PagingReq;
+import com.scproject.osplatform.service.PagingService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 페이지 교체 엔진 처리량.
+ * summary = 스텝 없이 faults 만, steps = 프론트가 받는 스텝 목록 생성까지, stream = NDJSON 출력까지.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PagingBenchmark {
+
+    @Param({"FIFO", "LRU", "OPT", "LFU", "NUR", "CLOCK", "WS", "PFF"})
+    public String algo;
+
+    @Param({"UNIFORM", "ZIPF", "LOOP", "PHASE"})
+    public Workloads.RefPattern pattern;
+
+    @Param({"100000"})
+    public int length;
+
+    @Param({"16", "256"})
+    public int frames;
+
+    private final PagingService service = new PagingService();
+    private PagingReq summary;
+    private PagingReq steps;
+
+    @Setup
+    public void setup() {
+        summary = new PagingReq();
+        summary.algo = algo;
+        summary.frames = frames;
+        summary.refs = Workloads.refs(pattern, length, 4 * frames, 42);
+        summary.summaryOnly = true;
+
+        steps = new PagingReq();
+        steps.algo = algo;
+        steps.frames = frames;
+        steps.refs = summary.refs;
+    }
+
+    @Benchmark
+    public Map<String, Object> summary() {
+        return service.run(summary);
+    }
+
+    @Benchmark
+    public Map<String, Object> steps() {
+        return service.run(steps);
+    }
+
+    @Benchmark
+    public void stream() throws Exception {
+        service.stream(steps, OutputStream.nullOutputStream());
+    }
+}
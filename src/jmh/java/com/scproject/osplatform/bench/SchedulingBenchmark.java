@@ -0,0 +1,59 @@
+package com.scproject.osplatform.bench;
+
+import com.scproject.osplatform.dto.sim.SchedulingReq;
+import com.scproject.osplatform.service.SchedulingService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU 스케줄링 엔진 처리량 (프로세스 수 x burst 분포 x 알고리즘).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchedulingBenchmark {
+
+    @Param({"FCFS", "RR", "SJF", "SRTF", "PRIORITY", "MLFQ"})
+    public String algo;
+
+    @Param({"1000", "100000"})
+    public int processes;
+
+    @Param({"UNIFORM", "EXPONENTIAL", "BIMODAL"})
+    public Workloads.BurstPattern burst;
+
+    private final SchedulingService service = new SchedulingService();
+    private SchedulingReq full;
+    private SchedulingReq summary;
+
+    @Setup
+    public void setup() {
+        full = new SchedulingReq();
+        full.algo = algo;
+        full.quantum = 4;
+        full.aging = 10;
+        full.processes = Workloads.processes(processes, burst, 20, 42);
+
+        summary = new SchedulingReq();
+        summary.algo = algo;
+        summary.quantum = full.quantum;
+        summary.aging = full.aging;
+        summary.processes = full.processes;
+        summary.summaryOnly = true;
+    }
+
+    @Benchmark
+    public Map<String, Object> gantt() {
+        return service.run(full);
+    }
+
+    @Benchmark
+    public Map<String, Object> summary() {
+        return service.run(summary);
+    }
+}
@@ -0,0 +1,125 @@
+package com.scproject.osplatform.bench;
+
+import com.scproject.osplatform.dto.sim.BankerReq;
+import com.scproject.osplatform.dto.sim.SchedulingReq;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 입력 생성기. 같은 seed 면 항상 같은 입력이 나옵니다.
+ */
+public final class Workloads {
+
+    private Workloads() {
+    }
+
+    public enum RefPattern { UNIFORM, ZIPF, LOOP, PHASE }
+
+    public enum BurstPattern { UNIFORM, EXPONENTIAL, BIMODAL }
+
+    /**
+     * 참조열.
+     * UNIFORM : pages 개 중 균등
+     * ZIPF    : 순위 k 가 1/k 에 비례 (소수의 인기 페이지)
+     * LOOP    : 0..pages-1 을 반복해서 순차 접근 (LRU/FIFO 최악)
+     * PHASE   : length/8 마다 작업 집합(pages/8 개)이 바뀜
+     */
+    public static List<Integer> refs(RefPattern pattern, int length, int pages, long seed) {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        List<Integer> out = new ArrayList<>(length);
+        switch (pattern) {
+            case UNIFORM -> {
+                for (int i = 0; i < length; i++) out.add(rnd.nextInt(pages));
+            }
+            case ZIPF -> {
+                double[] cdf = zipfCdf(pages, 1.0);
+                for (int i = 0; i < length; i++) out.add(sample(cdf, rnd.nextDouble()));
+            }
+            case LOOP -> {
+                for (int i = 0; i < length; i++) out.add(i % pages);
+            }
+            case PHASE -> {
+                int phaseLen = Math.max(1, length / 8);
+                int set = Math.max(1, pages / 8);
+                int base = 0;
+                for (int i = 0; i < length; i++) {
+                    if (i % phaseLen == 0) base = rnd.nextInt(Math.max(1, pages - set + 1));
+                    out.add(base + rnd.nextInt(set));
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 프로세스 표. 도착 간격은 평균 meanBurst/2 의 균등 분포(=CPU 가 대체로 바쁨).
+     * BIMODAL 은 90% 짧은 작업 + 10% 긴 작업 (convoy 효과 관찰용).
+     */
+    public static List<SchedulingReq.Proc> processes(int n, BurstPattern burst, int meanBurst, long seed) {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        List<SchedulingReq.Proc> out = new ArrayList<>(n);
+        int arrival = 0;
+        for (int i = 0; i < n; i++) {
+            SchedulingReq.Proc p = new SchedulingReq.Proc();
+            p.pid = "P" + (i + 1);
+            p.arrival = arrival;
+            p.burst = switch (burst) {
+                case UNIFORM -> 1 + rnd.nextInt(2 * meanBurst);
+                case EXPONENTIAL -> 1 + (int) (-meanBurst * Math.log(1 - rnd.nextDouble()));
+                case BIMODAL -> rnd.nextInt(10) == 0 ? 1 + rnd.nextInt(10 * meanBurst) : 1 + rnd.nextInt(Math.max(1, meanBurst / 2));
+            };
+            p.priority = rnd.nextInt(10);
+            out.add(p);
+            arrival += rnd.nextInt(Math.max(1, meanBurst));
+        }
+        return out;
+    }
+
+    /**
+     * 안전한 은행원 상태 (n 프로세스 x m 자원). 0..n-1 순서가 항상 안전 순서가 되도록 만듭니다.
+     */
+    public static BankerReq bankers(int n, int m, long seed) {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        BankerReq req = new BankerReq();
+        req.max = new int[n][m];
+        req.allocation = new int[n][m];
+        req.available = new int[m];
+        for (int j = 0; j < m; j++) req.available[j] = 5 + rnd.nextInt(5);
+        int[] work = req.available.clone();
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < m; j++) {
+                int need = rnd.nextInt(work[j] + 1);
+                int alloc = rnd.nextInt(5);
+                req.allocation[i][j] = alloc;
+                req.max[i][j] = alloc + need;
+                work[j] += alloc;
+            }
+        }
+        req.trace = false;
+        return req;
+    }
+
+    private static double[] zipfCdf(int n, double s) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1 / Math.pow(k, s);
+            cdf[k - 1] = sum;
+        }
+        for (int k = 0; k < n; k++) cdf[k] /= sum;
+        return cdf;
+    }
+
+    private static int sample(double[] cdf, double u) {
+        int lo = 0;
+        int hi = cdf.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cdf[mid] < u) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,34 @@
+package com.scproject.osplatform.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class SimulationConfig {
+
+    // 배치/스윕처럼 여러 시뮬레이션을 나눠 돌릴 때 쓰는 공용 풀 (Tomcat 요청 스레드와 분리, 코어 수로 제한)
+    @Bean(destroyMethod = "shutdownNow")
+    public ForkJoinPool simulationPool() {
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    // 비동기 작업(/api/sim/jobs) 전용 작업자 풀. 대기열이 차면 제출을 거절(AbortPolicy)해서 역압을 겁니다.
+    @Bean(destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor simulationJobExecutor(@Value("${sim.jobs.workers:0}") int workers,
+                                                    @Value("${sim.jobs.queue-depth:64}") int queueDepth) {
+        int n = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger(1);
+        return new ThreadPoolExecutor(n, n, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueDepth), r -> {
+            Thread t = new Thread(r, "sim-job-" + seq.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -1,19 +1,20 @@
 package com.scproject.osplatform.controller;
 
+import com.scproject.osplatform.service.RecordStore;
 import org.springframework.http.ResponseEntity;
-import java.util.Objects;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
 
 @RestController
 @RequestMapping("/api")
 public class ApiController {
 
-    // 임시 메모리 저장소
-    private final List<Map<String, Object>> records = Collections.synchronizedList(new ArrayList<>());
-    private final AtomicInteger seq = new AtomicInteger(1);
+    private final RecordStore recordStore;
+
+    public ApiController(RecordStore recordStore) {
+        this.recordStore = recordStore;
+    }
 
     @GetMapping("/health")
     public Map<String, Object> health() {
@@ -36,44 +37,39 @@ public class ApiController {
         return Map.of("name", "ㅇㅇㅇ", "email", "test@example.com");
     }
 
-    // 기록 생성 후 리스트 저장
+    // 기록 생성 후 저장
     @PostMapping("/records")
     public Map<String, Object> createRecord(@RequestBody Map<String, Object> body) {
-
-        int id = seq.getAndIncrement();
-
-        Map<String, Object> rec = new HashMap<>();
-
-        rec.put("id", id);
-        rec.put("created", System.currentTimeMillis());
-
-        // 제목 기본값
-        rec.put("title", body.getOrDefault("title", "내 기록"));
-
-        // 어떤 시뮬인지 (scheduling or paging)
-        rec.put("type", body.getOrDefault("type", "unknown"));
-
-        // 실제 시뮬레이션 결과 payload 전체 저장 가능
-        rec.put("data", body);
-
-        records.add(rec);
-        return rec;
+        return recordStore.create(body);
     }
 
 
-    //기록목록 조회
+    //기록목록 조회 (요약만, 최신순, cursor 페이지네이션 + type 필터)
     @GetMapping("/records")
-    public List<Map<String, Object>> listRecords() {
-        List<Map<String, Object>> copy = new ArrayList<>(records);
-        copy.sort((a,b) -> Long.compare((Long)b.get("created"), (Long)a.get("created")));
-        return copy;
+    public Map<String, Object> listRecords(@RequestParam(required = false) String type,
+                                           @RequestParam(required = false) String cursor,
+                                           @RequestParam(required = false) Integer limit) {
+        return recordStore.list(type, cursor, limit);
+    }
+
+    //기록 상세 (본문 포함)
+    @GetMapping("/records/{id}")
+    public ResponseEntity<?> getRecord(@PathVariable int id) {
+        Map<String, Object> rec = recordStore.detail(id);
+        if (rec != null) return ResponseEntity.ok(rec);
+        return ResponseEntity.status(404).body(Map.of("ok", false, "message", "not found"));
     }
 
     //기록삭제
     @DeleteMapping("/records/{id}")
     public ResponseEntity<?> deleteRecord(@PathVariable int id) {
-        boolean removed = records.removeIf(r -> Objects.equals(r.get("id"), id));
-        if (removed) return ResponseEntity.ok(Map.of("ok", true));
+        if (recordStore.delete(id)) return ResponseEntity.ok(Map.of("ok", true));
         return ResponseEntity.status(404).body(Map.of("ok", false, "message", "not found"));
     }
+
+    // 잘못된 cursor / limit
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<?> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.status(400).body(Map.of("ok", false, "message", e.getMessage()));
+    }
 }
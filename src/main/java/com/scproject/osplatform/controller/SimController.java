@@ -2,9 +2,17 @@ package com.scproject.osplatform.controller;
 
 import com.scproject.osplatform.dto.sim.*;
 import com.scproject.osplatform.service.*;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/sim")
@@ -13,29 +21,315 @@ public class SimController {
     private final SchedulingService schedulingService;
     private final PagingService pagingService;
     private final BankersService bankersService;
+    private final MissRatioCurveService missRatioCurveService;
+    private final PagingBatchService pagingBatchService;
+    private final PagingTraceService pagingTraceService;
+    private final QuantumSweepService quantumSweepService;
+    private final BankerSessionService bankerSessionService;
+    private final DeadlockDetectionService deadlockDetectionService;
+    private final SimulationCache simulationCache;
+    private final SimulationJobService simulationJobService;
+    private final AddressTranslationService addressTranslationService;
+    private final SmpSchedulingService smpSchedulingService;
+    private final BatchGradingService batchGradingService;
+    private final SimulationSessionService simulationSessionService;
 
     // ✅ 생성자 주입 (중요)
     public SimController(SchedulingService schedulingService,
                          PagingService pagingService,
-                         BankersService bankersService) {
+                         BankersService bankersService,
+                         MissRatioCurveService missRatioCurveService,
+                         PagingBatchService pagingBatchService,
+                         PagingTraceService pagingTraceService,
+                         QuantumSweepService quantumSweepService,
+                         BankerSessionService bankerSessionService,
+                         DeadlockDetectionService deadlockDetectionService,
+                         SimulationCache simulationCache,
+                         SimulationJobService simulationJobService,
+                         AddressTranslationService addressTranslationService,
+                         SmpSchedulingService smpSchedulingService,
+                         BatchGradingService batchGradingService,
+                         SimulationSessionService simulationSessionService) {
         this.schedulingService = schedulingService;
         this.pagingService = pagingService;
         this.bankersService = bankersService;
+        this.missRatioCurveService = missRatioCurveService;
+        this.pagingBatchService = pagingBatchService;
+        this.pagingTraceService = pagingTraceService;
+        this.quantumSweepService = quantumSweepService;
+        this.bankerSessionService = bankerSessionService;
+        this.deadlockDetectionService = deadlockDetectionService;
+        this.simulationCache = simulationCache;
+        this.simulationJobService = simulationJobService;
+        this.addressTranslationService = addressTranslationService;
+        this.smpSchedulingService = smpSchedulingService;
+        this.batchGradingService = batchGradingService;
+        this.simulationSessionService = simulationSessionService;
     }
 
+    // 같은 요청이면 캐시에 있는 JSON 바이트를 그대로 반환
     @PostMapping("/scheduling")
-    public Map<String,Object> scheduling(@RequestBody SchedulingReq req){
-        return schedulingService.run(req);
+    public ResponseEntity<byte[]> scheduling(@RequestBody SchedulingReq req){
+        return json(simulationCache.scheduling(req, () -> schedulingService.run(req)));
+    }
+
+    @PostMapping(value = "/scheduling/stream", produces = "application/x-ndjson")
+    public StreamingResponseBody schedulingStream(@RequestBody SchedulingReq req){
+        return out -> schedulingService.stream(req, out);
+    }
+
+    // 퀀텀 범위를 한 번에 평가해서 지표 곡선만 반환 (RR 튜닝용)
+    @PostMapping("/scheduling/sweep")
+    public Map<String,Object> schedulingSweep(@RequestBody QuantumSweepReq req){
+        return quantumSweepService.run(req);
+    }
+
+    // 멀티코어: CPU 별 run queue + 부하 분산 (NONE | PUSH | PULL | STEAL)
+    @PostMapping("/scheduling/smp")
+    public Map<String,Object> schedulingSmp(@RequestBody SmpSchedulingReq req){
+        return smpSchedulingService.run(req);
     }
 
     @PostMapping("/paging")
-    public Map<String,Object> paging(@RequestBody PagingReq req){
-        return pagingService.run(req);
+    public ResponseEntity<byte[]> paging(@RequestBody PagingReq req){
+        return json(simulationCache.paging(req, () -> pagingService.run(req)));
+    }
+
+    // 큰 참조열용: 스텝을 모으지 않고 NDJSON 으로 바로 전송
+    @PostMapping(value = "/paging/stream", produces = "application/x-ndjson")
+    public StreamingResponseBody pagingStream(@RequestBody PagingReq req){
+        return out -> pagingService.stream(req, out);
+    }
+
+    // 바이너리 참조열 업로드 (int32 little-endian 또는 varint), 결과는 NDJSON
+    @PostMapping(value = "/paging/trace", consumes = "application/octet-stream", produces = "application/x-ndjson")
+    public StreamingResponseBody pagingTrace(@RequestParam(defaultValue = "FIFO") String algo,
+                                             @RequestParam int frames,
+                                             @RequestParam(defaultValue = "int32") String encoding,
+                                             @RequestParam(defaultValue = "false") boolean summaryOnly,
+                                             HttpServletRequest request) throws IOException {
+        // 본문은 요청 스레드에서 미리 다 읽어 두고, 시뮬레이션/응답만 스트리밍
+        int[] refs = pagingTraceService.read(encoding, request.getInputStream(), request.getContentLengthLong());
+        return out -> pagingService.stream(algo, frames, refs, summaryOnly, out);
+    }
+
+    // 서버의 trace-dir 에 있는 바이너리 참조열 파일로 실행
+    @PostMapping(value = "/paging/trace-file", produces = "application/x-ndjson")
+    public StreamingResponseBody pagingTraceFile(@RequestBody PagingFileReq req) throws IOException {
+        int[] refs = pagingTraceService.readFile(req.file, req.encoding);
+        boolean summaryOnly = Boolean.TRUE.equals(req.summaryOnly);
+        return out -> pagingService.stream(req.algo, req.frames, refs, summaryOnly, out);
+    }
+
+    // 가상 주소 트레이스 -> TLB / 페이지 테이블 워크 / 페이지 교체 비용
+    @PostMapping("/translation")
+    public Map<String,Object> translation(@RequestBody TranslationReq req){
+        return addressTranslationService.run(req);
+    }
+
+    // 큰 주소 트레이스는 int64 little-endian 바이너리로 업로드
+    @PostMapping(value = "/translation/trace", consumes = "application/octet-stream")
+    public Map<String,Object> translationTrace(@RequestParam(defaultValue = "FIFO") String algo,
+                                               @RequestParam int frames,
+                                               @RequestParam(required = false) Integer pageBits,
+                                               @RequestParam(required = false) Integer vaBits,
+                                               @RequestParam(required = false) Integer levels,
+                                               @RequestParam(required = false) Integer tlbEntries,
+                                               @RequestParam(required = false) Integer tlbWays,
+                                               HttpServletRequest request) throws IOException {
+        TranslationReq req = new TranslationReq();
+        req.algo = algo;
+        req.frames = frames;
+        req.pageBits = pageBits;
+        req.vaBits = vaBits;
+        req.levels = levels;
+        req.tlbEntries = tlbEntries;
+        req.tlbWays = tlbWays;
+        long[] addresses = pagingTraceService.readAddresses(request.getInputStream(), request.getContentLengthLong());
+        return addressTranslationService.run(req, addresses);
+    }
+
+    // 프레임 수 1..N 전체의 폴트 수 곡선 (한 번의 패스)
+    @PostMapping("/paging/curve")
+    public Map<String,Object> pagingCurve(@RequestBody PagingCurveReq req){
+        return missRatioCurveService.run(req);
+    }
+
+    // 같은 참조열에 여러 (algo, frames) 를 한 번에 병렬 실행
+    @PostMapping("/paging/batch")
+    public ResponseEntity<byte[]> pagingBatch(@RequestBody PagingBatchReq req){
+        return json(pagingBatchService.run(req));
     }
 
     @PostMapping("/deadlock")
-    public Map<String,Object> deadlock(@RequestBody BankerReq req){
-        return bankersService.run(req);
+    public ResponseEntity<byte[]> deadlock(@RequestBody BankerReq req){
+        return json(simulationCache.bankers(req, () -> bankersService.run(req)));
+    }
+
+    // 페이징 / 스케줄링 / 은행원 시나리오 묶음을 코어 수만큼 나눠 돌리고 정답과 비교 (과제 일괄 채점용)
+    @PostMapping("/batch")
+    public Map<String,Object> batch(@RequestBody BatchGradeReq req){
+        return batchGradingService.run(req);
+    }
+
+    @GetMapping("/cache")
+    public Map<String,Object> cacheStats(){
+        return simulationCache.stats();
+    }
+
+    // ===== 재실행 세션 (입력을 고쳐 다시 돌리면 달라진 부분만 반환) =====
+
+    @PostMapping("/paging/sessions")
+    public Map<String,Object> createPagingSession(@RequestBody PagingReq req){
+        return simulationSessionService.createPaging(req);
+    }
+
+    @PostMapping("/paging/sessions/{id}/run")
+    public Map<String,Object> runPagingSession(@PathVariable String id, @RequestBody PagingReq req){
+        return simulationSessionService.runPaging(id, req);
+    }
+
+    @DeleteMapping("/paging/sessions/{id}")
+    public ResponseEntity<?> closePagingSession(@PathVariable String id){
+        if (simulationSessionService.closePaging(id)) return ResponseEntity.ok(Map.of("ok", true));
+        return ResponseEntity.status(404).body(Map.of("ok", false, "message", "not found"));
+    }
+
+    @PostMapping("/scheduling/sessions")
+    public Map<String,Object> createSchedulingSession(@RequestBody SchedulingReq req){
+        return simulationSessionService.createScheduling(req);
+    }
+
+    @PostMapping("/scheduling/sessions/{id}/run")
+    public Map<String,Object> runSchedulingSession(@PathVariable String id, @RequestBody SchedulingReq req){
+        return simulationSessionService.runScheduling(id, req);
+    }
+
+    @DeleteMapping("/scheduling/sessions/{id}")
+    public ResponseEntity<?> closeSchedulingSession(@PathVariable String id){
+        if (simulationSessionService.closeScheduling(id)) return ResponseEntity.ok(Map.of("ok", true));
+        return ResponseEntity.status(404).body(Map.of("ok", false, "message", "not found"));
+    }
+
+    // ===== 은행원 알고리즘 세션 (상태를 서버에 두고 request / release 를 계속 받음) =====
+
+    @PostMapping("/deadlock/sessions")
+    public Map<String,Object> createBankerSession(@RequestBody BankerReq req){
+        return bankerSessionService.create(req);
+    }
+
+    @GetMapping("/deadlock/sessions/{id}")
+    public Map<String,Object> bankerSession(@PathVariable String id){
+        return bankerSessionService.snapshot(id);
+    }
+
+    @PostMapping("/deadlock/sessions/{id}/request")
+    public Map<String,Object> bankerRequest(@PathVariable String id, @RequestBody BankerOpReq op){
+        return bankerSessionService.request(id, op);
+    }
+
+    @PostMapping("/deadlock/sessions/{id}/release")
+    public Map<String,Object> bankerRelease(@PathVariable String id, @RequestBody BankerOpReq op){
+        return bankerSessionService.release(id, op);
+    }
+
+    @DeleteMapping("/deadlock/sessions/{id}")
+    public ResponseEntity<?> closeBankerSession(@PathVariable String id){
+        if (bankerSessionService.close(id)) return ResponseEntity.ok(Map.of("ok", true));
+        return ResponseEntity.status(404).body(Map.of("ok", false, "message", "not found"));
+    }
+
+    // ===== 교착 상태 탐지 (이미 벌어진 할당 상태 검사) =====
+
+    @PostMapping("/deadlock/detect")
+    public Map<String,Object> detectDeadlock(@RequestBody DeadlockDetectReq req){
+        return deadlockDetectionService.detect(req);
+    }
+
+    @PostMapping("/deadlock/graphs")
+    public Map<String,Object> createWaitForGraph(@RequestBody WaitForGraphReq req){
+        return deadlockDetectionService.createGraph(req);
+    }
+
+    @GetMapping("/deadlock/graphs/{id}")
+    public Map<String,Object> waitForGraph(@PathVariable String id){
+        return deadlockDetectionService.graph(id);
+    }
+
+    @PostMapping("/deadlock/graphs/{id}/edges")
+    public Map<String,Object> addWaitForEdge(@PathVariable String id, @RequestBody WaitForEdgeReq edge){
+        return deadlockDetectionService.addEdge(id, edge);
+    }
+
+    @DeleteMapping("/deadlock/graphs/{id}/edges/{from}/{to}")
+    public Map<String,Object> removeWaitForEdge(@PathVariable String id, @PathVariable int from, @PathVariable int to){
+        return deadlockDetectionService.removeEdge(id, from, to);
+    }
+
+    @DeleteMapping("/deadlock/graphs/{id}")
+    public ResponseEntity<?> closeWaitForGraph(@PathVariable String id){
+        if (deadlockDetectionService.close(id)) return ResponseEntity.ok(Map.of("ok", true));
+        return ResponseEntity.status(404).body(Map.of("ok", false, "message", "not found"));
+    }
+
+    // ===== 비동기 작업 (큰 입력용: 바로 id 를 받고 폴링 / SSE 로 진행 상황 확인) =====
+
+    @PostMapping("/jobs/paging")
+    public ResponseEntity<Map<String,Object>> submitPagingJob(@RequestBody PagingReq req, HttpServletRequest http){
+        return ResponseEntity.accepted().body(simulationJobService.submitPaging(req, user(http)));
+    }
+
+    @PostMapping("/jobs/scheduling")
+    public ResponseEntity<Map<String,Object>> submitSchedulingJob(@RequestBody SchedulingReq req, HttpServletRequest http){
+        return ResponseEntity.accepted().body(simulationJobService.submitScheduling(req, user(http)));
+    }
+
+    @PostMapping("/jobs/deadlock")
+    public ResponseEntity<Map<String,Object>> submitBankersJob(@RequestBody BankerReq req, HttpServletRequest http){
+        return ResponseEntity.accepted().body(simulationJobService.submitBankers(req, user(http)));
+    }
+
+    @GetMapping("/jobs/{id}")
+    public Map<String,Object> job(@PathVariable String id){
+        return simulationJobService.status(id);
+    }
+
+    @GetMapping(value = "/jobs/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter jobEvents(@PathVariable String id){
+        return simulationJobService.subscribe(id);
+    }
+
+    @DeleteMapping("/jobs/{id}")
+    public Map<String,Object> cancelJob(@PathVariable String id){
+        return simulationJobService.cancel(id);
+    }
+
+    // 사용자 구분: X-User 헤더, 없으면 접속 주소
+    private static String user(HttpServletRequest http){
+        String user = http.getHeader("X-User");
+        return user != null && !user.isBlank() ? user : http.getRemoteAddr();
+    }
+
+    private static ResponseEntity<byte[]> json(byte[] body){
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    // 없는 세션 등
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<?> notFound(NoSuchElementException e){
+        return ResponseEntity.status(404).body(Map.of("ok", false, "message", e.getMessage()));
+    }
+
+    // 작업 대기열이 가득 찼거나 사용자당 동시 작업 수 초과
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<?> tooManyJobs(RejectedExecutionException e){
+        return ResponseEntity.status(429).body(Map.of("ok", false, "message", e.getMessage()));
+    }
+
+    // 지원하지 않는 옵션 등 잘못된 입력
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<?> badRequest(IllegalArgumentException e){
+        return ResponseEntity.status(400).body(Map.of("ok", false, "message", e.getMessage()));
     }
 
     }
@@ -0,0 +1,50 @@
+package com.scproject.osplatform.controller;
+
+import com.scproject.osplatform.dto.sim.PagingWorkloadReq;
+import com.scproject.osplatform.dto.sim.SchedulingWorkloadReq;
+import com.scproject.osplatform.service.WorkloadService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Map;
+
+/**
+ * 참조열 / 프로세스 목록 대신 생성 규칙만 받아 서버에서 만든 입력으로 시뮬레이션 (부하 시험용)
+ */
+@RestController
+@RequestMapping("/api/sim/workload")
+public class WorkloadController {
+
+    private final WorkloadService workloadService;
+
+    public WorkloadController(WorkloadService workloadService) {
+        this.workloadService = workloadService;
+    }
+
+    @PostMapping("/paging")
+    public Map<String,Object> paging(@RequestBody PagingWorkloadReq req){
+        return workloadService.paging(req);
+    }
+
+    @PostMapping(value = "/paging/stream", produces = "application/x-ndjson")
+    public StreamingResponseBody pagingStream(@RequestBody PagingWorkloadReq req){
+        return out -> workloadService.streamPaging(req, out);
+    }
+
+    @PostMapping("/scheduling")
+    public Map<String,Object> scheduling(@RequestBody SchedulingWorkloadReq req){
+        return workloadService.scheduling(req);
+    }
+
+    @PostMapping(value = "/scheduling/stream", produces = "application/x-ndjson")
+    public StreamingResponseBody schedulingStream(@RequestBody SchedulingWorkloadReq req){
+        return out -> workloadService.streamScheduling(req, out);
+    }
+
+    // 잘못된 생성 규칙 / 옵션
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<?> badRequest(IllegalArgumentException e){
+        return ResponseEntity.status(400).body(Map.of("ok", false, "message", e.getMessage()));
+    }
+}
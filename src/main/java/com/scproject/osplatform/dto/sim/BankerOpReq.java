@@ -0,0 +1,6 @@
+package com.scproject.osplatform.dto.sim;
+
+public class BankerOpReq {
+    public int pid;        // 프로세스 번호 (0 부터)
+    public int[] vector;   // 요청/반납할 자원 벡터 (길이 = 자원 종류 수)
+}
@@ -4,4 +4,5 @@ public class BankerReq {
     public int[][] max;
     public int[][] allocation;
     public int[] available;
+    public Boolean trace;      // false 면 단계별 trace 를 기록하지 않음 (기본 true)
 }
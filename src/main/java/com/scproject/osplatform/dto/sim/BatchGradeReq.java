@@ -0,0 +1,19 @@
+package com.scproject.osplatform.dto.sim;
+
+import java.util.List;
+import java.util.Map;
+
+public class BatchGradeReq {
+    public List<Scenario> scenarios;
+    public Double tolerance;      // 숫자 비교 허용 오차 (기본 0.01, 평균 지표가 소수 둘째 자리까지라서)
+    public Boolean failuresOnly;  // true 면 정답과 일치한 시나리오는 결과를 생략하고 id / pass 만
+
+    public static class Scenario {
+        public String id;         // 결과에 그대로 돌려주는 식별자 (예: "20231234-paging-2")
+        public String type;       // PAGING | SCHEDULING | BANKERS
+        public PagingReq paging;          // type 에 맞는 것 하나만
+        public SchedulingReq scheduling;
+        public BankerReq bankers;
+        public Map<String, Object> expected; // 정답. 있으면 여기 있는 키만 비교 (예: { "faults": 9 }, { "safe": true, "sequence": [1,3,4,0,2] })
+    }
+}
@@ -0,0 +1,19 @@
+package com.scproject.osplatform.dto.sim;
+
+/**
+ * 교착 상태 탐지 요청. 아래 셋 중 하나의 형태로 보냅니다.
+ *  1) 다중 인스턴스 자원: allocation / request / available  -> 그래프 축약(reduction) 알고리즘
+ *  2) 단일 인스턴스 자원할당 그래프: holds / waits          -> 대기 그래프로 바꾼 뒤 Tarjan SCC
+ *  3) 대기 그래프 직접 입력: processes / waitFor           -> Tarjan SCC
+ */
+public class DeadlockDetectReq {
+    public int[][] allocation;  // [프로세스][자원] 현재 할당량
+    public int[][] request;     // [프로세스][자원] 아직 받지 못한 요청량
+    public int[] available;     // [자원] 남은 인스턴스 수
+
+    public int[][] holds;       // [자원, 프로세스] : 자원이 프로세스에 할당됨
+    public int[][] waits;       // [프로세스, 자원] : 프로세스가 자원을 기다림
+
+    public Integer processes;   // 프로세스 수 (생략하면 간선에 나온 최대 번호 + 1)
+    public int[][] waitFor;     // [from, to] : from 이 to 를 기다림
+}
@@ -0,0 +1,16 @@
+package com.scproject.osplatform.dto.sim;
+
+import java.util.List;
+
+public class PagingBatchReq {
+    public List<Integer> refs;      // 모든 설정이 공유하는 참조열
+    public List<Config> configs;    // 비교할 (algo, frames) 목록
+    public List<Boolean> writes;    // 참조별 쓰기 여부 (NUR, 없으면 모두 읽기)
+
+    public static class Config {
+        public String algo;
+        public int frames;
+        public Integer window;      // WS
+        public Integer pffInterval; // PFF
+    }
+}
@@ -0,0 +1,9 @@
+package com.scproject.osplatform.dto.sim;
+
+import java.util.List;
+
+public class PagingCurveReq {
+    public List<String> algos;   // FIFO, LRU, OPT (없으면 셋 다)
+    public Integer maxFrames;    // 곡선을 계산할 최대 프레임 수 (없으면 서로 다른 페이지 수, FIFO / OPT 는 최대 256)
+    public List<Integer> refs;   // 참조열
+}
@@ -0,0 +1,9 @@
+package com.scproject.osplatform.dto.sim;
+
+public class PagingFileReq {
+    public String algo;         // FIFO, LRU, OPT
+    public int frames;          // 프레임 수
+    public String file;         // sim.trace-dir 기준 상대 경로
+    public String encoding;     // "int32" (기본, little-endian) | "varint"
+    public Boolean summaryOnly; // true 면 스텝 없이 faults 만
+}
@@ -3,7 +3,12 @@ package com.scproject.osplatform.dto.sim;
 import java.util.List;
 
 public class PagingReq {
-    public String algo;      // FIFO, LRU
+    public String algo;      // FIFO, LRU, OPT, LFU, NUR, CLOCK(=SECOND_CHANCE), WS, PFF
     public int frames;       // 프레임 수
     public List<Integer> refs; // 참조열
+    public Boolean summaryOnly; // true 면 스텝 없이 faults 만
+    public Integer window;      // WS 일 때 작업 집합 창 크기 Δ (기본 10)
+    public Integer pffInterval; // PFF 일 때 fault 간격 기준 τ (기본 10)
+    public List<Boolean> writes; // NUR 일 때 참조별 쓰기 여부 (없으면 모두 읽기)
+    public Integer checkpointEvery; // 세션 재실행: 몇 스텝마다 체크포인트를 둘지 (기본 1024)
 }
@@ -0,0 +1,21 @@
+package com.scproject.osplatform.dto.sim;
+
+public class PagingWorkloadReq {
+    public String algo;          // PagingReq 와 같음
+    public int frames;
+    public Boolean summaryOnly;
+    public Integer window;       // WS
+    public Integer pffInterval;  // PFF
+    public Spec workload;        // 참조열 대신 보내는 생성 규칙
+
+    public static class Spec {
+        public String pattern;       // UNIFORM | ZIPF | LOOP | SCAN | PHASE
+        public int length;           // 참조 수
+        public int pages;            // 서로 다른 페이지 수 (0..pages-1)
+        public Long seed;            // 같은 seed 면 같은 참조열 (없으면 0)
+        public Double skew;          // ZIPF 지수 s (기본 1.0)
+        public Integer phaseLength;  // PHASE: 한 단계 길이 / SCAN: 스캔 주기 (기본 length/8)
+        public Integer locality;     // PHASE: 단계마다 쓰는 페이지 창 / SCAN: 인기 페이지 수 (기본 pages/8)
+        public Double writeRatio;    // 쓰기 참조 비율 (NUR 변형 비트, 기본 0)
+    }
+}
@@ -0,0 +1,12 @@
+package com.scproject.osplatform.dto.sim;
+
+import java.util.List;
+
+public class QuantumSweepReq {
+    public String algo;      // "RR" (기본) | "MLFQ"
+    public int from;         // 시작 퀀텀 (포함)
+    public int to;           // 끝 퀀텀 (포함)
+    public Integer step;     // 간격 (기본 1)
+    public Integer levels;   // MLFQ 큐 단계 수 (기본 3)
+    public List<SchedulingReq.Proc> processes;
+}
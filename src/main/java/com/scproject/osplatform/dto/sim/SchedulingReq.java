@@ -3,13 +3,18 @@ package com.scproject.osplatform.dto.sim;
 import java.util.List;
 
 public class SchedulingReq {
-    public String algo;          // "FCFS" | "RR"
-    public Integer quantum;      // RR일 때만 (타임 퀀텀)
+    public String algo;          // "FCFS" | "RR" | "SJF" | "SRTF"(="SRT") | "PRIORITY" | "MLFQ"
+    public Integer quantum;      // RR / MLFQ 일 때 (타임 퀀텀, MLFQ 는 최상위 큐 기준)
+    public Integer aging;        // PRIORITY 일 때, 이 시간만큼 기다릴 때마다 우선순위 1 상승 (없으면 aging 없음)
+    public Integer levels;       // MLFQ 큐 단계 수 (기본 3)
     public List<Proc> processes; // 프로세스 목록
+    public Boolean summaryOnly;  // true 면 간트차트 없이 metrics 만
 
     public static class Proc {
         public String pid;
         public int arrival;
         public int burst;
+        public int priority;     // 작을수록 우선 (PRIORITY 에서만 사용)
+        public List<Integer> affinity; // SMP 에서 실행 가능한 CPU 번호 (없으면 전체)
     }
 }
@@ -0,0 +1,21 @@
+package com.scproject.osplatform.dto.sim;
+
+public class SchedulingWorkloadReq {
+    public String algo;          // SchedulingReq 와 같음
+    public Integer quantum;
+    public Integer aging;
+    public Integer levels;
+    public Boolean summaryOnly;
+    public Spec workload;        // 프로세스 목록 대신 보내는 생성 규칙
+
+    public static class Spec {
+        public int count;            // 프로세스 수
+        public Long seed;            // 같은 seed 면 같은 프로세스 표 (없으면 0)
+        public String burst;         // EXPONENTIAL | BIMODAL | UNIFORM
+        public Integer meanBurst;    // 평균 burst (기본 10, BIMODAL 에서는 짧은 작업 평균)
+        public Double longRatio;     // BIMODAL: 긴 작업 비율 (기본 0.1)
+        public Integer longBurst;    // BIMODAL: 긴 작업 평균 burst (기본 meanBurst * 10)
+        public Double load;          // CPU 부하 ρ = 도착률 × 평균 burst (기본 0.9). Poisson 도착률은 여기서 계산
+        public Integer priorities;   // priority 범위 0..priorities-1 (기본 10)
+    }
+}
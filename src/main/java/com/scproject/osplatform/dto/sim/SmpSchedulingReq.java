@@ -0,0 +1,15 @@
+package com.scproject.osplatform.dto.sim;
+
+import java.util.List;
+
+public class SmpSchedulingReq {
+    public String algo;             // CPU 별 정책: RR | FCFS | SJF | PRIORITY (기본 RR)
+    public Integer quantum;         // RR 타임 퀀텀 (기본 4)
+    public int cpus;                // CPU 수 (1~64)
+    public String balance;          // NONE | PUSH | PULL | STEAL (기본 STEAL)
+    public Integer balanceInterval; // PUSH: 주기적 밸런싱 간격 (기본 10)
+    public Integer migrationCost;   // 다른 CPU 에서 이어 실행할 때 추가되는 시간 (캐시 재적재, 기본 0)
+    public Long seed;               // STEAL: 훔칠 대상 고르는 난수 seed (기본 0)
+    public List<SchedulingReq.Proc> processes; // affinity 로 실행 가능한 CPU 제한
+    public Boolean summaryOnly;     // true 면 CPU 별 간트차트 없이 지표만
+}
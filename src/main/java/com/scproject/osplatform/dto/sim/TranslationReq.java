@@ -0,0 +1,19 @@
+package com.scproject.osplatform.dto.sim;
+
+import java.util.List;
+
+public class TranslationReq {
+    public String algo;          // 프레임 교체 정책 (PagingReq 와 같음, 기본 FIFO)
+    public int frames;           // 물리 프레임 수
+    public Integer pageBits;     // 페이지 크기 = 2^pageBits 바이트 (기본 12 = 4KiB)
+    public Integer vaBits;       // 가상 주소 비트 수 (기본 48)
+    public Integer levels;       // 페이지 테이블 단계 2~4 (기본 4)
+    public Integer tlbEntries;   // TLB 엔트리 수 (기본 64)
+    public Integer tlbWays;      // TLB 연관도 1~16 (기본 4)
+    public Integer tlbNs;        // TLB 조회 시간 (기본 1)
+    public Integer memNs;        // 메모리 접근 한 번 (기본 100)
+    public Integer faultNs;      // 페이지 폴트 처리 (기본 8,000,000 = 8ms)
+    public Integer window;       // WS
+    public Integer pffInterval;  // PFF
+    public List<Long> addresses; // 가상 주소 열 (큰 트레이스는 /translation/trace 로 int64 바이너리 업로드)
+}
@@ -0,0 +1,6 @@
+package com.scproject.osplatform.dto.sim;
+
+public class WaitForEdgeReq {
+    public int from;   // 기다리는 프로세스
+    public int to;     // 자원을 쥐고 있는 프로세스
+}
@@ -0,0 +1,6 @@
+package com.scproject.osplatform.dto.sim;
+
+public class WaitForGraphReq {
+    public int processes;     // 노드(프로세스) 수
+    public int[][] edges;     // 초기 간선 [from, to] (생략 가능)
+}
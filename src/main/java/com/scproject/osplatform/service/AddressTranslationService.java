@@ -0,0 +1,224 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.TranslationReq;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 가상 주소 트레이스로 주소 변환 비용을 시뮬레이션합니다.
+ *
+ *   가상 주소 -> VPN -> TLB 조회 -> (miss) 다단계 페이지 테이블 워크 -> (없으면) 페이지 폴트 + 프레임 교체
+ *
+ * 프레임 교체는 PagingService 의 공용 드라이버와 교체 정책을 그대로 쓰고, 이 엔진은 스텝 콜백에서 TLB 와 워크만 계산합니다.
+ * 주소는 long[] 로 받고, VPN 은 한 번의 해시 패스로 dense 번호를 붙여 int[] 로 넘기므로 스텝마다 Map 을 쓰지 않습니다.
+ */
+@Service
+public class AddressTranslationService {
+
+    static final int MAX_ADDRESSES = 100_000_000;
+
+    private final PagingService pagingService;
+
+    public AddressTranslationService(PagingService pagingService) {
+        this.pagingService = pagingService;
+    }
+
+    public Map<String, Object> run(TranslationReq req) {
+        List<Long> list = req.addresses != null ? req.addresses : Collections.emptyList();
+        long[] addresses = new long[list.size()];
+        int i = 0;
+        for (Long a : list) addresses[i++] = a == null ? 0 : a;
+        return run(req, addresses);
+    }
+
+    /**
+     * 반환 형태:
+     * {
+     *   "accesses": 1000000, "distinctPages": 5231,
+     *   "tlb": { "entries": 64, "ways": 4, "sets": 16, "hits": 981234, "misses": 18766, "hitRate": 0.9812 },
+     *   "pageTable": { "levels": 4, "bitsPerLevel": [9,9,9,9], "walks": 18766, "walkAccesses": 75064,
+     *                  "nodes": [1, 1, 3, 11], "bytes": 65536 },
+     *   "faults": 5231, "faultRate": 0.0052,
+     *   "eatNs": 43.2        // 유효 접근 시간 (평균)
+     * }
+     */
+    public Map<String, Object> run(TranslationReq req, long[] addresses) {
+        if (addresses.length > MAX_ADDRESSES) {
+            throw new IllegalArgumentException("주소는 최대 " + MAX_ADDRESSES + "개까지 가능합니다.");
+        }
+        int pageBits = orDefault(req.pageBits, 12);
+        int vaBits = orDefault(req.vaBits, 48);
+        int levels = orDefault(req.levels, 4);
+        if (pageBits < 10 || pageBits > 30) throw new IllegalArgumentException("pageBits 는 10~30 이어야 합니다.");
+        if (levels < 2 || levels > 4) throw new IllegalArgumentException("levels 는 2~4 이어야 합니다.");
+        if (vaBits > 64 || vaBits < pageBits + levels) {
+            throw new IllegalArgumentException("vaBits 는 pageBits + levels 이상 64 이하여야 합니다.");
+        }
+        if (req.frames <= 0) throw new IllegalArgumentException("frames 는 1 이상이어야 합니다.");
+        Tlb tlb = new Tlb(orDefault(req.tlbEntries, 64), orDefault(req.tlbWays, 4));
+        long tlbNs = orDefault(req.tlbNs, 1);
+        long memNs = orDefault(req.memNs, 100);
+        long faultNs = orDefault(req.faultNs, 8_000_000);
+        int[] bitsPerLevel = bitsPerLevel(vaBits - pageBits, levels);
+
+        // VPN -> dense 번호
+        int vpnBits = vaBits - pageBits;
+        long vpnMask = vpnBits == 64 ? -1L : (1L << vpnBits) - 1;
+        int n = addresses.length;
+        int[] ids = new int[n];
+        long[] vpnOf = denseVpns(addresses, pageBits, vpnMask, ids);
+        int distinct = vpnOf.length;
+
+        long[] counts = new long[2]; // [TLB hit, 워크]
+        PageStepListener translate = new PageStepListener() {
+            @Override
+            public void step(int ref, boolean fault, int slot, int out, int[] mem) {
+                long vpn = vpnOf[ref];
+                if (out != -1) tlb.invalidate(vpnOf[out]);
+                if (tlb.lookup(vpn)) {
+                    counts[0]++;
+                } else {
+                    counts[1]++;
+                    tlb.insert(vpn);
+                }
+            }
+
+            @Override
+            public void released(int slot, int page) {
+                tlb.invalidate(vpnOf[page]);
+            }
+        };
+        PagingParams params = PagingParams.of(req.window, req.pffInterval, (List<Boolean>) null);
+        int faults = pagingService.simulate(req.algo, req.frames, PageIds.dense(ids, distinct), params, translate);
+
+        long hits = counts[0], walks = counts[1];
+        long walkAccesses = walks * levels;
+        // 매 접근: TLB 조회 + 데이터 접근 1번, miss 면 단계 수만큼 메모리 접근, 폴트면 처리 시간
+        double totalNs = n * (double) (tlbNs + memNs) + walkAccesses * (double) memNs + faults * (double) faultNs;
+
+        long[] nodes = tableNodes(vpnOf, bitsPerLevel);
+        long bytes = 0;
+        for (int l = 0; l < levels; l++) bytes += nodes[l] * (8L << bitsPerLevel[l]);
+
+        Map<String, Object> tlbOut = new LinkedHashMap<>();
+        tlbOut.put("entries", tlb.sets * tlb.ways);
+        tlbOut.put("ways", tlb.ways);
+        tlbOut.put("sets", tlb.sets);
+        tlbOut.put("hits", hits);
+        tlbOut.put("misses", walks);
+        tlbOut.put("hitRate", ratio(hits, n));
+
+        Map<String, Object> table = new LinkedHashMap<>();
+        table.put("levels", levels);
+        table.put("bitsPerLevel", bitsPerLevel);
+        table.put("walks", walks);
+        table.put("walkAccesses", walkAccesses);
+        table.put("nodes", nodes);
+        table.put("bytes", bytes);
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("accesses", n);
+        out.put("distinctPages", distinct);
+        out.put("tlb", tlbOut);
+        out.put("pageTable", table);
+        out.put("faults", faults);
+        out.put("faultRate", ratio(faults, n));
+        out.put("eatNs", n == 0 ? 0.0 : Math.round(totalNs / n * 100.0) / 100.0);
+        return out;
+    }
+
+    /**
+     * 주소 -> VPN 을 구하면서 처음 나온 순서대로 0,1,2... 를 붙입니다. (long 키 오픈 어드레싱)
+     * ids 에 위치별 dense 번호를 채우고, dense 번호 -> VPN 배열을 돌려줍니다.
+     * 해시 테이블은 주소 수가 아니라 서로 다른 페이지 수에 맞춰 자랍니다. (채움률 0.5 를 넘으면 두 배로)
+     */
+    private static long[] denseVpns(long[] addresses, int pageBits, long vpnMask, int[] ids) {
+        int n = addresses.length;
+        int cap = 1 << 10;
+        int mask = cap - 1;
+        long[] keys = new long[cap]; // vpn + 1 (0 = 빈 칸)
+        int[] vals = new int[cap];
+        long[] vpnOf = new long[Math.min(n, 1 << 10)];
+        int distinct = 0;
+        for (int i = 0; i < n; i++) {
+            long vpn = (addresses[i] >>> pageBits) & vpnMask;
+            long key = vpn + 1;
+            int h = mix(vpn) & mask;
+            while (keys[h] != 0 && keys[h] != key) h = (h + 1) & mask;
+            if (keys[h] == 0) {
+                keys[h] = key;
+                vals[h] = distinct;
+                if (distinct == vpnOf.length) vpnOf = Arrays.copyOf(vpnOf, vpnOf.length * 2);
+                vpnOf[distinct++] = vpn;
+                if (distinct * 2 > cap) {
+                    // dense 번호 d 의 키는 vpnOf[d] + 1 이라 기존 테이블을 훑지 않고 다시 넣으면 됨
+                    cap <<= 1;
+                    mask = cap - 1;
+                    keys = new long[cap];
+                    vals = new int[cap];
+                    for (int d = 0; d < distinct; d++) {
+                        int g = mix(vpnOf[d]) & mask;
+                        while (keys[g] != 0) g = (g + 1) & mask;
+                        keys[g] = vpnOf[d] + 1;
+                        vals[g] = d;
+                    }
+                    ids[i] = distinct - 1;
+                    continue;
+                }
+            }
+            ids[i] = vals[h];
+        }
+        return Arrays.copyOf(vpnOf, distinct);
+    }
+
+    /**
+     * 단계별로 실제로 만들어지는 페이지 테이블 노드 수 (= 서로 다른 상위 비트 접두사 수).
+     * VPN 을 정렬해 두면 각 단계의 접두사도 정렬되므로 한 번씩 훑으며 바뀌는 곳만 세면 됩니다.
+     */
+    private static long[] tableNodes(long[] vpnOf, int[] bitsPerLevel) {
+        int levels = bitsPerLevel.length;
+        long[] nodes = new long[levels];
+        if (vpnOf.length == 0) return nodes;
+        long[] sorted = vpnOf.clone();
+        Arrays.sort(sorted); // VPN 은 vaBits - pageBits (< 64) 비트라 음수가 없음
+        int shift = 0;
+        for (int l = levels - 1; l >= 0; l--) {
+            // 단계 l 의 노드 하나는 자기 인덱스 비트 위의 접두사 하나에 대응
+            shift += bitsPerLevel[l];
+            long count = 1;
+            for (int i = 1; i < sorted.length; i++) {
+                if (prefix(sorted[i], shift) != prefix(sorted[i - 1], shift)) count++;
+            }
+            nodes[l] = count;
+        }
+        return nodes;
+    }
+
+    private static long prefix(long vpn, int shift) {
+        return shift >= 64 ? 0 : vpn >>> shift;
+    }
+
+    // 인덱스 비트를 단계별로 나눔 (나누어떨어지지 않으면 최상위 단계가 적게 가짐, x86-64 는 9/9/9/9)
+    private static int[] bitsPerLevel(int indexBits, int levels) {
+        int per = (indexBits + levels - 1) / levels;
+        int[] bits = new int[levels];
+        for (int l = levels - 1; l > 0; l--) bits[l] = per;
+        bits[0] = indexBits - per * (levels - 1);
+        if (bits[0] <= 0) throw new IllegalArgumentException("vaBits 가 단계 수에 비해 너무 작습니다.");
+        return bits;
+    }
+
+    private static int mix(long x) {
+        long h = x * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static double ratio(long part, long whole) {
+        return whole == 0 ? 0.0 : Math.round(part * 10000.0 / whole) / 10000.0;
+    }
+
+    private static int orDefault(Integer v, int def) {
+        return v != null ? v : def;
+    }
+}
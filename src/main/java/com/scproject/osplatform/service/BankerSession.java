@@ -0,0 +1,189 @@
+package com.scproject.osplatform.service;
+
+import java.util.*;
+
+/**
+ * 은행원 알고리즘 세션 하나의 상태.
+ *
+ * 행렬은 n x m 을 한 줄로 펼친 int[] 로 들고, 마지막으로 확인된 안전 순서 S 를 기억합니다.
+ * 자원 j 마다 "S 의 k 번째 프로세스가 실행될 때의 여유분" slack[k] = work_k[j] - need[S[k]][j]
+ * 를 구간 최솟값 트리로 관리합니다.
+ *
+ * 프로세스 i (S 에서 위치 p) 가 r 을 요청하면 i 보다 앞선 위치들의 work 만 r 만큼 줄고
+ * (i 자신과 그 뒤는 변하지 않음), 따라서 모든 j 에 대해 min(slack[0..p)) >= r[j] 이면
+ * 기존 순서가 그대로 안전합니다. 이 빠른 검사는 O(m log n) 이고, 실패했을 때만
+ * 전체 안전성 검사를 다시 돌려 새 순서를 찾습니다.
+ */
+final class BankerSession {
+
+    private final BankersService bankers;
+    private final int n;
+    private final int m;
+    private final int[] max;
+    private final int[] alloc;
+    private final int[] need;
+    private final int[] available;
+
+    private final int[] seq;     // 안전 순서
+    private final int[] posOf;   // 프로세스 -> 안전 순서에서의 위치
+    private RangeMinTree[] slack;
+
+    private long fastChecks;
+    private long fullChecks;
+
+    BankerSession(BankersService bankers, int[][] max, int[][] allocation, int[] available) {
+        this.bankers = bankers;
+        this.n = allocation.length;
+        this.m = available.length;
+        this.max = new int[n * m];
+        this.alloc = new int[n * m];
+        this.need = new int[n * m];
+        this.available = Arrays.copyOf(available, m);
+        for (int i = 0; i < n; i++) {
+            if (max[i].length != m || allocation[i].length != m) {
+                throw new IllegalArgumentException("max / allocation 의 열 수가 available 길이와 다릅니다.");
+            }
+            for (int j = 0; j < m; j++) {
+                this.max[i * m + j] = max[i][j];
+                this.alloc[i * m + j] = allocation[i][j];
+                this.need[i * m + j] = max[i][j] - allocation[i][j];
+            }
+        }
+        this.seq = new int[n];
+        this.posOf = new int[n];
+        if (bankers.safety(n, m, need, alloc, this.available, seq, null) != n) {
+            throw new IllegalArgumentException("초기 상태가 안전하지 않습니다.");
+        }
+        rebuild();
+    }
+
+    /**
+     * 자원 요청. 허용되면 바로 할당하고, 거절되면 상태를 바꾸지 않습니다.
+     */
+    synchronized Map<String, Object> request(int pid, int[] r) {
+        checkArgs(pid, r);
+        for (int j = 0; j < m; j++) {
+            if (r[j] > need[pid * m + j]) return denied("exceeds-need");
+        }
+        for (int j = 0; j < m; j++) {
+            if (r[j] > available[j]) return denied("insufficient-available");
+        }
+
+        int p = posOf[pid];
+        boolean fast = true;
+        for (int j = 0; j < m && fast; j++) {
+            if (r[j] > 0 && slack[j].min(0, p) < r[j]) fast = false;
+        }
+
+        apply(pid, r, -1);
+        if (fast) {
+            fastChecks++;
+            for (int j = 0; j < m; j++) slack[j].add(0, p, -r[j]);
+            return granted("fast");
+        }
+
+        // 기존 순서로는 안 됨 -> 다른 안전 순서가 있는지 전체 검사
+        fullChecks++;
+        int[] candidate = new int[n];
+        if (bankers.safety(n, m, need, alloc, available, candidate, null) == n) {
+            System.arraycopy(candidate, 0, seq, 0, n);
+            rebuild();
+            return granted("full");
+        }
+        apply(pid, r, +1); // 되돌리기
+        return denied("unsafe");
+    }
+
+    /**
+     * 자원 반납. 반납은 안전성을 해치지 않으므로 항상 허용됩니다.
+     */
+    synchronized Map<String, Object> release(int pid, int[] r) {
+        checkArgs(pid, r);
+        for (int j = 0; j < m; j++) {
+            if (r[j] > alloc[pid * m + j]) {
+                throw new IllegalArgumentException("할당량보다 많이 반납할 수 없습니다: P" + pid);
+            }
+        }
+        apply(pid, r, +1);
+        int p = posOf[pid];
+        for (int j = 0; j < m; j++) slack[j].add(0, p, r[j]);
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("ok", true);
+        out.put("available", available.clone());
+        return out;
+    }
+
+    synchronized Map<String, Object> snapshot() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("n", n);
+        out.put("m", m);
+        out.put("available", available.clone());
+        out.put("allocation", rows(alloc));
+        out.put("need", rows(need));
+        out.put("max", rows(max));
+        out.put("sequence", seq.clone());
+        out.put("fastChecks", fastChecks);
+        out.put("fullChecks", fullChecks);
+        return out;
+    }
+
+    // sign = -1 : 할당, +1 : 반납
+    private void apply(int pid, int[] r, int sign) {
+        for (int j = 0; j < m; j++) {
+            available[j] += sign * r[j];
+            alloc[pid * m + j] -= sign * r[j];
+            need[pid * m + j] += sign * r[j];
+        }
+    }
+
+    // 안전 순서를 기준으로 slack 트리를 새로 만듦 O(n·m)
+    private void rebuild() {
+        for (int k = 0; k < n; k++) posOf[seq[k]] = k;
+        slack = new RangeMinTree[m];
+        long[] values = new long[n];
+        for (int j = 0; j < m; j++) {
+            long work = available[j];
+            for (int k = 0; k < n; k++) {
+                int i = seq[k];
+                values[k] = work - need[i * m + j];
+                work += alloc[i * m + j];
+            }
+            slack[j] = new RangeMinTree(values);
+        }
+    }
+
+    private void checkArgs(int pid, int[] r) {
+        if (pid < 0 || pid >= n) {
+            throw new IllegalArgumentException("없는 프로세스 번호: " + pid);
+        }
+        if (r == null || r.length != m) {
+            throw new IllegalArgumentException("vector 길이는 자원 종류 수(" + m + ")와 같아야 합니다.");
+        }
+        for (int v : r) {
+            if (v < 0) throw new IllegalArgumentException("vector 에 음수가 있습니다.");
+        }
+    }
+
+    private Map<String, Object> granted(String checked) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("granted", true);
+        out.put("checked", checked);
+        out.put("available", available.clone());
+        return out;
+    }
+
+    private Map<String, Object> denied(String reason) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("granted", false);
+        out.put("reason", reason);
+        out.put("available", available.clone());
+        return out;
+    }
+
+    private int[][] rows(int[] flat) {
+        int[][] out = new int[n][];
+        for (int i = 0; i < n; i++) out[i] = Arrays.copyOfRange(flat, i * m, i * m + m);
+        return out;
+    }
+}
@@ -0,0 +1,63 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.BankerOpReq;
+import com.scproject.osplatform.dto.sim.BankerReq;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 은행원 알고리즘을 한 번 계산하고 끝내는 대신, 시스템 상태를 서버에 두고
+ * request / release 를 계속 받아 하나씩 허용 여부를 판단하는 세션들.
+ * sim.sessions.idle-minutes 동안 쓰이지 않은 세션은 정리됩니다 (SessionRegistry).
+ */
+@Service
+public class BankerSessionService {
+
+    // 동시에 열어 둘 수 있는 최대 세션 수
+    private static final int MAX_SESSIONS = 1000;
+
+    private final BankersService bankersService;
+    private final SessionRegistry<BankerSession> sessions;
+
+    public BankerSessionService(BankersService bankersService,
+                                @Value("${sim.sessions.idle-minutes:30}") long idleMinutes) {
+        this.bankersService = bankersService;
+        this.sessions = new SessionRegistry<>("세션", MAX_SESSIONS, idleMinutes);
+    }
+
+    public Map<String, Object> create(BankerReq req) {
+        if (req.max == null || req.allocation == null || req.available == null
+                || req.max.length != req.allocation.length) {
+            throw new IllegalArgumentException("max / allocation / available 이 올바르지 않습니다.");
+        }
+        BankerSession session = new BankerSession(bankersService, req.max, req.allocation, req.available);
+        String id = sessions.add(session, 1);
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("id", id);
+        out.putAll(session.snapshot());
+        return out;
+    }
+
+    public Map<String, Object> request(String id, BankerOpReq op) {
+        return get(id).request(op.pid, op.vector);
+    }
+
+    public Map<String, Object> release(String id, BankerOpReq op) {
+        return get(id).release(op.pid, op.vector);
+    }
+
+    public Map<String, Object> snapshot(String id) {
+        return get(id).snapshot();
+    }
+
+    public boolean close(String id) {
+        return sessions.remove(id);
+    }
+
+    private BankerSession get(String id) {
+        return sessions.get(id);
+    }
+}
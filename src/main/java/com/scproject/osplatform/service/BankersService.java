@@ -8,45 +8,119 @@ import java.util.*;
 @Service
 public class BankersService {
 
+    /**
+     * 은행원 알고리즘 안전성 검사.
+     *
+     * 매 패스마다 모든 프로세스를 다시 검사하는 대신,
+     * - 자원 j 마다 프로세스를 need[.][j] 오름차순으로 정렬해 두고 (work[j] 가 커질 때 포인터만 전진)
+     * - 프로세스마다 "아직 부족한 자원 종류 수" 를 세어 두었다가 0 이 되면 ready 집합에 넣습니다.
+     * 전체 O(n·m·log n) 이고, 고르는 순서는 예전의 "0..n-1 을 반복해서 훑는" 방식과 같습니다.
+     *
+     * 반환 형태:
+     * {
+     *   "safe": true,
+     *   "sequence": [1, 3, 4, 0, 2],
+     *   "trace": [ { "pick": 1, "workBefore": [...], "need": [...] }, { "finish": 1, "workAfter": [...] }, ... ]
+     * }
+     */
     public Map<String,Object> run(BankerReq req){
+        return run(req, !Boolean.FALSE.equals(req.trace), null);
+    }
+
+    /**
+     * 배치 채점용: trace 없이 safe / sequence 만 구하고,
+     * need / allocation 행렬과 안전성 검사의 작업 배열은 scratch 에서 빌립니다.
+     */
+    Map<String,Object> run(BankerReq req, WorkerScratch scratch){
+        return run(req, false, scratch);
+    }
+
+    private Map<String,Object> run(BankerReq req, boolean recordTrace, WorkerScratch scratch){
         int n = req.allocation.length; // 프로세스 수
         int m = req.available.length;  // 자원 종류 수
 
-        // Need = Max - Allocation
-        int[][] need = new int[n][m];
+        // Need = Max - Allocation (n x m 을 한 줄로 펼친 배열)
+        int[] need = scratch == null ? new int[n * m] : scratch.ints(WorkerScratch.NEED, n * m);
+        int[] alloc = scratch == null ? new int[n * m] : scratch.ints(WorkerScratch.ALLOC, n * m);
         for (int i=0;i<n;i++)
-            for (int j=0;j<m;j++)
-                need[i][j] = req.max[i][j] - req.allocation[i][j];
+            for (int j=0;j<m;j++) {
+                alloc[i*m + j] = req.allocation[i][j];
+                need[i*m + j] = req.max[i][j] - req.allocation[i][j];
+            }
 
-        int[] work = Arrays.copyOf(req.available, m);
-        boolean[] finish = new boolean[n];
-        List<Integer> sequence = new ArrayList<>();
         List<Map<String,Object>> trace = new ArrayList<>();
+        int[] seq = scratch == null ? new int[n] : scratch.ints(WorkerScratch.SEQ, n);
+        int found = safety(n, m, need, alloc, req.available, seq, recordTrace ? trace : null, scratch);
 
-        boolean progress;
-        do {
-            progress = false;
-            for (int i=0;i<n;i++){
-                if (!finish[i] && canAllocate(need[i], work)){
-                    trace.add(Map.of("pick", i, "workBefore", copy(work), "need", copy(need[i])));
-                    for (int j=0;j<m;j++) work[j] += req.allocation[i][j];
-                    finish[i] = true;
-                    sequence.add(i);
-                    progress = true;
-                    trace.add(Map.of("finish", i, "workAfter", copy(work)));
-                }
-            }
-        } while(progress);
-
-        boolean safe = true;
-        for (boolean f: finish) if (!f) { safe = false; break; }
+        List<Integer> sequence = new ArrayList<>(found);
+        for (int k=0;k<found;k++) sequence.add(seq[k]);
+        boolean safe = found == n;
 
         return Map.of("safe", safe, "sequence", sequence, "trace", trace);
     }
 
-    private boolean canAllocate(int[] need, int[] work){
-        for (int j=0;j<need.length;j++) if (need[j] > work[j]) return false;
-        return true;
+    /**
+     * 펼친 배열 위에서 안전 순서를 찾습니다.
+     * seqOut 에 찾은 순서를 채우고 그 길이를 돌려줍니다. (n 이면 안전)
+     * trace 가 null 이 아니면 단계별 기록을 남깁니다.
+     */
+    int safety(int n, int m, int[] need, int[] alloc, int[] available, int[] seqOut, List<Map<String,Object>> trace){
+        return safety(n, m, need, alloc, available, seqOut, trace, null);
+    }
+
+    private int safety(int n, int m, int[] need, int[] alloc, int[] available, int[] seqOut,
+                       List<Map<String,Object>> trace, WorkerScratch scratch){
+        int[] work = scratch == null ? new int[m] : scratch.ints(WorkerScratch.WORK, m);
+        System.arraycopy(available, 0, work, 0, m);
+        int[] finish = scratch == null ? new int[n] : scratch.ints(WorkerScratch.FINISH, n); // 1 이면 완료
+        Arrays.fill(finish, 0, n, 0);
+
+        // 자원별로 need 오름차순 정렬한 프로세스 목록 (키 = need << 32 | i). 자원 j 의 목록은 byNeed[j*n .. j*n+n)
+        int[] byNeed = scratch == null ? new int[m * n] : scratch.ints(WorkerScratch.BY_NEED, m * n);
+        long[] keys = scratch == null ? new long[n] : scratch.longs(WorkerScratch.SORT_KEYS, n);
+        for (int j=0;j<m;j++){
+            for (int i=0;i<n;i++) keys[i] = ((long) need[i*m + j] << 32) | i;
+            Arrays.sort(keys, 0, n);
+            for (int k=0;k<n;k++) byNeed[j*n + k] = (int) keys[k];
+        }
+        int[] ptr = scratch == null ? new int[m] : scratch.ints(WorkerScratch.PTR, m); // byNeed 자원 j 의 [0, ptr[j]) 는 자원 j 가 충분한 프로세스
+        Arrays.fill(ptr, 0, m, 0);
+        int[] unsatisfied = scratch == null ? new int[n] : scratch.ints(WorkerScratch.UNSATISFIED, n); // 아직 need > work 인 자원 종류 수
+        Arrays.fill(unsatisfied, 0, n, m);
+        BitSet ready = new BitSet(n);      // 지금 바로 끝낼 수 있는 (미완료) 프로세스
+        if (m == 0) ready.set(0, n);
+        for (int j=0;j<m;j++) advance(j, n, byNeed, ptr, need, m, work, unsatisfied, finish, ready);
+
+        int found = 0;
+        int pos = 0; // 현재 패스에서 다음으로 볼 위치
+        while (!ready.isEmpty()){
+            int i = ready.nextSetBit(pos);
+            if (i < 0) i = ready.nextSetBit(0); // 이번 패스 끝 -> 처음부터 다시
+            ready.clear(i);
+
+            if (trace != null) trace.add(Map.of("pick", i, "workBefore", copy(work, 0, m), "need", copy(need, i*m, m)));
+            for (int j=0;j<m;j++) work[j] += alloc[i*m + j];
+            finish[i] = 1;
+            seqOut[found++] = i;
+            if (trace != null) trace.add(Map.of("finish", i, "workAfter", copy(work, 0, m)));
+
+            // work 가 늘어난 자원만 포인터를 전진
+            for (int j=0;j<m;j++)
+                if (alloc[i*m + j] > 0) advance(j, n, byNeed, ptr, need, m, work, unsatisfied, finish, ready);
+            pos = i + 1;
+        }
+        return found;
+    }
+
+    private void advance(int j, int n, int[] byNeed, int[] ptr, int[] need, int m, int[] work,
+                         int[] unsatisfied, int[] finish, BitSet ready){
+        int k = ptr[j];
+        while (k < n && need[byNeed[j*n + k]*m + j] <= work[j]){
+            int p = byNeed[j*n + k++];
+            if (--unsatisfied[p] == 0 && finish[p] == 0) ready.set(p);
+        }
+        ptr[j] = k;
     }
-    private List<Integer> copy(int[] a){ List<Integer> r=new ArrayList<>(a.length); for(int v:a) r.add(v); return r; }
+
+    private List<Integer> copy(int[] a, int from, int len){ List<Integer> r=new ArrayList<>(len); for(int k=0;k<len;k++) r.add(a[from+k]); return r; }
 }
@@ -0,0 +1,186 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.BatchGradeReq;
+import com.scproject.osplatform.dto.sim.PagingReq;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 서로 독립인 페이징 / 스케줄링 / 은행원 시나리오를 한 요청으로 모아 돌리고, 정답이 있으면 채점합니다.
+ *
+ * 시나리오를 하나씩 풀에 던지는 대신 코어 수만큼 작업자를 띄우고, 작업자마다
+ *  - 공용 카운터에서 다음 시나리오 번호를 가져가며 (크기가 제각각이어도 먼저 끝난 작업자가 더 가져감)
+ *  - 자기 WorkerScratch 를 계속 재사용합니다. (프레임 배열, 페이지 해시, need 행렬 등)
+ * 시나리오끼리 공유하는 상태가 없으므로 코어 수에 거의 비례해서 빨라집니다.
+ */
+@Service
+public class BatchGradingService {
+
+    // 한 요청에서 돌릴 수 있는 최대 시나리오 수
+    static final int MAX_SCENARIOS = 50_000;
+
+    private final PagingService pagingService;
+    private final SchedulingService schedulingService;
+    private final BankersService bankersService;
+    private final ForkJoinPool pool;
+
+    public BatchGradingService(PagingService pagingService, SchedulingService schedulingService,
+                               BankersService bankersService, ForkJoinPool simulationPool) {
+        this.pagingService = pagingService;
+        this.schedulingService = schedulingService;
+        this.bankersService = bankersService;
+        this.pool = simulationPool;
+    }
+
+    /**
+     * 반환 형태:
+     * {
+     *   "results": [                                           // scenarios 순서 그대로
+     *     { "id": "s1", "type": "PAGING", "result": { "faults": 9 }, "pass": true },
+     *     { "id": "s2", "type": "SCHEDULING", "result": { "avgWaiting": 6.5, ... }, "pass": false,
+     *       "mismatches": { "avgWaiting": { "expected": 7.0, "actual": 6.5 } } },
+     *     { "id": "s3", "type": "BANKERS", "error": "..." },  // 이 시나리오만 실패 (나머지는 계속)
+     *     ...
+     *   ],
+     *   "summary": { "scenarios": 3, "graded": 2, "passed": 1, "failed": 1, "errors": 1, "elapsedMs": 12 }
+     * }
+     */
+    public Map<String, Object> run(BatchGradeReq req) {
+        List<BatchGradeReq.Scenario> scenarios = req.scenarios != null ? req.scenarios : Collections.emptyList();
+        if (scenarios.size() > MAX_SCENARIOS) {
+            throw new IllegalArgumentException("scenarios 는 최대 " + MAX_SCENARIOS + "개까지 가능합니다.");
+        }
+        double tolerance = req.tolerance == null ? 0.01 : req.tolerance;
+        if (!(tolerance >= 0)) throw new IllegalArgumentException("tolerance 는 0 이상이어야 합니다.");
+        boolean failuresOnly = Boolean.TRUE.equals(req.failuresOnly);
+
+        long begin = System.nanoTime();
+        int n = scenarios.size();
+        AtomicReferenceArray<Map<String, Object>> slots = new AtomicReferenceArray<>(n);
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.min(pool.getParallelism(), n);
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            tasks.add(pool.submit(() -> {
+                WorkerScratch scratch = new WorkerScratch();
+                for (int i; (i = next.getAndIncrement()) < n; ) {
+                    slots.set(i, grade(scenarios.get(i), tolerance, failuresOnly, scratch));
+                }
+            }));
+        }
+        for (ForkJoinTask<?> t : tasks) {
+            t.join();
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) results.add(slots.get(i));
+
+        int graded = 0, passed = 0, errors = 0;
+        for (Map<String, Object> r : results) {
+            if (r.containsKey("error")) errors++;
+            if (r.containsKey("pass")) {
+                graded++;
+                if (Boolean.TRUE.equals(r.get("pass"))) passed++;
+            }
+        }
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("scenarios", n);
+        summary.put("graded", graded);
+        summary.put("passed", passed);
+        summary.put("failed", graded - passed);
+        summary.put("errors", errors);
+        summary.put("elapsedMs", (System.nanoTime() - begin) / 1_000_000);
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("results", results);
+        out.put("summary", summary);
+        return out;
+    }
+
+    private Map<String, Object> grade(BatchGradeReq.Scenario s, double tolerance, boolean failuresOnly, WorkerScratch scratch) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        if (s == null) {
+            out.put("error", "시나리오가 비어 있습니다.");
+            return out;
+        }
+        out.put("id", s.id);
+        out.put("type", s.type);
+
+        Map<String, Object> result;
+        try {
+            result = simulate(s, scratch);
+        } catch (RuntimeException e) {
+            // 학생 입력 하나가 잘못돼도 배치 전체는 계속 (배열 크기가 안 맞는 행렬 등)
+            out.put("error", e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            return out;
+        }
+
+        Map<String, Object> mismatches = null;
+        if (s.expected != null) {
+            mismatches = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> e : s.expected.entrySet()) {
+                Object actual = result.get(e.getKey());
+                if (!matches(e.getValue(), actual, tolerance)) {
+                    Map<String, Object> diff = new LinkedHashMap<>();
+                    diff.put("expected", e.getValue());
+                    diff.put("actual", actual);
+                    mismatches.put(e.getKey(), diff);
+                }
+            }
+        }
+        boolean pass = mismatches != null && mismatches.isEmpty();
+        if (!(failuresOnly && pass)) out.put("result", result);
+        if (mismatches != null) {
+            out.put("pass", pass);
+            if (!pass) out.put("mismatches", mismatches);
+        }
+        return out;
+    }
+
+    private Map<String, Object> simulate(BatchGradeReq.Scenario s, WorkerScratch scratch) {
+        String type = s.type == null ? "" : s.type.toUpperCase(Locale.ROOT);
+        switch (type) {
+            case "PAGING": {
+                PagingReq p = require(s.paging, "paging");
+                List<Integer> refs = p.refs != null ? p.refs : Collections.emptyList();
+                PageIds ids = PageIds.of(PageIds.toIntArray(refs), scratch);
+                int faults = pagingService.simulate(p.algo, p.frames, ids, PagingService.params(p), PageStepListener.NONE, scratch);
+                return Map.of("faults", faults);
+            }
+            case "SCHEDULING":
+                return schedulingService.metrics(require(s.scheduling, "scheduling"), GanttListener.NONE);
+            case "BANKERS": {
+                Map<String, Object> r = bankersService.run(require(s.bankers, "bankers"), scratch);
+                return Map.of("safe", r.get("safe"), "sequence", r.get("sequence"));
+            }
+            default:
+                throw new IllegalArgumentException("지원하지 않는 type: " + s.type + " (가능: PAGING, SCHEDULING, BANKERS)");
+        }
+    }
+
+    private static <T> T require(T body, String field) {
+        if (body == null) throw new IllegalArgumentException(field + " 가 필요합니다.");
+        return body;
+    }
+
+    // 숫자는 허용 오차 안이면 같음 (정수 / 실수 표기 차이 무시), 목록은 원소별로 비교
+    private static boolean matches(Object expected, Object actual, double tolerance) {
+        if (expected instanceof Number e && actual instanceof Number a) {
+            return Math.abs(e.doubleValue() - a.doubleValue()) <= tolerance + 1e-9;
+        }
+        if (expected instanceof List<?> e && actual instanceof List<?> a) {
+            if (e.size() != a.size()) return false;
+            for (int i = 0; i < e.size(); i++) {
+                if (!matches(e.get(i), a.get(i), tolerance)) return false;
+            }
+            return true;
+        }
+        return Objects.equals(expected, actual);
+    }
+}
@@ -0,0 +1,61 @@
+package com.scproject.osplatform.service;
+
+/**
+ * Clock (= Second-Chance) – 프레임을 원형으로 돌며 참조 비트가 1 이면 0 으로 지우고 한 번 더 기회를 주고,
+ * 0 인 첫 프레임을 교체. 들어올 때와 hit 할 때 참조 비트를 1 로 켭니다.
+ *
+ * 참조 비트는 long[] 에 압축해 두고 시곗바늘이 지나간 구간을 워드 단위로 지우므로,
+ * 한 바퀴를 다 돌아야 하는 최악의 경우도 frames / 64 워드만 봅니다.
+ */
+final class ClockPolicy implements PageReplacementPolicy {
+
+    private final int frames;
+    private final long[] ref;
+    private int hand;
+
+    ClockPolicy(int frames) {
+        this.frames = frames;
+        this.ref = PackedBits.of(frames);
+    }
+
+    private ClockPolicy(ClockPolicy o) {
+        frames = o.frames;
+        ref = o.ref.clone();
+        hand = o.hand;
+    }
+
+    @Override
+    public void hit(int slot, int page, int time, boolean write) {
+        PackedBits.set(ref, slot);
+    }
+
+    @Override
+    public int victim(int time) {
+        int s = PackedBits.nextMatch(ref, null, false, hand, frames);
+        if (s != -1) {
+            PackedBits.clearRange(ref, hand, s);
+        } else {
+            PackedBits.clearRange(ref, hand, frames);
+            s = PackedBits.nextMatch(ref, null, false, 0, hand);
+            if (s != -1) {
+                PackedBits.clearRange(ref, 0, s);
+            } else {
+                // 전부 1 이었으면 한 바퀴 돌며 모두 지운 뒤 제자리
+                PackedBits.clearRange(ref, 0, hand);
+                s = hand;
+            }
+        }
+        hand = (s + 1) % frames;
+        return s;
+    }
+
+    @Override
+    public void loaded(int slot, int page, int time, boolean write) {
+        PackedBits.set(ref, slot);
+    }
+
+    @Override
+    public PageReplacementPolicy copy() {
+        return new ClockPolicy(this);
+    }
+}
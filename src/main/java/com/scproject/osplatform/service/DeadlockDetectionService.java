@@ -0,0 +1,256 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.DeadlockDetectReq;
+import com.scproject.osplatform.dto.sim.WaitForEdgeReq;
+import com.scproject.osplatform.dto.sim.WaitForGraphReq;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 교착 상태 "탐지" (이미 벌어진 할당 상태에서 교착된 프로세스 찾기).
+ *
+ * - 다중 인스턴스 자원: 그래프 축약. request <= work 인 프로세스를 끝난 것으로 보고 자원을 회수하는 과정은
+ *   은행원 알고리즘의 안전성 검사에서 need 자리에 request 를 넣은 것과 같으므로 BankersService 의
+ *   worklist 구현을 그대로 씁니다. 끝까지 남은 프로세스 중 자원을 쥐고 있는 것들이 교착 상태입니다.
+ * - 단일 인스턴스 자원: 대기 그래프의 사이클 = 교착 상태. Tarjan SCC 로 O(V+E).
+ * - 대기 그래프 세션: 간선을 하나씩 추가/삭제하면서 그때그때 사이클 여부를 확인 (WaitForGraph 참고).
+ *   sim.sessions.idle-minutes 동안 쓰이지 않은 그래프는 정리되고, 열린 그래프들의 노드 수 합도 제한합니다.
+ */
+@Service
+public class DeadlockDetectionService {
+
+    private static final int MAX_NODES = 1 << 20;
+    private static final int MAX_GRAPHS = 100;
+    // 노드마다 IntList 세 개를 들고 있으므로 그래프 수와 별개로 전체 노드 수도 제한
+    private static final long MAX_TOTAL_NODES = 1L << 21;
+
+    private final BankersService bankersService;
+    private final SessionRegistry<WaitForGraph> graphs;
+
+    public DeadlockDetectionService(BankersService bankersService,
+                                    @Value("${sim.sessions.idle-minutes:30}") long idleMinutes) {
+        this.bankersService = bankersService;
+        this.graphs = new SessionRegistry<>("그래프", MAX_GRAPHS, MAX_TOTAL_NODES, idleMinutes);
+    }
+
+    public Map<String, Object> detect(DeadlockDetectReq req) {
+        if (req.allocation != null || req.request != null) return reduce(req);
+        if (req.holds != null || req.waits != null) return detectSingleInstance(req);
+        if (req.waitFor != null) return detectWaitFor(req);
+        throw new IllegalArgumentException("allocation/request/available, holds/waits, waitFor 중 하나가 필요합니다.");
+    }
+
+    // ===== 다중 인스턴스: 그래프 축약 =====
+
+    private Map<String, Object> reduce(DeadlockDetectReq req) {
+        if (req.allocation == null || req.request == null || req.available == null
+                || req.allocation.length != req.request.length) {
+            throw new IllegalArgumentException("allocation / request / available 이 올바르지 않습니다.");
+        }
+        int n = req.allocation.length;
+        int m = req.available.length;
+        int[] alloc = new int[n * m];
+        int[] request = new int[n * m];
+        for (int i = 0; i < n; i++) {
+            if (req.allocation[i].length != m || req.request[i].length != m) {
+                throw new IllegalArgumentException("allocation / request 의 열 수가 available 길이와 다릅니다.");
+            }
+            for (int j = 0; j < m; j++) {
+                if (req.request[i][j] < 0 || req.allocation[i][j] < 0) {
+                    throw new IllegalArgumentException("음수 값은 허용되지 않습니다.");
+                }
+                alloc[i * m + j] = req.allocation[i][j];
+                request[i * m + j] = req.request[i][j];
+            }
+        }
+
+        int[] seq = new int[n];
+        int finished = bankersService.safety(n, m, request, alloc, req.available, seq, null);
+
+        boolean[] done = new boolean[n];
+        for (int k = 0; k < finished; k++) done[seq[k]] = true;
+        List<Integer> deadlocked = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            // 아무 것도 쥐고 있지 않은 프로세스는 남의 진행을 막지 않으므로 교착 집합에서 제외 (교재 정의)
+            if (!done[i] && holdsAny(alloc, i, m)) deadlocked.add(i);
+        }
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("method", "reduction");
+        out.put("deadlocked", !deadlocked.isEmpty());
+        out.put("processes", deadlocked);
+        out.put("sequence", Arrays.copyOf(seq, finished));
+        return out;
+    }
+
+    private static boolean holdsAny(int[] alloc, int i, int m) {
+        for (int j = 0; j < m; j++) if (alloc[i * m + j] > 0) return true;
+        return false;
+    }
+
+    // ===== 단일 인스턴스: 대기 그래프 + Tarjan =====
+
+    private Map<String, Object> detectSingleInstance(DeadlockDetectReq req) {
+        int[][] holds = req.holds == null ? new int[0][] : req.holds;
+        int[][] waits = req.waits == null ? new int[0][] : req.waits;
+
+        int n = req.processes == null ? 0 : req.processes;
+        for (int[] h : holds) {
+            checkPair(h, "holds");
+            n = Math.max(n, checkProcess(h[1]) + 1);
+        }
+        for (int[] w : waits) {
+            checkPair(w, "waits");
+            n = Math.max(n, checkProcess(w[0]) + 1);
+        }
+        checkNodes(n);
+
+        // 자원 번호는 프로세스 번호와 달리 범위 제한이 없으므로 배열 대신 실제로 쥐어진 자원만 맵에 둠
+        Map<Integer, Integer> holder = new HashMap<>(holds.length * 2);
+        for (int[] h : holds) {
+            Integer prev = holder.putIfAbsent(h[0], h[1]);
+            if (prev != null && prev != h[1]) {
+                throw new IllegalArgumentException("단일 인스턴스 자원 " + h[0] + " 이 여러 프로세스에 할당되어 있습니다.");
+            }
+        }
+
+        // P 가 R 을 기다리고 R 을 Q 가 쥐고 있으면 P -> Q
+        int[] from = new int[waits.length];
+        int[] to = new int[waits.length];
+        int e = 0;
+        for (int[] w : waits) {
+            Integer q = holder.get(w[1]);
+            if (q == null) continue;
+            from[e] = w[0];
+            to[e] = q;
+            e++;
+        }
+        return sccResult(n, from, to, e);
+    }
+
+    private Map<String, Object> detectWaitFor(DeadlockDetectReq req) {
+        int n = req.processes == null ? 0 : req.processes;
+        for (int[] edge : req.waitFor) {
+            checkPair(edge, "waitFor");
+            n = Math.max(n, Math.max(checkProcess(edge[0]), checkProcess(edge[1])) + 1);
+        }
+        checkNodes(n);
+        int[] from = new int[req.waitFor.length];
+        int[] to = new int[req.waitFor.length];
+        for (int i = 0; i < req.waitFor.length; i++) {
+            from[i] = req.waitFor[i][0];
+            to[i] = req.waitFor[i][1];
+        }
+        return sccResult(n, from, to, from.length);
+    }
+
+    private Map<String, Object> sccResult(int n, int[] from, int[] to, int edges) {
+        int[][] csr = Scc.csr(n, from, to, edges);
+        List<int[]> cycles = Scc.cycles(n, csr[0], csr[1]);
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("method", "scc");
+        out.put("deadlocked", !cycles.isEmpty());
+        out.put("processes", members(cycles));
+        out.put("cycles", cycles);
+        return out;
+    }
+
+    // ===== 대기 그래프 세션 (간선 단위 증분 갱신) =====
+
+    public Map<String, Object> createGraph(WaitForGraphReq req) {
+        checkNodes(req.processes);
+        WaitForGraph g = new WaitForGraph(req.processes);
+        if (req.edges != null) {
+            for (int[] edge : req.edges) {
+                checkPair(edge, "edges");
+                g.add(edge[0], edge[1]);
+            }
+        }
+        String id = graphs.add(g, g.size());
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("id", id);
+        out.putAll(snapshot(g));
+        return out;
+    }
+
+    public Map<String, Object> addEdge(String id, WaitForEdgeReq edge) {
+        WaitForGraph g = get(id);
+        synchronized (g) {
+            int[] cycle = g.add(edge.from, edge.to);
+            Map<String, Object> out = new LinkedHashMap<>();
+            out.put("cycle", cycle != null);
+            if (cycle != null) out.put("path", cycle);
+            out.put("deadlocked", g.hasCycle());
+            out.put("edges", g.edgeCount());
+            return out;
+        }
+    }
+
+    public Map<String, Object> removeEdge(String id, int from, int to) {
+        WaitForGraph g = get(id);
+        synchronized (g) {
+            boolean removed = g.remove(from, to);
+            Map<String, Object> out = new LinkedHashMap<>();
+            out.put("removed", removed);
+            out.put("deadlocked", g.hasCycle());
+            out.put("edges", g.edgeCount());
+            return out;
+        }
+    }
+
+    public Map<String, Object> graph(String id) {
+        WaitForGraph g = get(id);
+        synchronized (g) {
+            return snapshot(g);
+        }
+    }
+
+    public boolean close(String id) {
+        return graphs.remove(id);
+    }
+
+    private Map<String, Object> snapshot(WaitForGraph g) {
+        List<int[]> cycles = g.cycles();
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("processes", g.size());
+        out.put("edges", g.edgeCount());
+        out.put("deadlocked", !cycles.isEmpty());
+        out.put("deadlockedProcesses", members(cycles));
+        out.put("cycles", cycles);
+        return out;
+    }
+
+    private WaitForGraph get(String id) {
+        return graphs.get(id);
+    }
+
+    private static List<Integer> members(List<int[]> cycles) {
+        List<Integer> out = new ArrayList<>();
+        for (int[] c : cycles) for (int v : c) out.add(v);
+        Collections.sort(out);
+        return out;
+    }
+
+    private static void checkPair(int[] pair, String name) {
+        if (pair == null || pair.length != 2 || pair[0] < 0 || pair[1] < 0) {
+            throw new IllegalArgumentException(name + " 의 각 항목은 0 이상의 [a, b] 쌍이어야 합니다.");
+        }
+    }
+
+    // +1 해서 프로세스 수를 구하기 전에 확인 (Integer.MAX_VALUE + 1 이 음수로 넘어가지 않게)
+    private static int checkProcess(int p) {
+        if (p >= MAX_NODES) {
+            throw new IllegalArgumentException("프로세스 번호는 " + MAX_NODES + " 미만이어야 합니다: " + p);
+        }
+        return p;
+    }
+
+    private static void checkNodes(int n) {
+        if (n < 1 || n > MAX_NODES) {
+            throw new IllegalArgumentException("프로세스 수는 1 ~ " + MAX_NODES + " 이어야 합니다.");
+        }
+    }
+}
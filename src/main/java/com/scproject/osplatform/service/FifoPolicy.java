@@ -0,0 +1,43 @@
+package com.scproject.osplatform.service;
+
+/**
+ * FIFO – 들어온 순서대로 내보냄. 프레임 번호 원형 큐 하나로 O(1).
+ */
+final class FifoPolicy implements PageReplacementPolicy {
+
+    private final int[] queue;
+    private int head;
+    private int size;
+
+    FifoPolicy(int frames) {
+        queue = new int[frames];
+    }
+
+    private FifoPolicy(FifoPolicy o) {
+        queue = o.queue.clone();
+        head = o.head;
+        size = o.size;
+    }
+
+    @Override
+    public void hit(int slot, int page, int time, boolean write) {
+    }
+
+    @Override
+    public int victim(int time) {
+        int slot = queue[head];
+        head = (head + 1) % queue.length;
+        size--;
+        return slot;
+    }
+
+    @Override
+    public void loaded(int slot, int page, int time, boolean write) {
+        queue[(head + size++) % queue.length] = slot;
+    }
+
+    @Override
+    public PageReplacementPolicy copy() {
+        return new FifoPolicy(this);
+    }
+}
@@ -0,0 +1,13 @@
+package com.scproject.osplatform.service;
+
+/**
+ * 스케줄링 엔진이 간트차트 조각 하나를 만들 때마다 불리는 콜백.
+ * 리스트로 모을지 / 바로 스트리밍할지 / 버릴지는 호출하는 쪽이 정합니다.
+ */
+@FunctionalInterface
+interface GanttListener {
+
+    GanttListener NONE = (pid, start, end) -> { };
+
+    void segment(String pid, int start, int end);
+}
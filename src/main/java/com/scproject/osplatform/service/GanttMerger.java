@@ -0,0 +1,35 @@
+package com.scproject.osplatform.service;
+
+/**
+ * 같은 프로세스가 끊김 없이 이어서 실행된 조각들을 하나로 합쳐서 내보냅니다.
+ * 길이가 0 인 조각은 간트차트에 남기지 않습니다.
+ */
+final class GanttMerger {
+
+    private final ProcTable t;
+    private final GanttListener out;
+    private int id = -1;
+    private int start, end;
+
+    GanttMerger(ProcTable t, GanttListener out) {
+        this.t = t;
+        this.out = out;
+    }
+
+    void add(int id, int start, int end) {
+        if (end <= start) return;
+        if (id == this.id && start == this.end) {
+            this.end = end;
+            return;
+        }
+        flush();
+        this.id = id;
+        this.start = start;
+        this.end = end;
+    }
+
+    void flush() {
+        if (id != -1) out.segment(t.pid[id], start, end);
+        id = -1;
+    }
+}
@@ -0,0 +1,41 @@
+package com.scproject.osplatform.service;
+
+import java.util.Arrays;
+
+/**
+ * 박싱 없는 가변 길이 int 목록 (그래프 인접 리스트용)
+ */
+final class IntList {
+
+    private int[] data = new int[2];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    int get(int i) {
+        return data[i];
+    }
+
+    void add(int v) {
+        if (size == data.length) data = Arrays.copyOf(data, size * 2);
+        data[size++] = v;
+    }
+
+    boolean contains(int v) {
+        for (int i = 0; i < size; i++) if (data[i] == v) return true;
+        return false;
+    }
+
+    // 순서는 신경 쓰지 않으므로 마지막 원소로 덮어써서 O(1) 제거
+    boolean remove(int v) {
+        for (int i = 0; i < size; i++) {
+            if (data[i] == v) {
+                data[i] = data[--size];
+                return true;
+            }
+        }
+        return false;
+    }
+}
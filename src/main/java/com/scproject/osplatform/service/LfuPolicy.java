@@ -0,0 +1,130 @@
+package com.scproject.osplatform.service;
+
+import java.util.Arrays;
+
+/**
+ * LFU – 메모리에 올라온 뒤 참조 횟수가 가장 적은 페이지를 교체. (같은 횟수끼리는 가장 오래 전에 쓰인 것부터)
+ *
+ * 빈도 버킷 방식이라 hit / 교체가 모두 O(1) 입니다.
+ *  - 버킷 = 같은 참조 횟수를 가진 프레임들의 리스트 (오래된 것이 앞)
+ *  - 버킷들은 횟수 오름차순 이중 연결 리스트이고, 맨 앞 버킷의 맨 앞 프레임이 victim
+ *  - hit 하면 바로 다음 버킷(횟수 + 1)으로 옮기고, 없으면 그 자리에 버킷을 새로 끼움
+ * 살아 있는 버킷 수는 상주 페이지 수를 넘지 않으므로 버킷 풀은 frames + 1 개로 고정입니다.
+ */
+final class LfuPolicy implements PageReplacementPolicy {
+
+    // 프레임별
+    private final int[] bucketOf;
+    private final int[] prev;
+    private final int[] next;
+
+    // 버킷 풀
+    private final int[] count;
+    private final int[] bPrev;
+    private final int[] bNext;
+    private final int[] first;
+    private final int[] last;
+    private final int[] freeBuckets;
+    private int freeTop;
+    private int head = -1; // 횟수가 가장 적은 버킷
+
+    LfuPolicy(int frames) {
+        bucketOf = new int[frames];
+        prev = new int[frames];
+        next = new int[frames];
+
+        int pool = frames + 1;
+        count = new int[pool];
+        bPrev = new int[pool];
+        bNext = new int[pool];
+        first = new int[pool];
+        last = new int[pool];
+        freeBuckets = new int[pool];
+        for (int i = 0; i < pool; i++) freeBuckets[i] = pool - 1 - i;
+        freeTop = pool;
+        Arrays.fill(first, -1);
+        Arrays.fill(last, -1);
+    }
+
+    private LfuPolicy(LfuPolicy o) {
+        bucketOf = o.bucketOf.clone();
+        prev = o.prev.clone();
+        next = o.next.clone();
+        count = o.count.clone();
+        bPrev = o.bPrev.clone();
+        bNext = o.bNext.clone();
+        first = o.first.clone();
+        last = o.last.clone();
+        freeBuckets = o.freeBuckets.clone();
+        freeTop = o.freeTop;
+        head = o.head;
+    }
+
+    @Override
+    public void hit(int slot, int page, int time, boolean write) {
+        int b = bucketOf[slot];
+        int target = bNext[b];
+        if (target == -1 || count[target] != count[b] + 1) {
+            target = newBucketAfter(b, count[b] + 1);
+        }
+        detach(slot);
+        append(target, slot);
+    }
+
+    @Override
+    public int victim(int time) {
+        int slot = first[head];
+        detach(slot);
+        return slot;
+    }
+
+    @Override
+    public void loaded(int slot, int page, int time, boolean write) {
+        int b = head;
+        if (b == -1 || count[b] != 1) {
+            b = newBucketAfter(-1, 1);
+        }
+        append(b, slot);
+    }
+
+    @Override
+    public PageReplacementPolicy copy() {
+        return new LfuPolicy(this);
+    }
+
+    private void append(int b, int slot) {
+        bucketOf[slot] = b;
+        prev[slot] = last[b];
+        next[slot] = -1;
+        if (last[b] != -1) next[last[b]] = slot; else first[b] = slot;
+        last[b] = slot;
+    }
+
+    // 프레임을 버킷에서 빼고, 버킷이 비면 버킷도 반납
+    private void detach(int slot) {
+        int b = bucketOf[slot];
+        int p = prev[slot], n = next[slot];
+        if (p != -1) next[p] = n; else first[b] = n;
+        if (n != -1) prev[n] = p; else last[b] = p;
+
+        if (first[b] == -1) {
+            int bp = bPrev[b], bn = bNext[b];
+            if (bp != -1) bNext[bp] = bn; else head = bn;
+            if (bn != -1) bPrev[bn] = bp;
+            freeBuckets[freeTop++] = b;
+        }
+    }
+
+    // after 뒤에 (-1 이면 맨 앞에) 빈 버킷을 끼움
+    private int newBucketAfter(int after, int c) {
+        int b = freeBuckets[--freeTop];
+        count[b] = c;
+        first[b] = last[b] = -1;
+        int n = after == -1 ? head : bNext[after];
+        bPrev[b] = after;
+        bNext[b] = n;
+        if (after != -1) bNext[after] = b; else head = b;
+        if (n != -1) bPrev[n] = b;
+        return b;
+    }
+}
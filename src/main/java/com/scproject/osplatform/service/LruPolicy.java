@@ -0,0 +1,39 @@
+package com.scproject.osplatform.service;
+
+/**
+ * LRU – 가장 오래 전에 사용된 프레임(최근 사용 순서 리스트의 꼬리)을 교체. hit / fault / 교체 모두 O(1).
+ */
+final class LruPolicy implements PageReplacementPolicy {
+
+    private final RecencyList recency;
+
+    LruPolicy(int frames) {
+        recency = new RecencyList(frames);
+    }
+
+    private LruPolicy(LruPolicy o) {
+        recency = o.recency.copy();
+    }
+
+    @Override
+    public void hit(int slot, int page, int time, boolean write) {
+        recency.moveToFront(slot);
+    }
+
+    @Override
+    public int victim(int time) {
+        int slot = recency.tail();
+        recency.unlink(slot);
+        return slot;
+    }
+
+    @Override
+    public void loaded(int slot, int page, int time, boolean write) {
+        recency.pushFront(slot);
+    }
+
+    @Override
+    public PageReplacementPolicy copy() {
+        return new LruPolicy(this);
+    }
+}
@@ -0,0 +1,259 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.PagingCurveReq;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+@Service
+public class MissRatioCurveService {
+
+    private static final List<String> DEFAULT_ALGOS = List.of("FIFO", "LRU", "OPT");
+    private static final int NEVER = Integer.MAX_VALUE;
+    // FIFO / OPT 는 O(n·프레임 수) 라서 곡선을 이 프레임 수까지만 계산 (LRU 는 Fenwick 한 번이라 제한 없음)
+    static final int MAX_QUADRATIC_FRAMES = 256;
+    // 참조열이 길면 n·프레임 수가 이 값을 넘지 않도록 더 줄임 (요청 스레드에서 1초 안쪽)
+    static final long QUADRATIC_BUDGET = 1L << 28;
+
+    /**
+     * 프레임 수 1..maxFrames 전체에 대한 페이지 폴트 수(miss-ratio curve)를 한 번에 계산합니다.
+     *
+     * LRU 는 Fenwick 트리로 스택 거리를 구하는 한 번의 패스라 O(n log n) 이고, maxFrames 제한이 없습니다.
+     * OPT 는 우선순위 스택을 한 번 훑지만 참조마다 그 깊이까지 내려가므로 O(n·프레임 수),
+     * FIFO 는 스택 알고리즘이 아니어서 프레임 수마다 다시 돌리므로 역시 O(n·프레임 수) 입니다.
+     * 그래서 FIFO / OPT 곡선은 quadraticFrames 까지만 계산하고, 실제 계산한 길이를 "framesComputed" 로 알려 줍니다.
+     *
+     * 반환 형태:
+     * {
+     *   "refs": 20, "distinctPages": 6, "maxFrames": 6,
+     *   "framesComputed": { "LRU": 6, "FIFO": 6, ... }, // FIFO / OPT 는 maxFrames 보다 짧을 수 있음
+     *   "curves": { "LRU": [18, 15, 12, ...], ... },     // index 0 이 프레임 1개
+     *   "anomalies": { "FIFO": [ { "frames": 4, "faults": 10, "prevFaults": 9 } ], ... }
+     * }
+     */
+    public Map<String, Object> run(PagingCurveReq req) {
+        List<Integer> refList = req.refs != null ? req.refs : Collections.emptyList();
+        PageIds ids = PageIds.of(PageIds.toIntArray(refList));
+
+        // distinctPages 이상에서는 콜드 미스만 남아 곡선이 평평하므로 거기까지만 계산
+        int distinct = ids.distinct();
+        int maxFrames = (req.maxFrames == null || req.maxFrames <= 0) ? distinct : Math.min(req.maxFrames, distinct);
+
+        List<String> algos = (req.algos == null || req.algos.isEmpty()) ? DEFAULT_ALGOS : req.algos;
+
+        int limited = quadraticFrames(ids.length(), maxFrames);
+
+        Map<String, Object> computed = new LinkedHashMap<>();
+        Map<String, Object> curves = new LinkedHashMap<>();
+        Map<String, Object> anomalies = new LinkedHashMap<>();
+        for (String a : algos) {
+            String algo = a == null ? "" : a.toUpperCase(Locale.ROOT);
+            long[] faults;
+            switch (algo) {
+                case "LRU":
+                    faults = lruCurve(ids, ids.length(), maxFrames);
+                    break;
+                case "OPT":
+                    faults = optCurve(ids, ids.length(), limited);
+                    break;
+                case "FIFO":
+                    faults = fifoCurve(ids, ids.length(), limited);
+                    break;
+                default:
+                    throw new IllegalArgumentException("miss-ratio curve 를 지원하지 않는 알고리즘: " + a);
+            }
+            computed.put(algo, faults.length);
+            curves.put(algo, toList(faults));
+            anomalies.put(algo, findAnomalies(faults));
+        }
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("refs", ids.length());
+        out.put("distinctPages", distinct);
+        out.put("maxFrames", maxFrames);
+        out.put("framesComputed", computed);
+        out.put("curves", curves);
+        out.put("anomalies", anomalies);
+        return out;
+    }
+
+    // FIFO / OPT 곡선을 계산할 프레임 수: MAX_QUADRATIC_FRAMES 와 QUADRATIC_BUDGET / n 중 작은 쪽 (최소 1)
+    static int quadraticFrames(int n, int maxFrames) {
+        long byBudget = n == 0 ? MAX_QUADRATIC_FRAMES : QUADRATIC_BUDGET / n;
+        return (int) Math.min(maxFrames, Math.max(1, Math.min(MAX_QUADRATIC_FRAMES, byBudget)));
+    }
+
+    /**
+     * LRU – 스택 거리 = 직전 참조 이후 참조된 서로 다른 페이지 수 + 1.
+     * 각 페이지의 "마지막 참조 위치"에만 1 을 찍어 둔 Fenwick 트리로 구간 합을 구하면 참조당 O(log n),
+     * 전체 O(n log n + maxFrames).
+     */
+    private long[] lruCurve(PageIds ids, int n, int maxFrames) {
+        long[] hist = new long[maxFrames + 2]; // hist[d] : 스택 거리 d 인 참조 수, [maxFrames+1] 은 그보다 먼 것
+        long cold = 0;
+        int[] last = new int[ids.distinct()];
+        Arrays.fill(last, -1);
+        Fenwick bit = new Fenwick(n);
+
+        for (int t = 0; t < n; t++) {
+            int page = ids.id(t);
+            int prev = last[page];
+            if (prev == -1) {
+                cold++;
+            } else {
+                int d = bit.sum(t - 1) - bit.sum(prev) + 1;
+                hist[Math.min(d, maxFrames + 1)]++;
+                bit.add(prev, -1);
+            }
+            bit.add(t, 1);
+            last[page] = t;
+        }
+        return faultsFromHistogram(hist, cold, maxFrames);
+    }
+
+    /**
+     * OPT – Mattson 의 우선순위 스택. 참조된 페이지를 맨 위로 올리고, 원래 깊이까지
+     * 한 칸씩 내려가며 "다음 사용이 더 이른 쪽"을 남기고 늦은 쪽을 아래로 넘깁니다.
+     * 크기 maxFrames 이하의 캐시는 스택 윗부분만 보므로 스택도 그 깊이로 잘라 둡니다.
+     * 패스는 한 번이지만 참조마다 최대 maxFrames 칸을 내려가므로 O(n·maxFrames) 입니다.
+     */
+    private long[] optCurve(PageIds ids, int n, int maxFrames) {
+        long[] hist = new long[maxFrames + 2];
+        long cold = 0;
+
+        int[] nextUse = new int[n];
+        int[] seen = new int[ids.distinct()];
+        Arrays.fill(seen, NEVER);
+        for (int i = n - 1; i >= 0; i--) {
+            int page = ids.id(i);
+            nextUse[i] = seen[page];
+            seen[page] = i;
+        }
+
+        int[] stack = new int[maxFrames];
+        int size = 0;
+        int[] depthOf = new int[ids.distinct()]; // 페이지 -> 스택 위치 (-1 이면 잘린 부분 아래)
+        Arrays.fill(depthOf, -1);
+        int[] nextOf = seen; // 재사용: 페이지 -> 현재 시점 기준 다음 참조 위치
+        boolean[] touched = new boolean[ids.distinct()];
+
+        for (int t = 0; t < n; t++) {
+            int x = ids.id(t);
+            int d = depthOf[x];
+            if (!touched[x]) {
+                touched[x] = true;
+                cold++;
+            } else {
+                hist[d == -1 ? maxFrames + 1 : d + 1]++;
+            }
+            nextOf[x] = nextUse[t];
+            if (d == 0) continue;
+
+            int limit = d == -1 ? size : d;
+            int carry = size > 0 ? stack[0] : -1;
+            stack[0] = x;
+            depthOf[x] = 0;
+            for (int i = 1; i < limit; i++) {
+                int y = stack[i];
+                if (nextOf[carry] < nextOf[y]) {
+                    stack[i] = carry;
+                    depthOf[carry] = i;
+                    carry = y;
+                }
+            }
+            if (carry == -1) {
+                size = 1;
+            } else if (d != -1) {
+                stack[d] = carry;
+                depthOf[carry] = d;
+            } else if (size < maxFrames) {
+                stack[size] = carry;
+                depthOf[carry] = size++;
+            } else {
+                depthOf[carry] = -1;
+            }
+        }
+        return faultsFromHistogram(hist, cold, maxFrames);
+    }
+
+    /**
+     * FIFO – 스택 알고리즘이 아니어서(Belady 의 이상 현상) 프레임 수마다 따로 셉니다.
+     * 스텝 출력 없이 원형 큐와 페이지별 상주 여부 배열만 쓰므로 프레임 수 하나에 O(n), 전체 O(n·maxFrames).
+     */
+    private long[] fifoCurve(PageIds ids, int n, int maxFrames) {
+        long[] faults = new long[maxFrames];
+        boolean[] resident = new boolean[ids.distinct()];
+        int[] queue = new int[maxFrames];
+
+        for (int frames = 1; frames <= maxFrames; frames++) {
+            Arrays.fill(resident, false);
+            int head = 0, filled = 0;
+            long count = 0;
+            for (int t = 0; t < n; t++) {
+                int page = ids.id(t);
+                if (resident[page]) continue;
+                count++;
+                if (filled < frames) {
+                    queue[filled++] = page;
+                } else {
+                    resident[queue[head]] = false;
+                    queue[head] = page;
+                    head = (head + 1) % frames;
+                }
+                resident[page] = true;
+            }
+            faults[frames - 1] = count;
+        }
+        return faults;
+    }
+
+    // faults(c) = 콜드 미스 + 스택 거리가 c 보다 큰 참조 수
+    private long[] faultsFromHistogram(long[] hist, long cold, int maxFrames) {
+        long[] faults = new long[maxFrames];
+        long farther = hist[maxFrames + 1];
+        for (int c = maxFrames; c >= 1; c--) {
+            faults[c - 1] = cold + farther;
+            farther += hist[c];
+        }
+        return faults;
+    }
+
+    // 프레임을 늘렸는데 폴트가 늘어난 지점 (Belady's anomaly)
+    private List<Map<String, Object>> findAnomalies(long[] faults) {
+        List<Map<String, Object>> out = new ArrayList<>();
+        for (int i = 1; i < faults.length; i++) {
+            if (faults[i] > faults[i - 1]) {
+                out.add(Map.of("frames", i + 1, "faults", faults[i], "prevFaults", faults[i - 1]));
+            }
+        }
+        return out;
+    }
+
+    private List<Long> toList(long[] arr) {
+        List<Long> out = new ArrayList<>(arr.length);
+        for (long v : arr) out.add(v);
+        return out;
+    }
+
+    /**
+     * 0-based 위치에 대한 prefix 합 Fenwick 트리
+     */
+    private static final class Fenwick {
+        private final int[] tree;
+
+        Fenwick(int n) {
+            tree = new int[n + 1];
+        }
+
+        void add(int pos, int delta) {
+            for (int i = pos + 1; i < tree.length; i += i & -i) tree[i] += delta;
+        }
+
+        // [0, pos] 구간 합 (pos < 0 이면 0)
+        int sum(int pos) {
+            int s = 0;
+            for (int i = pos + 1; i > 0; i -= i & -i) s += tree[i];
+            return s;
+        }
+    }
+}
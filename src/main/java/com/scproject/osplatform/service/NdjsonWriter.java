@@ -0,0 +1,90 @@
+package com.scproject.osplatform.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 스트리밍 응답용 NDJSON(한 줄에 JSON 객체 하나) 작성기.
+ *
+ * 엔진 콜백 안에서 바로 쓰기 때문에 IOException 은 UncheckedIOException 으로 감싸서 던집니다.
+ * (클라이언트가 연결을 끊으면 그 예외로 시뮬레이션도 같이 멈춥니다.)
+ */
+final class NdjsonWriter implements Closeable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    static {
+        MAPPER.getFactory().setRootValueSeparator(null);
+        MAPPER.getFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    private final JsonGenerator gen;
+
+    NdjsonWriter(OutputStream os) {
+        try {
+            this.gen = MAPPER.getFactory().createGenerator(os);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void begin() {
+        try {
+            gen.writeStartObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void end() {
+        try {
+            gen.writeEndObject();
+            gen.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void field(String name, long value) {
+        try {
+            gen.writeNumberField(name, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void field(String name, boolean value) {
+        try {
+            gen.writeBooleanField(name, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void field(String name, String value) {
+        try {
+            gen.writeStringField(name, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Map / List 등 임의 객체 (요약 줄의 metrics 같은 것)
+    void field(String name, Object value) {
+        try {
+            gen.writeObjectField(name, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        gen.close();
+    }
+}
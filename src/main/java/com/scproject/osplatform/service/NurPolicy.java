@@ -0,0 +1,80 @@
+package com.scproject.osplatform.service;
+
+/**
+ * NUR (Not Used Recently, 개선된 Clock) – 참조 비트 R 과 변형 비트 M 으로 프레임을 네 등급으로 나눠
+ * (R,M) = (0,0) -> (0,1) -> (1,0) -> (1,1) 순으로 교체.
+ *
+ * 시곗바늘 위치부터
+ *   1) (0,0) 을 찾으면 바로 교체
+ *   2) 없으면 (0,1) 을 찾되, 지나가는 프레임의 R 을 지움
+ *   3) 그래도 없으면 (이제 모든 R 이 0) 1) 부터 다시
+ * R / M 은 long[] 에 압축해 두고 워드 단위로 검사합니다. M 은 요청의 writes 로 켜집니다.
+ */
+final class NurPolicy implements PageReplacementPolicy {
+
+    private final int frames;
+    private final long[] ref;
+    private final long[] mod;
+    private int hand;
+
+    NurPolicy(int frames) {
+        this.frames = frames;
+        this.ref = PackedBits.of(frames);
+        this.mod = PackedBits.of(frames);
+    }
+
+    private NurPolicy(NurPolicy o) {
+        frames = o.frames;
+        ref = o.ref.clone();
+        mod = o.mod.clone();
+        hand = o.hand;
+    }
+
+    @Override
+    public void hit(int slot, int page, int time, boolean write) {
+        PackedBits.set(ref, slot);
+        if (write) PackedBits.set(mod, slot);
+    }
+
+    @Override
+    public int victim(int time) {
+        while (true) {
+            int s = find(false);
+            if (s == -1) s = findClearing();
+            if (s != -1) {
+                hand = (s + 1) % frames;
+                return s;
+            }
+        }
+    }
+
+    @Override
+    public void loaded(int slot, int page, int time, boolean write) {
+        PackedBits.set(ref, slot);
+        PackedBits.put(mod, slot, write);
+    }
+
+    @Override
+    public PageReplacementPolicy copy() {
+        return new NurPolicy(this);
+    }
+
+    // 바늘 위치부터 한 바퀴 (R=0, M=modified) 찾기
+    private int find(boolean modified) {
+        int s = PackedBits.nextMatch(ref, mod, modified, hand, frames);
+        return s != -1 ? s : PackedBits.nextMatch(ref, mod, modified, 0, hand);
+    }
+
+    // (0,1) 찾기 + 지나간 프레임의 R 지우기
+    private int findClearing() {
+        int s = PackedBits.nextMatch(ref, mod, true, hand, frames);
+        if (s != -1) {
+            PackedBits.clearRange(ref, hand, s);
+            return s;
+        }
+        PackedBits.clearRange(ref, hand, frames);
+        s = PackedBits.nextMatch(ref, mod, true, 0, hand);
+        PackedBits.clearRange(ref, 0, s != -1 ? s : hand);
+        return s;
+    }
+}
@@ -0,0 +1,129 @@
+package com.scproject.osplatform.service;
+
+import java.util.Arrays;
+
+/**
+ * OPT(Optimal) – 미래 참조 정보를 이용해서 앞으로 가장 늦게 사용될 페이지를 교체.
+ *
+ * 역방향 한 번으로 "같은 페이지의 다음 참조 위치(nextUse)" 배열을 만들어 두고,
+ * 프레임들을 nextUse 기준 최대 힙으로 관리하므로 한 스텝이 O(log frames) 입니다.
+ */
+final class OptPolicy implements PageReplacementPolicy {
+
+    private static final int NEVER = Integer.MAX_VALUE; // 앞으로 다시 참조되지 않음
+
+    private final int[] nextUse;
+    private final NextUseHeap heap;
+    private final boolean[] inHeap;
+
+    OptPolicy(int frames, PageIds ids) {
+        nextUse = nextUseIndex(ids, ids.length());
+        heap = new NextUseHeap(frames);
+        inHeap = new boolean[frames];
+    }
+
+    @Override
+    public void hit(int slot, int page, int time, boolean write) {
+        heap.update(slot, nextUse[time]);
+    }
+
+    @Override
+    public int victim(int time) {
+        // 다음 사용이 가장 먼(또는 다시 안 쓰이는) 프레임이 힙의 top. 곧 loaded 에서 키만 바꿈
+        return heap.top();
+    }
+
+    @Override
+    public void loaded(int slot, int page, int time, boolean write) {
+        if (inHeap[slot]) {
+            heap.update(slot, nextUse[time]);
+        } else {
+            inHeap[slot] = true;
+            heap.insert(slot, nextUse[time]);
+        }
+    }
+
+    /**
+     * nextUse[i] = i 번째 참조와 같은 페이지가 다음에 나오는 위치 (없으면 NEVER)
+     */
+    private static int[] nextUseIndex(PageIds ids, int n) {
+        int[] nextUse = new int[n];
+        int[] seen = new int[ids.distinct()];
+        Arrays.fill(seen, NEVER);
+        for (int i = n - 1; i >= 0; i--) {
+            int page = ids.id(i);
+            nextUse[i] = seen[page];
+            seen[page] = i;
+        }
+        return nextUse;
+    }
+
+    /**
+     * 프레임 인덱스를 원소로 하는 인덱스드 최대 힙.
+     * 키는 nextUse 이고, 둘 다 다시 안 쓰이는 경우(NEVER)에는 앞쪽 프레임이 먼저 나옵니다.
+     */
+    private static final class NextUseHeap {
+        private final int[] heap;  // 힙 위치 -> 프레임
+        private final int[] pos;   // 프레임 -> 힙 위치
+        private final int[] key;   // 프레임 -> nextUse
+        private int size;
+
+        NextUseHeap(int capacity) {
+            heap = new int[capacity];
+            pos = new int[capacity];
+            key = new int[capacity];
+        }
+
+        int top() {
+            return heap[0];
+        }
+
+        void insert(int slot, int nextUse) {
+            key[slot] = nextUse;
+            heap[size] = slot;
+            pos[slot] = size;
+            siftUp(size++);
+        }
+
+        void update(int slot, int nextUse) {
+            int old = key[slot];
+            key[slot] = nextUse;
+            if (nextUse > old) siftUp(pos[slot]);
+            else siftDown(pos[slot]);
+        }
+
+        private boolean before(int a, int b) {
+            if (key[a] != key[b]) return key[a] > key[b];
+            return a < b;
+        }
+
+        private void siftUp(int i) {
+            int slot = heap[i];
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!before(slot, heap[parent])) break;
+                place(heap[parent], i);
+                i = parent;
+            }
+            place(slot, i);
+        }
+
+        private void siftDown(int i) {
+            int slot = heap[i];
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) break;
+                if (child + 1 < size && before(heap[child + 1], heap[child])) child++;
+                if (!before(heap[child], slot)) break;
+                place(heap[child], i);
+                i = child;
+            }
+            place(slot, i);
+        }
+
+        private void place(int slot, int i) {
+            heap[i] = slot;
+            pos[slot] = i;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.scproject.osplatform.service;
+
+/**
+ * long[] 하나에 프레임별 1비트씩 담는 비트 배열 유틸.
+ * Clock / NUR 의 참조·변형 비트처럼 "다음 0 비트 찾기"를 64 프레임씩 한 번에 검사할 때 씁니다.
+ */
+final class PackedBits {
+
+    private PackedBits() {
+    }
+
+    static long[] of(int n) {
+        return new long[(n + 63) >>> 6];
+    }
+
+    static boolean get(long[] bits, int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+
+    static void set(long[] bits, int i) {
+        bits[i >>> 6] |= 1L << i;
+    }
+
+    static void put(long[] bits, int i, boolean v) {
+        if (v) bits[i >>> 6] |= 1L << i;
+        else bits[i >>> 6] &= ~(1L << i);
+    }
+
+    /** [from, to) 비트를 모두 0 으로 */
+    static void clearRange(long[] bits, int from, int to) {
+        if (from >= to) return;
+        int fw = from >>> 6, tw = (to - 1) >>> 6;
+        long fm = -1L << from, tm = -1L >>> -to;
+        if (fw == tw) {
+            bits[fw] &= ~(fm & tm);
+            return;
+        }
+        bits[fw] &= ~fm;
+        for (int w = fw + 1; w < tw; w++) bits[w] = 0;
+        bits[tw] &= ~tm;
+    }
+
+    /**
+     * [from, to) 에서 ref 비트가 0 이고 mod 비트가 modified 와 같은 첫 위치. 없으면 -1.
+     * mod 가 null 이면 ref 비트만 봅니다.
+     */
+    static int nextMatch(long[] ref, long[] mod, boolean modified, int from, int to) {
+        for (int i = from; i < to; ) {
+            int w = i >>> 6;
+            long word = ~ref[w];
+            if (mod != null) word &= modified ? mod[w] : ~mod[w];
+            word &= -1L << i;
+            if (word != 0) {
+                int s = (w << 6) + Long.numberOfTrailingZeros(word);
+                return s < to ? s : -1;
+            }
+            i = (w + 1) << 6;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,117 @@
+package com.scproject.osplatform.service;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 참조열의 페이지 번호를 0 부터 시작하는 조밀한(dense) 번호로 바꿔 둔 결과.
+ *
+ * 페이지 번호는 임의의 int 라서 그대로 배열 인덱스로 쓸 수 없기 때문에,
+ * 한 번의 해시 패스로 "처음 등장한 순서대로" 0,1,2... 를 붙여 둡니다.
+ * 이후 엔진들은 HashMap 대신 int[] 로 페이지별 상태를 관리할 수 있습니다.
+ */
+final class PageIds {
+
+    // 해시 테이블 시작 크기 (서로 다른 페이지가 이보다 많으면 커짐)
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private final int[] refs;    // 원래 페이지 번호
+    private final int[] ids;     // 참조 위치 -> dense 페이지 번호
+    private final int distinct;  // 서로 다른 페이지 수
+
+    private PageIds(int[] refs, int[] ids, int distinct) {
+        this.refs = refs;
+        this.ids = ids;
+        this.distinct = distinct;
+    }
+
+    static PageIds of(int[] refs) {
+        return of(refs, null);
+    }
+
+    /**
+     * scratch 가 있으면 해시 테이블과 dense 번호 배열을 거기서 빌립니다.
+     * 이때 돌려받은 PageIds 는 같은 scratch 로 다음 참조열을 만들기 전까지만 유효합니다.
+     */
+    static PageIds of(int[] refs, WorkerScratch scratch) {
+        int n = refs.length;
+        int[] ids = scratch == null ? new int[n] : scratch.ints(WorkerScratch.PAGE_IDS, n);
+
+        // 오픈 어드레싱 해시 (키: 페이지 번호, 값: dense 번호, -1 이면 빈 칸).
+        // 참조 수가 아니라 서로 다른 페이지 수에 맞춰 작게 시작하고, 부하율 0.5 를 넘으면 두 배로 다시 만듦
+        int cap = Math.min(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(2, n) * 2 - 1) << 1);
+        int mask = cap - 1;
+        int[] keys = scratch == null ? new int[cap] : scratch.ints(WorkerScratch.HASH_KEYS, cap);
+        int[] vals = scratch == null ? new int[cap] : scratch.ints(WorkerScratch.HASH_VALS, cap);
+        Arrays.fill(vals, 0, cap, -1);
+        int[] pageOf = new int[cap / 2]; // dense 번호 -> 페이지 번호 (다시 만들 때 옛 테이블 대신 이걸 씀)
+
+        int distinct = 0;
+        for (int i = 0; i < n; i++) {
+            int page = refs[i];
+            int h = mix(page) & mask;
+            while (vals[h] != -1 && keys[h] != page) {
+                h = (h + 1) & mask;
+            }
+            if (vals[h] == -1) {
+                if (distinct == pageOf.length) pageOf = Arrays.copyOf(pageOf, distinct * 2);
+                pageOf[distinct] = page;
+                keys[h] = page;
+                vals[h] = distinct++;
+                if (distinct * 2 > cap) {
+                    cap <<= 1;
+                    mask = cap - 1;
+                    // scratch 가 이미 충분히 크면 같은 배열이 돌아오지만, pageOf 에서 다시 채우므로 상관없음
+                    keys = scratch == null ? new int[cap] : scratch.ints(WorkerScratch.HASH_KEYS, cap);
+                    vals = scratch == null ? new int[cap] : scratch.ints(WorkerScratch.HASH_VALS, cap);
+                    Arrays.fill(vals, 0, cap, -1);
+                    for (int d = 0; d < distinct; d++) {
+                        int g = mix(pageOf[d]) & mask;
+                        while (vals[g] != -1) g = (g + 1) & mask;
+                        keys[g] = pageOf[d];
+                        vals[g] = d;
+                    }
+                    ids[i] = distinct - 1;
+                    continue;
+                }
+            }
+            ids[i] = vals[h];
+        }
+        return new PageIds(refs, ids, distinct);
+    }
+
+    int[] refs() {
+        return refs;
+    }
+
+    int length() {
+        return refs.length;
+    }
+
+    int id(int pos) {
+        return ids[pos];
+    }
+
+    int distinct() {
+        return distinct;
+    }
+
+    /**
+     * 이미 0..pages-1 범위인 참조열 (서버에서 만든 워크로드). 해시 패스 없이 참조열 자체를 dense 번호로 씁니다.
+     */
+    static PageIds dense(int[] refs, int pages) {
+        return new PageIds(refs, refs, pages);
+    }
+
+    static int[] toIntArray(List<Integer> refs) {
+        int[] out = new int[refs.size()];
+        int i = 0;
+        for (int v : refs) out[i++] = v;
+        return out;
+    }
+
+    private static int mix(int x) {
+        int h = x * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
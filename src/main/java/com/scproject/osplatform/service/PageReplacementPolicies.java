@@ -0,0 +1,54 @@
+package com.scproject.osplatform.service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이름 -> 페이지 교체 정책 레지스트리. (이름은 대소문자 무시, algo 를 생략하면 FIFO,
+ * 등록되지 않은 이름은 FIFO 로 돌리지 않고 IllegalArgumentException -> 400 으로 거절)
+ *
+ * 새 정책은 여기 한 줄 등록하면 /paging, /paging/stream, /paging/batch, 트레이스 업로드, 비동기 작업에서 모두 쓸 수 있습니다.
+ */
+final class PageReplacementPolicies {
+
+    private static final Map<String, PageReplacementPolicy.Factory> FACTORIES = new ConcurrentHashMap<>();
+
+    static {
+        register("FIFO", (frames, ids, params) -> new FifoPolicy(frames));
+        register("LRU", (frames, ids, params) -> new LruPolicy(frames));
+        register("OPT", (frames, ids, params) -> new OptPolicy(frames, ids));
+        register("LFU", (frames, ids, params) -> new LfuPolicy(frames));
+        register("NUR", (frames, ids, params) -> new NurPolicy(frames));
+        register("CLOCK", (frames, ids, params) -> new ClockPolicy(frames));
+        register("SECOND_CHANCE", (frames, ids, params) -> new ClockPolicy(frames)); // Clock 과 같은 알고리즘
+        register("WS", WorkingSetPolicy::new);
+        register("PFF", (frames, ids, params) -> new PffPolicy(frames, params));
+    }
+
+    private PageReplacementPolicies() {
+    }
+
+    static void register(String name, PageReplacementPolicy.Factory factory) {
+        FACTORIES.put(name.toUpperCase(Locale.ROOT), factory);
+    }
+
+    static String name(String algo) {
+        return algo == null ? "FIFO" : algo.toUpperCase(Locale.ROOT);
+    }
+
+    /** 등록되지 않은 이름이면 IllegalArgumentException (-> 400) */
+    static PageReplacementPolicy.Factory get(String algo) {
+        PageReplacementPolicy.Factory factory = FACTORIES.get(name(algo));
+        if (factory == null) {
+            throw new IllegalArgumentException("지원하지 않는 페이지 교체 알고리즘: " + algo + " (가능: " + names() + ")");
+        }
+        return factory;
+    }
+
+    static Set<String> names() {
+        return new TreeSet<>(FACTORIES.keySet());
+    }
+}
@@ -0,0 +1,56 @@
+package com.scproject.osplatform.service;
+
+/**
+ * 페이지 교체 정책 SPI.
+ *
+ * 참조열을 훑으며 프레임 배열 / 페이지 -> 프레임 매핑 / 빈 프레임 관리는 PagingService 의 공용 드라이버가 맡고,
+ * 정책은 "어느 프레임을 내보낼지"에 필요한 자기 상태만 프레임 번호(slot) 기준으로 관리합니다.
+ * 드라이버는 스텝마다 아래 순서로 부릅니다.
+ *
+ *   hit  : hit(slot, ...)
+ *   fault: faulting(t) -> release() 반복 -> (빈 프레임 없으면) victim(t) -> loaded(slot, ...)
+ *   공통 : 스텝 끝에 release() 를 -1 이 나올 때까지 반복
+ *
+ * 새 정책은 PageReplacementPolicies 에 이름과 Factory 를 등록하면 모든 페이징 엔드포인트에서 바로 쓸 수 있습니다.
+ * 인스턴스는 실행 한 번 전용이라 스레드 안전할 필요는 없습니다.
+ */
+interface PageReplacementPolicy {
+
+    /** slot 에 있는 page 가 time 번째 참조에서 다시 쓰임 */
+    void hit(int slot, int page, int time, boolean write);
+
+    /**
+     * 빈 프레임이 없을 때 내보낼 프레임을 고릅니다.
+     * 고른 slot 은 곧바로 loaded() 로 다시 채워지므로, 정책 상태에서 빼 두든 loaded 에서 덮어쓰든 상관없습니다.
+     */
+    int victim(int time);
+
+    /** page 가 slot 에 새로 들어옴 (빈 프레임 / 반납된 프레임 / victim 자리 모두) */
+    void loaded(int slot, int page, int time, boolean write);
+
+    /** fault 를 처리하기 직전에 불림. 가변 할당 정책이 이번 fault 를 계기로 프레임을 줄일 때 씁니다. */
+    default void faulting(int time) {
+    }
+
+    /**
+     * 가변 할당 정책(Working-Set / PFF)이 스스로 반납할 프레임. 없으면 -1.
+     * 돌려준 slot 은 정책 상태에서 이미 빠져 있어야 하며, 나중에 loaded() 로 다시 쓰일 수 있습니다.
+     */
+    default int release(int time) {
+        return -1;
+    }
+
+    /**
+     * 지금 상태를 그대로 복사한 새 인스턴스. (세션 재실행의 체크포인트용)
+     * 복사본은 같은 frames / params 로 이후 참조를 이어서 돌릴 수 있어야 합니다.
+     * OPT 처럼 앞으로의 참조열에 의존하는 정책은 이어서 돌릴 수 없으므로 null.
+     */
+    default PageReplacementPolicy copy() {
+        return null;
+    }
+
+    @FunctionalInterface
+    interface Factory {
+        PageReplacementPolicy create(int frames, PageIds ids, PagingParams params);
+    }
+}
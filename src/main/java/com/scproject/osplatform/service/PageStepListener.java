@@ -0,0 +1,30 @@
+package com.scproject.osplatform.service;
+
+/**
+ * 페이지 교체 엔진이 참조 하나를 처리할 때마다 불리는 콜백.
+ * 엔진은 스텝을 직접 모으지 않고 여기로 넘기기만 하므로,
+ * 리스트로 모을지 / 바로 스트리밍할지 / 버릴지는 호출하는 쪽이 정합니다.
+ */
+@FunctionalInterface
+interface PageStepListener {
+
+    PageStepListener NONE = (ref, fault, slot, out, mem) -> { };
+
+    /**
+     * @param ref   이번 참조 페이지
+     * @param fault 페이지 폴트 여부
+     * @param slot  페이지가 새로 들어간 프레임 (hit 면 -1)
+     * @param out   밀려난 페이지 (hit 이거나 빈 프레임을 채웠으면 -1)
+     * @param mem   현재 프레임 상태 (엔진이 계속 고쳐 쓰므로 보관하려면 복사할 것)
+     */
+    void step(int ref, boolean fault, int slot, int out, int[] mem);
+
+    /**
+     * 가변 할당 정책(Working-Set / PFF)이 프레임을 반납했을 때, 그 스텝의 step() 보다 먼저 불립니다.
+     *
+     * @param slot 비워진 프레임
+     * @param page 나간 페이지
+     */
+    default void released(int slot, int page) {
+    }
+}
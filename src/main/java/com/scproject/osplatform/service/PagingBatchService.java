@@ -0,0 +1,69 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.PagingBatchReq;
+import com.scproject.osplatform.dto.sim.PagingReq;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+@Service
+public class PagingBatchService {
+
+    // 한 요청에서 돌릴 수 있는 최대 설정 수
+    private static final int MAX_CONFIGS = 64;
+
+    private final PagingService pagingService;
+    private final ForkJoinPool pool;
+    private final SimulationCache cache;
+
+    public PagingBatchService(PagingService pagingService, ForkJoinPool simulationPool, SimulationCache cache) {
+        this.pagingService = pagingService;
+        this.pool = simulationPool;
+        this.cache = cache;
+    }
+
+    /**
+     * 하나의 참조열에 여러 (algo, frames) 설정을 한꺼번에 돌립니다.
+     * 참조열은 한 번만 int[] 로 디코딩해서 모든 작업이 읽기 전용으로 공유합니다.
+     * 설정마다 /paging 과 같은 키로 SimulationCache 를 거치므로, 비교 화면에서 프레임 수 하나만 바꿔
+     * 다시 보내면 나머지 설정은 다시 돌리지 않습니다. 응답은 이미 직렬화된 JSON 바이트입니다.
+     *
+     * 반환 형태:
+     * {
+     *   "results": [ { "algo": "LRU", "frames": 3, "steps": [...], "faults": 12 }, ... ]  // configs 순서 그대로
+     * }
+     */
+    public byte[] run(PagingBatchReq req) {
+        List<PagingBatchReq.Config> configs = req.configs != null ? req.configs : Collections.emptyList();
+        if (configs.size() > MAX_CONFIGS) {
+            throw new IllegalArgumentException("configs 는 최대 " + MAX_CONFIGS + "개까지 가능합니다.");
+        }
+
+        List<Integer> refs = req.refs != null ? req.refs : Collections.emptyList();
+        PageIds ids = PageIds.of(PageIds.toIntArray(refs));
+        // 참조열 해시는 한 번만: 설정별 캐시 키는 이 해시 + algo / frames / 파라미터
+        SimulationCache.TraceDigest trace = new SimulationCache.TraceDigest(refs, req.writes);
+
+        List<ForkJoinTask<byte[]>> tasks = new ArrayList<>(configs.size());
+        for (PagingBatchReq.Config c : configs) {
+            PageReplacementPolicies.get(c.algo); // 작업을 띄우기 전에 이름 검사
+            PagingParams params = PagingParams.of(c.window, c.pffInterval, req.writes);
+            PagingReq key = new PagingReq();
+            key.algo = c.algo;
+            key.frames = c.frames;
+            key.refs = refs;
+            key.writes = req.writes;
+            key.window = c.window;
+            key.pffInterval = c.pffInterval;
+            tasks.add(pool.submit(() -> cache.pagingBatchItem(key, trace, () -> pagingService.run(c.algo, c.frames, ids, params))));
+        }
+
+        List<byte[]> results = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<byte[]> t : tasks) {
+            results.add(t.join());
+        }
+        return SimulationCache.batchResults(results);
+    }
+}
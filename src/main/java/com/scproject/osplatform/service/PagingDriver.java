@@ -0,0 +1,153 @@
+package com.scproject.osplatform.service;
+
+import java.util.Arrays;
+
+/**
+ * 모든 페이지 교체 알고리즘이 같이 쓰는 드라이버 루프와 그 상태.
+ *
+ * 프레임 배열, 페이지 -> 프레임(slotOf), 반납된 빈 프레임 스택을 전부 int[] 로 들고 있고,
+ * 알고리즘별 차이는 PageReplacementPolicy 가 고르는 victim / 반납 프레임뿐입니다. 루프 안에서는 할당이 없습니다.
+ *
+ * run(from, to) 로 구간을 나눠 돌릴 수 있고, 구간 사이에서 checkpoint() 로 상태를 떠 두었다가
+ * 앞부분이 같은 다른 참조열에서 resume() 으로 이어서 돌릴 수 있습니다. (세션 재실행)
+ * 체크포인트는 프레임 크기 배열 몇 개와 정책 복사본뿐이라 참조열 길이와 무관합니다.
+ */
+final class PagingDriver {
+
+    private final int frames;
+    private final PageIds ids;
+    private final PagingParams params;
+    private final PageReplacementPolicy policy;
+
+    private final int[] mem;
+    private final int[] pageInSlot;   // 프레임 -> dense 페이지 번호
+    private final int[] slotOf;       // dense 페이지 번호 -> 프레임 (-1 이면 메모리에 없음)
+    private final int[] free;         // 정책이 반납한 빈 프레임 (스택)
+    private int freeTop;
+    private int filled;               // 앞에서부터 채워진 프레임 수
+    private int faults;
+
+    /**
+     * scratch 가 있으면 드라이버 배열을 거기서 빌립니다. (배치 채점처럼 한 스레드가 작은 시나리오를 연달아 돌릴 때)
+     */
+    PagingDriver(PageReplacementPolicy policy, int frames, PageIds ids, PagingParams params, WorkerScratch scratch) {
+        this.frames = frames;
+        this.ids = ids;
+        this.params = params;
+        this.policy = policy;
+
+        int distinct = ids.distinct();
+        mem = scratch == null ? new int[frames] : scratch.exact(WorkerScratch.FRAMES, frames);
+        Arrays.fill(mem, -1);
+        pageInSlot = scratch == null ? new int[frames] : scratch.ints(WorkerScratch.PAGE_IN_SLOT, frames);
+        slotOf = scratch == null ? new int[distinct] : scratch.ints(WorkerScratch.SLOT_OF, distinct);
+        Arrays.fill(slotOf, 0, distinct, -1);
+        free = scratch == null ? new int[frames] : scratch.ints(WorkerScratch.FREE, frames);
+    }
+
+    /**
+     * [from, to) 번째 참조를 처리하고 지금까지의 fault 수를 돌려줍니다.
+     */
+    int run(int from, int to, PageStepListener listener) {
+        int[] trace = ids.refs();
+        for (int time = from; time < to; time++) {
+            int r = trace[time];
+            int page = ids.id(time);
+            boolean write = params.write(time);
+            int slot = slotOf[page];
+            boolean hit = slot != -1;
+            int out = -1;
+
+            if (hit) {
+                policy.hit(slot, page, time, write);
+                slot = -1;
+            } else {
+                policy.faulting(time);
+                drainReleases(time, listener);
+
+                if (freeTop > 0) {
+                    slot = free[--freeTop];
+                } else if (filled < frames) {
+                    // 빈 프레임이 있으면 먼저 채우기
+                    slot = filled++;
+                } else {
+                    slot = policy.victim(time);
+                    slotOf[pageInSlot[slot]] = -1;
+                    out = mem[slot];
+                }
+                mem[slot] = r;
+                pageInSlot[slot] = page;
+                slotOf[page] = slot;
+                policy.loaded(slot, page, time, write);
+                faults++;
+            }
+
+            drainReleases(time, listener);
+
+            listener.step(r, !hit, slot, out, mem);
+        }
+        return faults;
+    }
+
+    int faultsSoFar() {
+        return faults;
+    }
+
+    private void drainReleases(int time, PageStepListener listener) {
+        for (int s; (s = policy.release(time)) != -1; ) {
+            listener.released(s, mem[s]);
+            slotOf[pageInSlot[s]] = -1;
+            mem[s] = -1;
+            free[freeTop++] = s;
+        }
+    }
+
+    /**
+     * 지금 상태의 복사본. 정책이 이어서 돌릴 수 없으면 (OPT) null.
+     * time 은 다음에 처리할 참조 위치입니다. (run(.., time) 이 끝난 직후)
+     */
+    Checkpoint checkpoint(int time) {
+        PageReplacementPolicy p = policy.copy();
+        if (p == null) return null;
+        return new Checkpoint(time, mem.clone(), pageInSlot.clone(), Arrays.copyOf(free, freeTop), filled, faults, p);
+    }
+
+    /**
+     * 체크포인트 이전 참조열([0, cp.time))이 같은 새 참조열에서 이어서 돌릴 드라이버.
+     * dense 페이지 번호는 처음 등장한 순서대로 붙으므로 앞부분이 같으면 번호도 같습니다.
+     */
+    static PagingDriver resume(Checkpoint cp, PageIds ids, PagingParams params) {
+        PagingDriver d = new PagingDriver(cp.policy.copy(), cp.mem.length, ids, params, null);
+        System.arraycopy(cp.mem, 0, d.mem, 0, cp.mem.length);
+        System.arraycopy(cp.pageInSlot, 0, d.pageInSlot, 0, cp.pageInSlot.length);
+        for (int s = 0; s < cp.mem.length; s++) {
+            if (d.mem[s] != -1) d.slotOf[d.pageInSlot[s]] = s;
+        }
+        System.arraycopy(cp.free, 0, d.free, 0, cp.free.length);
+        d.freeTop = cp.free.length;
+        d.filled = cp.filled;
+        d.faults = cp.faults;
+        return d;
+    }
+
+    static final class Checkpoint {
+        final int time;
+        private final int[] mem;
+        private final int[] pageInSlot;
+        private final int[] free;
+        private final int filled;
+        final int faults;
+        private final PageReplacementPolicy policy;
+
+        private Checkpoint(int time, int[] mem, int[] pageInSlot, int[] free, int filled, int faults,
+                           PageReplacementPolicy policy) {
+            this.time = time;
+            this.mem = mem;
+            this.pageInSlot = pageInSlot;
+            this.free = free;
+            this.filled = filled;
+            this.faults = faults;
+            this.policy = policy;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.scproject.osplatform.service;
+
+import java.util.List;
+
+/**
+ * 알고리즘별 추가 파라미터. (필요 없는 알고리즘은 무시)
+ *
+ * - window      : Working-Set 창 크기 Δ (최근 Δ 번의 참조에 나온 페이지만 상주)
+ * - pffInterval : PFF 기준 간격 τ (직전 fault 이후 τ 보다 오래 fault 가 없으면 그동안 안 쓰인 페이지 반납)
+ * - writes      : 참조별 쓰기 여부. NUR 의 변형(modify) 비트에 쓰며, 비트 배열로 압축해 둡니다.
+ */
+final class PagingParams {
+
+    static final int DEFAULT_WINDOW = 10;
+    static final int DEFAULT_PFF_INTERVAL = 10;
+    static final PagingParams DEFAULT = new PagingParams(DEFAULT_WINDOW, DEFAULT_PFF_INTERVAL, null);
+
+    final int window;
+    final int pffInterval;
+    private final long[] writes; // null 이면 전부 읽기
+
+    private PagingParams(int window, int pffInterval, long[] writes) {
+        this.window = window;
+        this.pffInterval = pffInterval;
+        this.writes = writes;
+    }
+
+    static PagingParams of(Integer window, Integer pffInterval, List<Boolean> writes) {
+        if (window == null && pffInterval == null && (writes == null || writes.isEmpty())) return DEFAULT;
+        if (window != null && window <= 0) throw new IllegalArgumentException("window 는 1 이상이어야 합니다.");
+        if (pffInterval != null && pffInterval < 0) throw new IllegalArgumentException("pffInterval 은 0 이상이어야 합니다.");
+
+        long[] bits = null;
+        if (writes != null && !writes.isEmpty()) {
+            bits = new long[(writes.size() + 63) >>> 6];
+            int i = 0;
+            for (Boolean w : writes) {
+                if (Boolean.TRUE.equals(w)) bits[i >>> 6] |= 1L << i;
+                i++;
+            }
+        }
+        return new PagingParams(window != null ? window : DEFAULT_WINDOW,
+                pffInterval != null ? pffInterval : DEFAULT_PFF_INTERVAL, bits);
+    }
+
+    /** writes 를 이미 비트 배열로 만들어 둔 경우 (워크로드 생성기) */
+    static PagingParams of(Integer window, Integer pffInterval, long[] writes) {
+        PagingParams p = of(window, pffInterval, (List<Boolean>) null);
+        return writes == null ? p : new PagingParams(p.window, p.pffInterval, writes);
+    }
+
+    boolean write(int pos) {
+        int w = pos >>> 6;
+        return writes != null && w < writes.length && (writes[w] & (1L << pos)) != 0;
+    }
+}
@@ -3,6 +3,8 @@ package com.scproject.osplatform.service;
 import com.scproject.osplatform.dto.sim.PagingReq;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
 
 @Service
@@ -19,197 +21,152 @@ public class PagingService {
      * }
      */
     public Map<String, Object> run(PagingReq req) {
-        String algo = (req.algo == null ? "FIFO" : req.algo.toUpperCase(Locale.ROOT));
-        int frames = req.frames;
-        List<Integer> refs = req.refs != null ? req.refs : Collections.emptyList();
+        return run(req, PageStepListener.NONE);
+    }
 
-        switch (algo) {
-            case "LRU":
-                return simulateLRU(frames, refs);
-            case "OPT":
-                return simulateOPT(frames, refs);
-            // 아직 LFU / NUR 는 구현 안 했으므로 일단 FIFO 로 처리
-            case "LFU":
-            case "NUR":
-            case "FIFO":
-            default:
-                return simulateFIFO(frames, refs);
-        }
+    /**
+     * observer 는 스텝마다 (결과에 모으기 전에) 불립니다. 비동기 작업의 진행률 보고 / 취소 확인용이며,
+     * observer 가 예외를 던지면 그 스텝에서 시뮬레이션이 멈춥니다.
+     */
+    Map<String, Object> run(PagingReq req, PageStepListener observer) {
+        List<Integer> refs = req.refs != null ? req.refs : Collections.emptyList();
+        PageIds ids = PageIds.of(PageIds.toIntArray(refs));
+        return run(req.algo, req.frames, ids, params(req), Boolean.TRUE.equals(req.summaryOnly), observer);
     }
 
     /**
-     * FIFO 페이지 교체
+     * 서버에서 만든 참조열(워크로드 생성기 등)처럼 이미 PageIds 로 준비된 입력을 실행합니다.
      */
-    private Map<String, Object> simulateFIFO(int frames, List<Integer> refs) {
-        List<Map<String, Object>> steps = new ArrayList<>();
-        if (frames <= 0) {
-            return Map.of("steps", steps, "faults", 0);
+    Map<String, Object> run(String algo, int frames, PageIds ids, PagingParams params, boolean summaryOnly,
+                            PageStepListener observer) {
+        if (summaryOnly) {
+            return Map.of("faults", simulate(algo, frames, ids, params, observer));
         }
+        return run(algo, frames, ids, params, observer);
+    }
 
-        int[] mem = new int[frames];
-        Arrays.fill(mem, -1);
-        int faults = 0;
-        int nextIdx = 0; // 교체할 프레임 인덱스 (원형 큐)
-
-        for (int r : refs) {
-            boolean hit = contains(mem, r);
-            if (!hit) {
-                // 빈 프레임이 있으면 먼저 채우기
-                int emptyIndex = indexOf(mem, -1);
-                if (emptyIndex != -1) {
-                    mem[emptyIndex] = r;
-                } else {
-                    // 빈 프레임 없으면 FIFO 방식으로 교체
-                    mem[nextIdx] = r;
-                    nextIdx = (nextIdx + 1) % frames;
-                }
-                faults++;
-            }
+    /**
+     * 이미 int[] 로 디코딩된 참조열로 실행합니다.
+     * 참조열은 읽기만 하므로 여러 스레드가 같은 PageIds 를 공유해도 됩니다.
+     */
+    Map<String, Object> run(String algo, int frames, PageIds ids, PagingParams params) {
+        return run(algo, frames, ids, params, PageStepListener.NONE);
+    }
 
+    private Map<String, Object> run(String algo, int frames, PageIds ids, PagingParams params, PageStepListener observer) {
+        PageReplacementPolicies.get(algo); // 알 수 없는 이름이면 스텝 리스트를 만들기 전에 400
+        List<Map<String, Object>> steps = new ArrayList<>(ids.length());
+        int faults = simulate(algo, frames, ids, params, (ref, fault, slot, out, mem) -> {
+            observer.step(ref, fault, slot, out, mem);
             Map<String, Object> step = new LinkedHashMap<>();
-            step.put("ref", r);
+            step.put("ref", ref);
             step.put("frame", copy(mem));
-            step.put("fault", !hit);
+            step.put("fault", fault);
             // victim 은 프론트에서 옵션이므로 생략해도 됨 (없으면 '-' 로 표시)
             steps.add(step);
-        }
-
+        });
         return Map.of("steps", steps, "faults", faults);
     }
 
     /**
-     * LRU 페이지 교체
+     * 스텝을 모아 두지 않고 바로 NDJSON 으로 흘려보냅니다.
+     * 프레임 전체 대신 바뀐 칸(slot)과 들어온/나간 페이지만 씁니다.
+     *
+     * 출력 형태 (한 줄에 JSON 하나):
+     *   { "algo": "LRU", "frames": 3, "refs": 20 }
+     *   { "i": 0, "ref": 7, "fault": true, "slot": 0, "in": 7, "out": -1 }
+     *   { "i": 3, "ref": 0, "fault": false }
+     *   { "i": 9, "release": 1, "out": 3 }      // WS / PFF 가 프레임을 반납한 경우
+     *   ...
+     *   { "faults": 12 }
      */
-    private Map<String, Object> simulateLRU(int frames, List<Integer> refs) {
-        List<Map<String, Object>> steps = new ArrayList<>();
-        if (frames <= 0) {
-            return Map.of("steps", steps, "faults", 0);
-        }
-
-        int[] mem = new int[frames];
-        Arrays.fill(mem, -1);
-        int faults = 0;
-        Map<Integer, Integer> lastUsed = new HashMap<>(); // page -> 마지막 사용 시점
-
-        for (int time = 0; time < refs.size(); time++) {
-            int r = refs.get(time);
-            boolean hit = contains(mem, r);
-
-            if (!hit) {
-                int emptyIndex = indexOf(mem, -1);
-                if (emptyIndex != -1) {
-                    mem[emptyIndex] = r;
-                } else {
-                    // 가장 오래 전에 사용된 페이지의 인덱스를 찾기
-                    int victimIdx = 0;
-                    int oldestTime = Integer.MAX_VALUE;
-                    for (int i = 0; i < frames; i++) {
-                        int page = mem[i];
-                        int usedTime = lastUsed.getOrDefault(page, -1);
-                        if (usedTime < oldestTime) {
-                            oldestTime = usedTime;
-                            victimIdx = i;
-                        }
-                    }
-                    mem[victimIdx] = r;
-                }
-                faults++;
-            }
-
-            // 현재 페이지 r 의 마지막 사용 시점 갱신
-            lastUsed.put(r, time);
-
-            Map<String, Object> step = new LinkedHashMap<>();
-            step.put("ref", r);
-            step.put("frame", copy(mem));
-            step.put("fault", !hit);
-            steps.add(step);
-        }
-
-        return Map.of("steps", steps, "faults", faults);
+    public void stream(PagingReq req, OutputStream os) throws IOException {
+        List<Integer> refs = req.refs != null ? req.refs : Collections.emptyList();
+        stream(req.algo, req.frames, PageIds.of(PageIds.toIntArray(refs)), params(req), Boolean.TRUE.equals(req.summaryOnly), os);
     }
 
     /**
-     * OPT(Optimal) 페이지 교체 – 미래 참조 정보를 이용해서
-     * 앞으로 가장 늦게 사용될 페이지를 교체
+     * 바이너리/파일 업로드처럼 이미 int[] 로 읽어 둔 참조열을 스트리밍 실행합니다. (박싱 없음)
      */
-    private Map<String, Object> simulateOPT(int frames, List<Integer> refs) {
-        List<Map<String, Object>> steps = new ArrayList<>();
-        if (frames <= 0) {
-            return Map.of("steps", steps, "faults", 0);
-        }
+    public void stream(String algo, int frames, int[] refs, boolean summaryOnly, OutputStream os) throws IOException {
+        stream(algo, frames, PageIds.of(refs), PagingParams.DEFAULT, summaryOnly, os);
+    }
 
-        int[] mem = new int[frames];
-        Arrays.fill(mem, -1);
-        int faults = 0;
-
-        for (int i = 0; i < refs.size(); i++) {
-            int r = refs.get(i);
-            boolean hit = contains(mem, r);
-
-            if (!hit) {
-                int emptyIndex = indexOf(mem, -1);
-                if (emptyIndex != -1) {
-                    mem[emptyIndex] = r;
-                } else {
-                    // 각 프레임에 들어있는 페이지가 "다음에 언제" 다시 사용되는지 확인
-                    int victimIdx = 0;
-                    int farthestNextUse = -1;
-
-                    for (int f = 0; f < frames; f++) {
-                        int page = mem[f];
-                        int nextUse = findNextUse(refs, i + 1, page); // 없다면 -1
-                        if (nextUse == -1) {
-                            // 앞으로 다시 안 쓰이면 바로 희생 페이지로
-                            victimIdx = f;
-                            farthestNextUse = Integer.MAX_VALUE;
-                            break;
-                        }
-                        if (nextUse > farthestNextUse) {
-                            farthestNextUse = nextUse;
-                            victimIdx = f;
+    void stream(String algo, int frames, PageIds ids, PagingParams params, boolean summaryOnly, OutputStream os) throws IOException {
+        PageReplacementPolicies.get(algo); // 헤더를 쓰기 전에 이름 검사
+
+        try (NdjsonWriter w = new NdjsonWriter(os)) {
+            w.begin();
+            w.field("algo", PageReplacementPolicies.name(algo));
+            w.field("frames", frames);
+            w.field("refs", ids.length());
+            w.end();
+
+            PageStepListener listener = PageStepListener.NONE;
+            if (!summaryOnly) {
+                int[] index = {0};
+                listener = new PageStepListener() {
+                    @Override
+                    public void step(int ref, boolean fault, int slot, int out, int[] mem) {
+                        w.begin();
+                        w.field("i", index[0]++);
+                        w.field("ref", ref);
+                        w.field("fault", fault);
+                        if (fault) {
+                            w.field("slot", slot);
+                            w.field("in", ref);
+                            w.field("out", out);
                         }
+                        w.end();
                     }
 
-                    mem[victimIdx] = r;
-                }
-                faults++;
+                    // Working-Set / PFF 가 비운 프레임: 해당 스텝 줄보다 먼저 { "i": 5, "release": 2, "out": 7 }
+                    @Override
+                    public void released(int slot, int page) {
+                        w.begin();
+                        w.field("i", index[0]);
+                        w.field("release", slot);
+                        w.field("out", page);
+                        w.end();
+                    }
+                };
             }
+            int faults = simulate(algo, frames, ids, params, listener);
 
-            Map<String, Object> step = new LinkedHashMap<>();
-            step.put("ref", r);
-            step.put("frame", copy(mem));
-            step.put("fault", !hit);
-            steps.add(step);
+            w.begin();
+            w.field("faults", faults);
+            w.end();
         }
-
-        return Map.of("steps", steps, "faults", faults);
     }
 
-    // ====== 공용 유틸 메서드 ======
+    static PagingParams params(PagingReq req) {
+        return PagingParams.of(req.window, req.pffInterval, req.writes);
+    }
 
-    private boolean contains(int[] arr, int x) {
-        for (int v : arr) if (v == x) return true;
-        return false;
+    /**
+     * 모든 알고리즘이 같이 쓰는 드라이버 루프(PagingDriver)로 참조열 전체를 돌리고 fault 수를 돌려줍니다.
+     */
+    int simulate(String algo, int frames, PageIds ids, PagingParams params, PageStepListener listener) {
+        return simulate(algo, frames, ids, params, listener, null);
     }
 
-    private int indexOf(int[] arr, int x) {
-        for (int i = 0; i < arr.length; i++) if (arr[i] == x) return i;
-        return -1;
+    /**
+     * scratch 가 있으면 드라이버 배열을 거기서 빌립니다. (배치 채점처럼 한 스레드가 작은 시나리오를 연달아 돌릴 때)
+     */
+    int simulate(String algo, int frames, PageIds ids, PagingParams params, PageStepListener listener, WorkerScratch scratch) {
+        PageReplacementPolicy.Factory factory = PageReplacementPolicies.get(algo);
+        if (frames <= 0) {
+            return 0;
+        }
+        PageReplacementPolicy policy = factory.create(frames, ids, params);
+        return new PagingDriver(policy, frames, ids, params, scratch).run(0, ids.length(), listener);
     }
 
+    // ====== 공용 유틸 메서드 ======
+
     private List<Integer> copy(int[] arr) {
         List<Integer> out = new ArrayList<>(arr.length);
         for (int v : arr) out.add(v);
         return out;
     }
-
-    private int findNextUse(List<Integer> refs, int startIdx, int targetPage) {
-        for (int i = startIdx; i < refs.size(); i++) {
-            if (Objects.equals(refs.get(i), targetPage)) {
-                return i;
-            }
-        }
-        return -1; // 다시 사용되지 않음
-    }
 }
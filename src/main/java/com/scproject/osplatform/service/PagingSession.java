@@ -0,0 +1,182 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.PagingReq;
+
+import java.util.*;
+
+/**
+ * 참조열을 조금씩 고쳐 가며 다시 돌리는 페이징 세션.
+ *
+ * 실행하면서 K 스텝마다 드라이버 체크포인트(프레임 크기 배열 + 정책 복사본)를 남기고,
+ * 스텝별로 "fault 여부"와 "그 스텝이 끝난 뒤 프레임 내용의 해시"만 저장해 둡니다.
+ * 다시 돌릴 때는
+ *  - 이전 입력과 처음 달라지는 위치(참조 또는 쓰기 비트)를 찾고
+ *  - 그 위치 이하의 마지막 체크포인트부터 이어서 돌리며
+ *  - (참조, fault, 프레임 해시) 가 이전과 다른 스텝만 돌려줍니다.
+ * 알고리즘 / frames / window / pffInterval 이 바뀌면 처음부터 돌리고 모든 스텝을 돌려줍니다.
+ * OPT 는 앞으로의 참조열을 보므로 체크포인트 없이 항상 처음부터 돌립니다. (돌려주는 건 여전히 달라진 스텝만)
+ */
+final class PagingSession {
+
+    static final int DEFAULT_CHECKPOINT_EVERY = 1024;
+    // 참조열이 아주 길면 간격을 넓혀서 체크포인트 수를 이 이하로
+    static final int MAX_CHECKPOINTS = 1024;
+    // 세션은 참조열과 스텝별 해시를 계속 들고 있으므로 한 번에 돌리는 /paging 보다 훨씬 짧게 제한 (스텝당 약 12바이트)
+    static final int MAX_REFS = 200_000;
+
+    private String algo;
+    private int frames;
+    private PagingParams params;
+    private int[] refs = new int[0];
+    private long[] hash = new long[0];   // 스텝 i 가 끝난 뒤 프레임 내용의 해시 (프레임 번호 + 페이지 쌍의 XOR)
+    private long[] faultBits = PackedBits.of(0);
+    private int faults;
+    private final List<PagingDriver.Checkpoint> checkpoints = new ArrayList<>(); // time 오름차순
+
+    /**
+     * 반환 형태:
+     * {
+     *   "faults": 12,
+     *   "length": 20,                 // 새 참조열 길이 (이전보다 짧아졌으면 그 뒤 스텝은 지움)
+     *   "firstChange": 14,            // 입력이 처음 달라진 위치 (첫 실행 / 설정 변경이면 0, 같으면 length)
+     *   "resumedFrom": 12,            // 이어서 돌리기 시작한 체크포인트 위치
+     *   "changedCount": 3,
+     *   "steps": [ { "i": 14, "ref": 2, "frame": [7,2,1], "fault": true }, ... ]  // 달라진 스텝만 (summaryOnly 면 생략)
+     * }
+     */
+    synchronized Map<String, Object> run(PagingReq req) {
+        PageReplacementPolicy.Factory factory = PageReplacementPolicies.get(req.algo);
+        if (req.frames <= 0) throw new IllegalArgumentException("frames 는 1 이상이어야 합니다.");
+        int every = req.checkpointEvery == null ? DEFAULT_CHECKPOINT_EVERY : req.checkpointEvery;
+        if (every <= 0) throw new IllegalArgumentException("checkpointEvery 는 1 이상이어야 합니다.");
+        if (req.refs != null && req.refs.size() > MAX_REFS) {
+            throw new IllegalArgumentException("세션 참조열은 최대 " + MAX_REFS + "개까지 가능합니다.");
+        }
+        String name = PageReplacementPolicies.name(req.algo);
+        int[] next = PageIds.toIntArray(req.refs != null ? req.refs : Collections.emptyList());
+        PagingParams p = PagingService.params(req);
+        boolean summaryOnly = Boolean.TRUE.equals(req.summaryOnly);
+        int n = next.length;
+        every = Math.max(every, (n + MAX_CHECKPOINTS - 1) / MAX_CHECKPOINTS);
+
+        boolean sameConfig = algo != null && algo.equals(name) && frames == req.frames
+                && params.window == p.window && params.pffInterval == p.pffInterval;
+        int firstChange = sameConfig ? firstChange(next, p) : 0;
+        if (sameConfig && firstChange == n && n == refs.length) {
+            return result(n, n, n, 0, List.of(), summaryOnly);
+        }
+
+        // firstChange 이하 체크포인트만 유효 (체크포인트 t 는 참조 [0, t) 만 보고 만든 상태)
+        if (!sameConfig) checkpoints.clear();
+        while (!checkpoints.isEmpty() && checkpoints.get(checkpoints.size() - 1).time > firstChange) {
+            checkpoints.remove(checkpoints.size() - 1);
+        }
+        PagingDriver.Checkpoint cp = checkpoints.isEmpty() ? null : checkpoints.get(checkpoints.size() - 1);
+        int from = cp == null ? 0 : cp.time;
+
+        PageIds ids = PageIds.of(next);
+        PagingDriver driver = cp == null
+                ? new PagingDriver(factory.create(req.frames, ids, p), req.frames, ids, p, null)
+                : PagingDriver.resume(cp, ids, p);
+
+        long[] newHash = Arrays.copyOf(hash, n);
+        long[] newFaults = Arrays.copyOf(faultBits, PackedBits.of(n).length);
+        PackedBits.clearRange(newFaults, from, n);
+        List<Map<String, Object>> steps = new ArrayList<>();
+        int[] changed = {0};
+
+        int[] oldRefs = refs;
+        long[] oldHash = hash;
+        long[] oldFaults = faultBits;
+        PageStepListener listener = new PageStepListener() {
+            int i = from;
+            long h = from > 0 ? oldHash[from - 1] : 0;
+
+            @Override
+            public void step(int ref, boolean fault, int slot, int out, int[] mem) {
+                if (fault) {
+                    if (out != -1) h ^= cell(slot, out);
+                    h ^= cell(slot, ref);
+                    PackedBits.set(newFaults, i);
+                }
+                newHash[i] = h;
+                // 체크포인트부터 firstChange 전까지는 (OPT 가 아니면) 당연히 같고 비교도 싸므로 구분 없이 비교
+                if ((!sameConfig || i >= oldRefs.length || oldRefs[i] != ref
+                        || oldHash[i] != h || PackedBits.get(oldFaults, i) != fault)) {
+                    changed[0]++;
+                    if (!summaryOnly) steps.add(stepMap(i, ref, fault, mem));
+                }
+                i++;
+            }
+
+            @Override
+            public void released(int slot, int page) {
+                h ^= cell(slot, page);
+            }
+        };
+
+        int total = driver.faultsSoFar();
+        for (int pos = from; pos < n; ) {
+            int end = (int) Math.min(n, ((long) pos / every + 1) * every);
+            total = driver.run(pos, end, listener);
+            pos = end;
+            if (pos < n) {
+                PagingDriver.Checkpoint c = driver.checkpoint(pos);
+                if (c == null) {
+                    // 이어서 돌릴 수 없는 정책 (OPT): 나머지는 끊지 않고 한 번에
+                    total = driver.run(pos, n, listener);
+                    break;
+                }
+                checkpoints.add(c);
+            }
+        }
+
+        algo = name;
+        frames = req.frames;
+        params = p;
+        refs = next;
+        hash = newHash;
+        faultBits = newFaults;
+        faults = total;
+        return result(n, firstChange, from, changed[0], steps, summaryOnly);
+    }
+
+    private int firstChange(int[] next, PagingParams p) {
+        int common = Math.min(refs.length, next.length);
+        for (int i = 0; i < common; i++) {
+            if (refs[i] != next[i] || params.write(i) != p.write(i)) return i;
+        }
+        return common;
+    }
+
+    private Map<String, Object> result(int length, int firstChange, int from, int changed,
+                                       List<Map<String, Object>> steps, boolean summaryOnly) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("faults", faults);
+        out.put("length", length);
+        out.put("firstChange", firstChange);
+        out.put("resumedFrom", from);
+        out.put("changedCount", changed);
+        if (!summaryOnly) out.put("steps", steps);
+        return out;
+    }
+
+    private static Map<String, Object> stepMap(int i, int ref, boolean fault, int[] mem) {
+        List<Integer> frame = new ArrayList<>(mem.length);
+        for (int v : mem) frame.add(v);
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("i", i);
+        m.put("ref", ref);
+        m.put("frame", frame);
+        m.put("fault", fault);
+        return m;
+    }
+
+    // (프레임 번호, 페이지) 한 칸의 해시. 프레임 내용의 해시는 이것들의 XOR 라서 한 칸 바뀔 때 O(1) 로 갱신
+    private static long cell(int slot, int page) {
+        long z = ((long) slot << 32 | (page & 0xffffffffL)) + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,246 @@
+package com.scproject.osplatform.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 큰 참조열을 JSON 대신 바이너리로 받아 int[] 로 읽어 들입니다.
+ *
+ * 지원 인코딩:
+ *   - int32  : 참조 하나당 4바이트 little-endian
+ *   - varint : zigzag + LEB128 (protobuf sint32 와 같은 방식, 작은 페이지 번호는 1바이트)
+ *
+ * 서버에 있는 파일은 sim.trace-dir 아래에서만 읽고, FileChannel 로 메모리 매핑해서 읽습니다.
+ */
+@Service
+public class PagingTraceService {
+
+    private static final int CHUNK = 64 * 1024;
+    private static final long MAP_WINDOW = 1L << 30; // 한 번에 매핑할 최대 크기
+    // 한 트레이스의 최대 참조 수 (서버 생성 워크로드와 같은 한도)
+    static final int MAX_REFS = WorkloadGenerator.MAX_REFS;
+
+    private final Path traceDir;
+
+    public PagingTraceService(@Value("${sim.trace-dir:traces}") String traceDir) {
+        this.traceDir = Path.of(traceDir).toAbsolutePath().normalize();
+    }
+
+    /**
+     * 요청 본문(application/octet-stream)을 읽습니다.
+     * Content-Length 는 클라이언트가 보낸 값이라 버퍼 크기를 잡는 데 쓰지 않고,
+     * 분명히 너무 큰 경우에 본문을 읽기 전에 거절하는 데만 씁니다. 버퍼는 CHUNK 에서 시작해 두 배씩 늘립니다.
+     * @param sizeHint Content-Length (모르면 -1)
+     */
+    public int[] read(String encoding, InputStream in, long sizeHint) throws IOException {
+        boolean varint = isVarint(encoding);
+        // varint 는 참조 하나가 최소 1바이트
+        if (sizeHint > (long) MAX_REFS * (varint ? 5 : 4)) {
+            throw tooLong();
+        }
+        ReadableByteChannel ch = Channels.newChannel(in);
+        ByteBuffer buf = ByteBuffer.allocateDirect(CHUNK).order(ByteOrder.LITTLE_ENDIAN);
+
+        if (varint) {
+            VarintDecoder dec = new VarintDecoder(CHUNK);
+            while (ch.read(buf) != -1) {
+                buf.flip();
+                dec.feed(buf);
+                buf.clear();
+            }
+            return dec.finish();
+        }
+
+        IntArray out = new IntArray(CHUNK / 4);
+        while (ch.read(buf) != -1) {
+            buf.flip();
+            IntBuffer ints = buf.asIntBuffer();
+            out.append(ints);
+            buf.position(buf.position() + ints.capacity() * 4);
+            buf.compact(); // 4바이트에 못 미친 꼬리는 다음 읽기로 넘김
+        }
+        if (buf.position() != 0) {
+            throw new IllegalArgumentException("int32 트레이스 길이가 4바이트 배수가 아닙니다.");
+        }
+        return out.toArray();
+    }
+
+    /**
+     * 가상 주소 트레이스(int64 little-endian)를 읽습니다. 주소 변환 시뮬레이션용
+     * read() 와 같이 버퍼는 CHUNK 에서 시작해 늘리고, 읽는 도중에 MAX_ADDRESSES 를 넘으면 거절합니다.
+     * @param sizeHint Content-Length (모르면 -1)
+     */
+    public long[] readAddresses(InputStream in, long sizeHint) throws IOException {
+        int max = AddressTranslationService.MAX_ADDRESSES;
+        if (sizeHint > (long) max * 8) {
+            throw tooManyAddresses(max);
+        }
+        ReadableByteChannel ch = Channels.newChannel(in);
+        ByteBuffer buf = ByteBuffer.allocateDirect(CHUNK).order(ByteOrder.LITTLE_ENDIAN);
+        long[] out = new long[CHUNK / 8];
+        int size = 0;
+        while (ch.read(buf) != -1) {
+            buf.flip();
+            LongBuffer longs = buf.asLongBuffer();
+            int n = longs.remaining();
+            if (size + n > out.length) {
+                if ((long) size + n > max) throw tooManyAddresses(max);
+                out = Arrays.copyOf(out, (int) Math.min(Math.max((long) out.length * 2, (long) size + n), max));
+            }
+            longs.get(out, size, n);
+            size += n;
+            buf.position(buf.position() + n * 8);
+            buf.compact();
+        }
+        if (buf.position() != 0) {
+            throw new IllegalArgumentException("int64 트레이스 길이가 8바이트 배수가 아닙니다.");
+        }
+        return size == out.length ? out : Arrays.copyOf(out, size);
+    }
+
+    private static IllegalArgumentException tooManyAddresses(int max) {
+        return new IllegalArgumentException("주소는 최대 " + max + "개까지 가능합니다.");
+    }
+
+    /**
+     * sim.trace-dir 아래의 파일을 메모리 매핑해서 읽습니다.
+     */
+    public int[] readFile(String file, String encoding) throws IOException {
+        if (file == null || file.isBlank()) {
+            throw new IllegalArgumentException("file 이 비어 있습니다.");
+        }
+        Path path = traceDir.resolve(file).normalize();
+        if (!path.startsWith(traceDir)) {
+            throw new IllegalArgumentException("trace-dir 밖의 파일은 읽을 수 없습니다: " + file);
+        }
+        if (!Files.isRegularFile(path)) {
+            throw new IllegalArgumentException("트레이스 파일이 없습니다: " + file);
+        }
+
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = ch.size();
+            boolean varint = isVarint(encoding);
+            if (!varint && size % 4 != 0) {
+                throw new IllegalArgumentException("int32 트레이스 길이가 4바이트 배수가 아닙니다.");
+            }
+            if (!varint && size / 4 > MAX_REFS) {
+                throw tooLong();
+            }
+
+            VarintDecoder dec = varint ? new VarintDecoder(Math.min(size / 2, MAX_REFS)) : null;
+            IntArray out = varint ? null : new IntArray(size / 4);
+            for (long pos = 0; pos < size; pos += MAP_WINDOW) {
+                MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(MAP_WINDOW, size - pos));
+                map.order(ByteOrder.LITTLE_ENDIAN);
+                if (varint) dec.feed(map);
+                else out.append(map.asIntBuffer());
+            }
+            return varint ? dec.finish() : out.toArray();
+        }
+    }
+
+    private static IllegalArgumentException tooLong() {
+        return new IllegalArgumentException("참조열은 최대 " + MAX_REFS + "개까지 가능합니다.");
+    }
+
+    private boolean isVarint(String encoding) {
+        String enc = encoding == null ? "INT32" : encoding.toUpperCase(Locale.ROOT);
+        switch (enc) {
+            case "INT32":
+                return false;
+            case "VARINT":
+                return true;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 encoding: " + encoding);
+        }
+    }
+
+    /**
+     * 크기가 늘어나는 int 배열 (박싱 없이 모으기용). MAX_REFS 를 넘기면 거절합니다.
+     */
+    private static final class IntArray {
+        private int[] data;
+        private int size;
+
+        IntArray(long capacityHint) {
+            data = new int[(int) Math.min(Math.max(capacityHint, 16), MAX_REFS)];
+        }
+
+        void append(IntBuffer src) {
+            int n = src.remaining();
+            ensure(n);
+            src.get(data, size, n);
+            size += n;
+        }
+
+        void add(int v) {
+            ensure(1);
+            data[size++] = v;
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > data.length) {
+                if ((long) size + extra > MAX_REFS) throw tooLong();
+                long grown = Math.max((long) data.length * 2, (long) size + extra);
+                data = Arrays.copyOf(data, (int) Math.min(grown, MAX_REFS));
+            }
+        }
+
+        int[] toArray() {
+            return size == data.length ? data : Arrays.copyOf(data, size);
+        }
+    }
+
+    /**
+     * zigzag varint 디코더. 버퍼 경계에 걸친 값도 이어서 읽을 수 있도록 상태를 들고 있습니다.
+     */
+    private static final class VarintDecoder {
+        private final IntArray out;
+        private int value;
+        private int shift;
+
+        VarintDecoder(long capacityHint) {
+            out = new IntArray(capacityHint);
+        }
+
+        void feed(ByteBuffer buf) {
+            while (buf.hasRemaining()) {
+                int b = buf.get();
+                if (shift > 28) {
+                    throw new IllegalArgumentException("varint 가 32비트 범위를 넘습니다.");
+                }
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    out.add((value >>> 1) ^ -(value & 1));
+                    value = 0;
+                    shift = 0;
+                } else {
+                    shift += 7;
+                }
+            }
+        }
+
+        int[] finish() {
+            if (shift != 0) {
+                throw new IllegalArgumentException("varint 트레이스가 중간에 끊겼습니다.");
+            }
+            return out.toArray();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.scproject.osplatform.service;
+
+/**
+ * PFF (Page-Fault Frequency) – fault 간격으로 할당 프레임 수를 조절합니다. (가변 할당, frames 는 상한)
+ *
+ * fault 가 났을 때 직전 fault 로부터 τ(pffInterval) 보다 오래 지났으면 (fault 가 드묾)
+ * 직전 fault 이후 한 번도 안 쓰인 페이지를 모두 반납하고, 아니면 (fault 가 잦음) 프레임을 하나 더 씁니다.
+ * 반납 대상은 최근 사용 순서 리스트의 꼬리부터 차례로 나오므로, 반납 하나당 O(1) 입니다.
+ * 상한까지 찼으면 LRU 로 교체합니다.
+ */
+final class PffPolicy implements PageReplacementPolicy {
+
+    private final RecencyList recency;
+    private final int[] lastUse;
+    private final int interval;
+    private int lastFault = -1;
+    private int releaseBefore = -1; // 이 시각 전에 마지막으로 쓰인 프레임 반납 중
+
+    PffPolicy(int frames, PagingParams params) {
+        recency = new RecencyList(frames);
+        lastUse = new int[frames];
+        interval = params.pffInterval;
+    }
+
+    private PffPolicy(PffPolicy o) {
+        recency = o.recency.copy();
+        lastUse = o.lastUse.clone();
+        interval = o.interval;
+        lastFault = o.lastFault;
+        releaseBefore = o.releaseBefore;
+    }
+
+    @Override
+    public void hit(int slot, int page, int time, boolean write) {
+        recency.moveToFront(slot);
+        lastUse[slot] = time;
+    }
+
+    @Override
+    public void faulting(int time) {
+        if (lastFault >= 0 && time - lastFault > interval) releaseBefore = lastFault;
+        lastFault = time;
+    }
+
+    @Override
+    public int release(int time) {
+        if (releaseBefore < 0) return -1;
+        int slot = recency.tail();
+        if (slot == -1 || lastUse[slot] >= releaseBefore) {
+            releaseBefore = -1;
+            return -1;
+        }
+        recency.unlink(slot);
+        return slot;
+    }
+
+    @Override
+    public int victim(int time) {
+        int slot = recency.tail();
+        recency.unlink(slot);
+        return slot;
+    }
+
+    @Override
+    public void loaded(int slot, int page, int time, boolean write) {
+        recency.pushFront(slot);
+        lastUse[slot] = time;
+    }
+
+    @Override
+    public PageReplacementPolicy copy() {
+        return new PffPolicy(this);
+    }
+}
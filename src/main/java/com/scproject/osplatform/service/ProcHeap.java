@@ -0,0 +1,82 @@
+package com.scproject.osplatform.service;
+
+import java.util.Arrays;
+
+/**
+ * 프로세스 번호를 담는 최소 힙 (ready queue 용).
+ * 키가 같으면 번호가 작은 쪽, 즉 먼저 도착한 프로세스가 먼저 나옵니다.
+ */
+final class ProcHeap {
+
+    private long[] keys;
+    private int[] ids;
+    private int size;
+
+    ProcHeap(int capacity) {
+        keys = new long[Math.max(1, capacity)];
+        ids = new int[Math.max(1, capacity)];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int peekId() {
+        return ids[0];
+    }
+
+    long peekKey() {
+        return keys[0];
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    void push(long key, int id) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!less(key, id, keys[parent], ids[parent])) break;
+            keys[i] = keys[parent];
+            ids[i] = ids[parent];
+            i = parent;
+        }
+        keys[i] = key;
+        ids[i] = id;
+    }
+
+    int pop() {
+        int top = ids[0];
+        size--;
+        if (size > 0) {
+            long key = keys[size];
+            int id = ids[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) break;
+                if (child + 1 < size && less(keys[child + 1], ids[child + 1], keys[child], ids[child])) child++;
+                if (!less(keys[child], ids[child], key, id)) break;
+                keys[i] = keys[child];
+                ids[i] = ids[child];
+                i = child;
+            }
+            keys[i] = key;
+            ids[i] = id;
+        }
+        return top;
+    }
+
+    static boolean less(long k1, int id1, long k2, int id2) {
+        return k1 != k2 ? k1 < k2 : id1 < id2;
+    }
+}
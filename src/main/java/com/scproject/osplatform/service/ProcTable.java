@@ -0,0 +1,91 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.SchedulingReq;
+
+import java.util.*;
+
+/**
+ * 프로세스 목록을 도착 시간 순으로 정렬해서 배열로 펼쳐 둔 것.
+ *
+ * 정렬된 위치가 곧 프로세스 번호(id)이고, 엔진들은 pid 문자열 대신
+ * 이 번호로 int[] 를 인덱싱합니다. 도착 시간이 같으면 입력 순서를 유지합니다.
+ */
+final class ProcTable {
+
+    final int n;
+    final String[] pid;
+    final int[] arrival;
+    final int[] burst;
+    final int[] priority;
+
+    private ProcTable(int n) {
+        this(new String[n], new int[n], new int[n], new int[n]);
+    }
+
+    private ProcTable(String[] pid, int[] arrival, int[] burst, int[] priority) {
+        this.n = pid.length;
+        this.pid = pid;
+        this.arrival = arrival;
+        this.burst = burst;
+        this.priority = priority;
+    }
+
+    static ProcTable of(List<SchedulingReq.Proc> processes) {
+        List<SchedulingReq.Proc> procs = new ArrayList<>(processes);
+        procs.sort(Comparator.comparingInt(p -> p.arrival)); // 안정 정렬
+
+        ProcTable t = new ProcTable(procs.size());
+        for (int i = 0; i < t.n; i++) {
+            SchedulingReq.Proc p = procs.get(i);
+            t.pid[i] = p.pid;
+            t.arrival[i] = p.arrival;
+            t.burst[i] = p.burst;
+            t.priority[i] = p.priority;
+        }
+        return t;
+    }
+
+    /**
+     * 이미 도착 시간 순으로 만들어진 배열 (워크로드 생성기). 정렬 / 복사 없이 그대로 씁니다.
+     */
+    static ProcTable sorted(String[] pid, int[] arrival, int[] burst, int[] priority) {
+        for (int i = 1; i < arrival.length; i++) {
+            if (arrival[i] < arrival[i - 1]) throw new IllegalArgumentException("도착 시간 순이 아닙니다.");
+        }
+        return new ProcTable(pid, arrival, burst, priority);
+    }
+
+    /**
+     * 평균 대기시간 / 반환시간 / 응답시간 계산
+     */
+    Map<String, Object> metrics(int[] firstStart, int[] endTime) {
+        if (n == 0) {
+            return Map.of(
+                    "avgWaiting", 0.0,
+                    "avgTurnaround", 0.0,
+                    "avgResponse", 0.0
+            );
+        }
+
+        double sumW = 0, sumT = 0, sumR = 0;
+        for (int i = 0; i < n; i++) {
+            int turnaround = endTime[i] - arrival[i];
+            int waiting = turnaround - burst[i];
+            int response = firstStart[i] - arrival[i];
+
+            sumW += waiting;
+            sumT += turnaround;
+            sumR += response;
+        }
+
+        return Map.of(
+                "avgWaiting", round(sumW / n),
+                "avgTurnaround", round(sumT / n),
+                "avgResponse", round(sumR / n)
+        );
+    }
+
+    private static double round(double v) {
+        return Math.round(v * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,79 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.QuantumSweepReq;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+@Service
+public class QuantumSweepService {
+
+    // 한 요청에서 평가할 수 있는 최대 퀀텀 개수
+    private static final int MAX_POINTS = 1000;
+
+    private final SchedulingService schedulingService;
+    private final ForkJoinPool pool;
+
+    public QuantumSweepService(SchedulingService schedulingService, ForkJoinPool simulationPool) {
+        this.schedulingService = schedulingService;
+        this.pool = simulationPool;
+    }
+
+    /**
+     * 같은 프로세스 집합에 대해 퀀텀 from..to (step 간격) 을 전부 돌려 지표 곡선만 돌려줍니다.
+     * 정렬/인코딩은 한 번만 하고, 퀀텀별 시뮬레이션은 코어 수만큼 병렬로 실행합니다.
+     * 간트차트는 만들지 않고 조각 수만 세서 문맥 교환 횟수(= 조각 수 - 1)로 씁니다.
+     *
+     * 반환 형태 (모든 배열은 같은 길이, 같은 index 가 같은 퀀텀):
+     * {
+     *   "quantum": [1, 2, 3, ...],
+     *   "avgWaiting": [...], "avgTurnaround": [...], "avgResponse": [...],
+     *   "contextSwitches": [...]
+     * }
+     */
+    public Map<String, Object> run(QuantumSweepReq req) {
+        String algo = req.algo == null ? "RR" : req.algo.toUpperCase(Locale.ROOT);
+        if (!"RR".equals(algo) && !"MLFQ".equals(algo)) {
+            throw new IllegalArgumentException("퀀텀 스윕은 RR / MLFQ 만 지원합니다: " + req.algo);
+        }
+        int step = (req.step == null || req.step <= 0) ? 1 : req.step;
+        int from = Math.max(1, req.from);
+        int to = Math.max(from, req.to);
+        long points = ((long) to - from) / step + 1;
+        if (points > MAX_POINTS) {
+            throw new IllegalArgumentException("퀀텀은 한 번에 최대 " + MAX_POINTS + "개까지 평가할 수 있습니다.");
+        }
+        int levels = (req.levels == null || req.levels <= 0) ? 3 : req.levels;
+
+        ProcTable t = ProcTable.of(req.processes != null ? req.processes : Collections.emptyList());
+
+        int count = (int) points;
+        int[] quantum = new int[count];
+        double[] avgWaiting = new double[count];
+        double[] avgTurnaround = new double[count];
+        double[] avgResponse = new double[count];
+        int[] contextSwitches = new int[count];
+
+        pool.submit(() -> IntStream.range(0, count).parallel().forEach(i -> {
+            int q = from + i * step;
+            int[] segments = {0};
+            Map<String, Object> m = schedulingService.simulate(t, algo, q, 0, levels, (pid, start, end) -> segments[0]++);
+            quantum[i] = q;
+            avgWaiting[i] = (double) m.get("avgWaiting");
+            avgTurnaround[i] = (double) m.get("avgTurnaround");
+            avgResponse[i] = (double) m.get("avgResponse");
+            contextSwitches[i] = Math.max(0, segments[0] - 1);
+        })).join();
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("algo", algo);
+        out.put("quantum", quantum);
+        out.put("avgWaiting", avgWaiting);
+        out.put("avgTurnaround", avgTurnaround);
+        out.put("avgResponse", avgResponse);
+        out.put("contextSwitches", contextSwitches);
+        return out;
+    }
+}
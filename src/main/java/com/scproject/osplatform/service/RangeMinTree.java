@@ -0,0 +1,60 @@
+package com.scproject.osplatform.service;
+
+/**
+ * 구간 더하기 / 구간 최솟값 세그먼트 트리 (lazy propagation).
+ * 구간은 모두 [from, to) 반열린 구간입니다.
+ */
+final class RangeMinTree {
+
+    private final int n;
+    private final long[] min;
+    private final long[] lazy;
+
+    RangeMinTree(long[] values) {
+        n = Math.max(1, values.length);
+        min = new long[4 * n];
+        lazy = new long[4 * n];
+        if (values.length > 0) build(1, 0, n, values);
+    }
+
+    void add(int from, int to, long delta) {
+        if (from < to) add(1, 0, n, from, to, delta);
+    }
+
+    // 빈 구간이면 Long.MAX_VALUE
+    long min(int from, int to) {
+        return from < to ? min(1, 0, n, from, to) : Long.MAX_VALUE;
+    }
+
+    private void build(int node, int lo, int hi, long[] values) {
+        if (hi - lo == 1) {
+            min[node] = values[lo];
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        build(2 * node, lo, mid, values);
+        build(2 * node + 1, mid, hi, values);
+        min[node] = Math.min(min[2 * node], min[2 * node + 1]);
+    }
+
+    private void add(int node, int lo, int hi, int from, int to, long delta) {
+        if (to <= lo || hi <= from) return;
+        if (from <= lo && hi <= to) {
+            min[node] += delta;
+            lazy[node] += delta;
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        add(2 * node, lo, mid, from, to, delta);
+        add(2 * node + 1, mid, hi, from, to, delta);
+        min[node] = Math.min(min[2 * node], min[2 * node + 1]) + lazy[node];
+    }
+
+    private long min(int node, int lo, int hi, int from, int to) {
+        if (to <= lo || hi <= from) return Long.MAX_VALUE;
+        if (from <= lo && hi <= to) return min[node];
+        int mid = (lo + hi) >>> 1;
+        long child = Math.min(min(2 * node, lo, mid, from, to), min(2 * node + 1, mid, hi, from, to));
+        return child == Long.MAX_VALUE ? child : child + lazy[node];
+    }
+}
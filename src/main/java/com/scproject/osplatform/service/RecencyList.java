@@ -0,0 +1,51 @@
+package com.scproject.osplatform.service;
+
+/**
+ * 프레임 인덱스를 노드로 쓰는 이중 연결 리스트 (head = 가장 최근, tail = 가장 오래됨)
+ */
+final class RecencyList {
+    private final int[] prev;
+    private final int[] next;
+    private int head = -1;
+    private int tail = -1;
+
+    RecencyList(int size) {
+        prev = new int[size];
+        next = new int[size];
+    }
+
+    private RecencyList(RecencyList o) {
+        prev = o.prev.clone();
+        next = o.next.clone();
+        head = o.head;
+        tail = o.tail;
+    }
+
+    RecencyList copy() {
+        return new RecencyList(this);
+    }
+
+    int tail() {
+        return tail;
+    }
+
+    void pushFront(int slot) {
+        prev[slot] = -1;
+        next[slot] = head;
+        if (head != -1) prev[head] = slot;
+        head = slot;
+        if (tail == -1) tail = slot;
+    }
+
+    void unlink(int slot) {
+        int p = prev[slot], n = next[slot];
+        if (p != -1) next[p] = n; else head = n;
+        if (n != -1) prev[n] = p; else tail = p;
+    }
+
+    void moveToFront(int slot) {
+        if (head == slot) return;
+        unlink(slot);
+        pushFront(slot);
+    }
+}
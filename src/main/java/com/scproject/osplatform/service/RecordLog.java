@@ -0,0 +1,374 @@
+package com.scproject.osplatform.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/**
+ * 저장 기록의 디스크 영속화 (외부 DB 없이 로컬 파일만 사용).
+ *
+ * - 추가/삭제는 append-only 세그먼트 파일(log-N.seg)에 한 항목씩 씁니다.
+ *   항목 = [길이 int][CRC32 int][op byte][내용], PUT 의 내용은 기록(요약) JSON, DEL 은 id,
+ *   PAYLOAD 는 [SHA-256 32바이트][압축된 본문] 이며 같은 본문은 처음 한 번만 씁니다.
+ * - 쓰기는 전용 스레드 하나가 큐에 쌓인 항목들을 모아서 한 번에 write + force 합니다 (group commit).
+ *   요청 스레드는 자기 항목이 들어간 배치의 fsync 만 기다리므로, 동시에 저장이 몰려도 fsync 는 배치당 한 번입니다.
+ * - 항목이 snapshotEvery 개 쌓이면 새 세그먼트로 넘어가고 현재 상태 전체를 snapshot.dat 에 쓴 뒤
+ *   그 이전 세그먼트를 지웁니다 (compaction). 스냅샷은 임시 파일에 쓰고 rename 하므로 중간에 죽어도 안전합니다.
+ * - 시작할 때는 스냅샷을 mmap 으로 읽고, 그 뒤 세그먼트들을 다시 적용합니다.
+ *   마지막 항목이 반쯤 쓰인 채로 죽었으면 (길이/CRC 불일치) 그 지점부터 잘라냅니다.
+ */
+final class RecordLog implements Closeable {
+
+    private static final int MAGIC = 0x4F535253; // "OSRS"
+    private static final int VERSION = 1;
+    private static final byte OP_PUT = 1;
+    private static final byte OP_DEL = 2;
+    private static final byte OP_PAYLOAD = 3;
+    private static final int MAX_BATCH = 1024;
+    private static final long MAP_WINDOW = 1L << 30;
+    private static final int REPLAY_CHUNK = 4096;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> RECORD = new TypeReference<>() {};
+
+    /** compaction 때 RecordStore 가 넘겨 주는 시점 일관된 상태 */
+    record Snapshot(int nextSeq, Collection<Map<String, Object>> records, Map<String, byte[]> payloads) {
+    }
+
+    private record Pending(ByteBuffer entry, CompletableFuture<Void> done) {
+    }
+
+    private static final Pending STOP = new Pending(null, null);
+
+    private final Path dir;
+    private final int snapshotEvery;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+
+    private Supplier<Snapshot> snapshotSource;
+    private FileChannel segment;
+    private long segmentNo;
+    private long sinceSnapshot;
+    private Thread writer;
+
+    RecordLog(Path dir, int snapshotEvery) {
+        this.dir = dir;
+        this.snapshotEvery = Math.max(1, snapshotEvery);
+    }
+
+    /**
+     * 스냅샷 + 세그먼트를 읽어 기록을 복원합니다. 반환값은 다음에 쓸 seq.
+     * 다 읽은 뒤 새 세그먼트를 열고 쓰기 스레드를 시작합니다.
+     */
+    int open(Consumer<Map<String, Object>> onPut, IntConsumer onDelete, BiConsumer<String, byte[]> onPayload,
+             Supplier<Snapshot> snapshotSource) {
+        this.snapshotSource = snapshotSource;
+        try {
+            Files.createDirectories(dir);
+            int[] nextSeq = {1};
+            Consumer<Map<String, Object>> put = rec -> {
+                nextSeq[0] = Math.max(nextSeq[0], ((Number) rec.get("id")).intValue() + 1);
+                onPut.accept(rec);
+            };
+
+            long firstSegment = 0;
+            Path snap = dir.resolve("snapshot.dat");
+            if (Files.exists(snap)) {
+                try (FileChannel ch = FileChannel.open(snap, StandardOpenOption.READ)) {
+                    ByteBuffer head = ByteBuffer.allocate(20);
+                    while (head.hasRemaining() && ch.read(head) >= 0) { }
+                    head.flip();
+                    if (head.remaining() < 20 || head.getInt() != MAGIC || head.getInt() != VERSION) {
+                        throw new IOException("snapshot.dat 형식이 올바르지 않습니다.");
+                    }
+                    firstSegment = head.getLong();
+                    nextSeq[0] = head.getInt();
+                    replay(ch, 20, put, onDelete, onPayload);
+                }
+            }
+
+            // 세그먼트에서 다시 적용한 항목 수만큼은 아직 스냅샷에 없으므로 compaction 주기에 포함
+            Consumer<Map<String, Object>> segPut = rec -> {
+                sinceSnapshot++;
+                put.accept(rec);
+            };
+            IntConsumer segDelete = id -> {
+                sinceSnapshot++;
+                onDelete.accept(id);
+            };
+            BiConsumer<String, byte[]> segPayload = (hash, deflated) -> {
+                sinceSnapshot++;
+                onPayload.accept(hash, deflated);
+            };
+            List<Long> segments = segmentNumbers();
+            for (long no : segments) {
+                if (no < firstSegment) {
+                    Files.deleteIfExists(segmentPath(no)); // 스냅샷에 이미 반영된 세그먼트
+                    continue;
+                }
+                try (FileChannel ch = FileChannel.open(segmentPath(no), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    long valid = replay(ch, 0, segPut, segDelete, segPayload);
+                    if (valid < ch.size()) ch.truncate(valid); // 반쯤 쓰인 꼬리 제거
+                }
+            }
+
+            // 마지막 세그먼트가 있으면 (잘린 꼬리를 정리한 뒤) 그대로 이어서 씀
+            segmentNo = Math.max(firstSegment, segments.isEmpty() ? 0 : segments.get(segments.size() - 1));
+            segment = openSegment(segmentNo);
+
+            writer = new Thread(this::writeLoop, "record-log-writer");
+            writer.setDaemon(true);
+            writer.start();
+            return nextSeq[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 직렬화는 요청 스레드에서 미리 해 두고, 쓰기 스레드는 모아서 쓰기만 함
+    ByteBuffer putEntry(Map<String, Object> rec) {
+        try {
+            return entry(OP_PUT, MAPPER.writeValueAsBytes(rec));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    ByteBuffer deleteEntry(int id) {
+        return entry(OP_DEL, ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(id).array());
+    }
+
+    ByteBuffer payloadEntry(String hash, byte[] deflated) {
+        return entry(OP_PAYLOAD, ByteBuffer.allocate(32 + deflated.length)
+                .put(HexFormat.of().parseHex(hash)).put(deflated).array());
+    }
+
+    /** 항목을 큐에 넣고, 그 항목이 들어간 배치가 fsync 되면 완료되는 future 를 돌려줍니다. */
+    CompletableFuture<Void> append(ByteBuffer entry) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        queue.add(new Pending(entry, done));
+        return done;
+    }
+
+    @Override
+    public void close() {
+        if (writer == null) return;
+        queue.add(STOP);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    // ===== 쓰기 스레드 =====
+
+    private void writeLoop() {
+        List<Pending> batch = new ArrayList<>(MAX_BATCH);
+        boolean running = true;
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+            if (batch.remove(STOP)) running = false;
+
+            commit(batch);
+            batch.clear();
+            if (sinceSnapshot >= snapshotEvery || (!running && sinceSnapshot > 0)) {
+                try {
+                    compact();
+                } catch (IOException | RuntimeException e) {
+                    // 스냅샷 실패는 기존 세그먼트가 남아 있으므로 데이터 손실 없음 -> 다음 기회에 재시도
+                }
+            }
+        }
+        try {
+            segment.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void commit(List<Pending> batch) {
+        if (batch.isEmpty()) return;
+        ByteBuffer[] bufs = new ByteBuffer[batch.size()];
+        for (int i = 0; i < bufs.length; i++) bufs[i] = batch.get(i).entry();
+        try {
+            long remaining = 0;
+            for (ByteBuffer b : bufs) remaining += b.remaining();
+            while (remaining > 0) remaining -= segment.write(bufs);
+            segment.force(false);
+            sinceSnapshot += bufs.length;
+            for (Pending p : batch) p.done().complete(null);
+        } catch (IOException e) {
+            for (Pending p : batch) p.done().completeExceptionally(new UncheckedIOException(e));
+        }
+    }
+
+    private void compact() throws IOException {
+        // 1) 새 세그먼트로 넘어감: 이후 항목은 새 세그먼트에, 스냅샷은 그 직전까지의 상태 이상을 담음
+        Snapshot snap = snapshotSource.get();
+        long newNo = segmentNo + 1;
+        FileChannel next = openSegment(newNo);
+        segment.close();
+        segment = next;
+        segmentNo = newNo;
+        sinceSnapshot = 0;
+
+        // 2) 임시 파일에 스냅샷을 쓰고 원자적으로 교체
+        Path tmp = dir.resolve("snapshot.tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer head = ByteBuffer.allocate(20);
+            head.putInt(MAGIC).putInt(VERSION).putLong(newNo).putInt(snap.nextSeq()).flip();
+            ch.write(head);
+            // 본문을 먼저 써야 복원할 때 기록이 가리키는 본문이 이미 있음
+            for (Map.Entry<String, byte[]> p : snap.payloads().entrySet()) {
+                ByteBuffer e = payloadEntry(p.getKey(), p.getValue());
+                while (e.hasRemaining()) ch.write(e);
+            }
+            for (Map<String, Object> rec : snap.records()) {
+                ByteBuffer e = entry(OP_PUT, MAPPER.writeValueAsBytes(rec));
+                while (e.hasRemaining()) ch.write(e);
+            }
+            ch.force(true);
+        }
+        Files.move(tmp, dir.resolve("snapshot.dat"), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        // 3) 스냅샷에 다 반영된 이전 세그먼트 삭제
+        for (long no : segmentNumbers()) {
+            if (no < newNo) Files.deleteIfExists(segmentPath(no));
+        }
+    }
+
+    // ===== 파일 형식 =====
+
+    private static ByteBuffer entry(byte op, byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(op);
+        crc.update(body);
+        ByteBuffer b = ByteBuffer.allocate(9 + body.length);
+        b.putInt(1 + body.length).putInt((int) crc.getValue()).put(op).put(body).flip();
+        return b;
+    }
+
+    /**
+     * ch 의 start 부터 항목들을 mmap 으로 읽어 적용하고, 마지막으로 온전했던 항목의 끝 위치를 돌려줍니다.
+     * 파일이 커도 MAP_WINDOW 단위로 나눠 매핑하며, 창 경계에 걸친 항목은 그 항목 시작부터 다시 매핑합니다.
+     * 시작 시간의 대부분은 JSON 파싱이라 REPLAY_CHUNK 개씩 모아 병렬로 파싱하고, 적용은 파일 순서대로 합니다.
+     */
+    private static long replay(FileChannel ch, long start, Consumer<Map<String, Object>> onPut, IntConsumer onDelete,
+                               BiConsumer<String, byte[]> onPayload) throws IOException {
+        long size = ch.size();
+        long pos = start;
+        CRC32 crc = new CRC32();
+        List<byte[]> bodies = new ArrayList<>(REPLAY_CHUNK);
+        List<Byte> ops = new ArrayList<>(REPLAY_CHUNK);
+        try {
+            while (pos < size) {
+                long window = Math.min(MAP_WINDOW, size - pos);
+                MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_ONLY, pos, window);
+                int consumed = 0;
+                while (map.remaining() >= 8) {
+                    int at = map.position();
+                    int len = map.getInt();
+                    int sum = map.getInt();
+                    if (len < 1 || len > map.remaining()) {
+                        map.position(at);
+                        break;
+                    }
+                    byte[] body = new byte[len - 1];
+                    byte op = map.get();
+                    map.get(body);
+                    crc.reset();
+                    crc.update(op);
+                    crc.update(body);
+                    if ((int) crc.getValue() != sum || op < OP_PUT || op > OP_PAYLOAD) {
+                        return pos + at; // 깨진 항목: 여기까지만 유효
+                    }
+                    bodies.add(body);
+                    ops.add(op);
+                    if (bodies.size() == REPLAY_CHUNK) apply(bodies, ops, onPut, onDelete, onPayload);
+                    consumed = map.position();
+                }
+                if (consumed == 0) return pos; // 창 안에 온전한 항목이 하나도 없음 -> 잘린 꼬리
+                pos += consumed;
+            }
+            return pos;
+        } finally {
+            apply(bodies, ops, onPut, onDelete, onPayload);
+        }
+    }
+
+    private static void apply(List<byte[]> bodies, List<Byte> ops, Consumer<Map<String, Object>> onPut,
+                              IntConsumer onDelete, BiConsumer<String, byte[]> onPayload) {
+        List<Map<String, Object>> parsed = IntStream.range(0, bodies.size()).parallel()
+                .mapToObj(i -> ops.get(i) == OP_PUT ? parse(bodies.get(i)) : null)
+                .toList();
+        for (int i = 0; i < bodies.size(); i++) {
+            byte op = ops.get(i);
+            byte[] body = bodies.get(i);
+            if (op == OP_PUT) {
+                onPut.accept(parsed.get(i));
+            } else if (op == OP_DEL) {
+                onDelete.accept(ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN).getInt());
+            } else {
+                onPayload.accept(HexFormat.of().formatHex(body, 0, 32), Arrays.copyOfRange(body, 32, body.length));
+            }
+        }
+        bodies.clear();
+        ops.clear();
+    }
+
+    private static Map<String, Object> parse(byte[] body) {
+        try {
+            return MAPPER.readValue(body, RECORD);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Long> segmentNumbers() throws IOException {
+        List<Long> out = new ArrayList<>();
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir, "log-*.seg")) {
+            for (Path p : ds) {
+                String name = p.getFileName().toString();
+                try {
+                    out.add(Long.parseLong(name.substring(4, name.length() - 4)));
+                } catch (NumberFormatException ignored) {
+                }
+            }
+        }
+        Collections.sort(out);
+        return out;
+    }
+
+    private Path segmentPath(long no) {
+        return dir.resolve("log-" + no + ".seg");
+    }
+
+    private FileChannel openSegment(long no) throws IOException {
+        return FileChannel.open(segmentPath(no), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,142 @@
+package com.scproject.osplatform.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 기록 본문(payload) 저장소: 내용 해시(SHA-256)로 중복을 제거하고 deflate 로 압축해 둡니다.
+ *
+ * 수업 중에 같은 예제 패턴을 그대로 저장하는 경우가 많아서, 같은 본문은 한 벌만 두고
+ * 참조 수(refs)를 셉니다. 마지막 기록이 지워지면 본문도 같이 사라집니다.
+ * 키 순서가 달라도 같은 해시가 나오도록 키를 정렬해서 직렬화합니다.
+ */
+final class RecordPayloads {
+
+    private static final ObjectMapper CANONICAL = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+    private static final TypeReference<Map<String, Object>> BODY = new TypeReference<>() {};
+
+    private record Payload(byte[] deflated, int refs) {
+    }
+
+    /** 해시와 직렬화/압축 결과. 락 밖에서 미리 만들어 둡니다. */
+    record Encoded(String hash, byte[] deflated) {
+    }
+
+    private final Map<String, Payload> payloads = new ConcurrentHashMap<>();
+
+    static Encoded encode(Map<String, Object> body) {
+        try {
+            byte[] json = CANONICAL.writeValueAsBytes(body);
+            String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+            return new Encoded(hash, deflate(json));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 참조를 하나 늘립니다. 처음 보는 본문이면 onNew 를 (해시별로 한 번만) 호출합니다.
+     */
+    void retain(Encoded e, BiConsumer<String, byte[]> onNew) {
+        payloads.compute(e.hash(), (h, p) -> {
+            if (p != null) return new Payload(p.deflated(), p.refs() + 1);
+            onNew.accept(h, e.deflated());
+            return new Payload(e.deflated(), 1);
+        });
+    }
+
+    void release(String hash) {
+        payloads.computeIfPresent(hash, (h, p) -> p.refs() <= 1 ? null : new Payload(p.deflated(), p.refs() - 1));
+    }
+
+    // ===== 복원용 =====
+
+    /** 로그에서 읽은 본문을 참조 0 으로 등록 (뒤따르는 기록들이 retainExisting 으로 참조를 올림) */
+    void install(String hash, byte[] deflated) {
+        payloads.putIfAbsent(hash, new Payload(deflated, 0));
+    }
+
+    boolean retainExisting(String hash) {
+        return payloads.computeIfPresent(hash, (h, p) -> new Payload(p.deflated(), p.refs() + 1)) != null;
+    }
+
+    /** 복원이 끝난 뒤 아무 기록도 가리키지 않는 본문 정리 (본문만 쓰고 기록을 쓰기 전에 죽은 경우) */
+    void dropUnreferenced() {
+        payloads.values().removeIf(p -> p.refs() == 0);
+    }
+
+    // ===== 조회 =====
+
+    Map<String, Object> load(String hash) {
+        Payload p = payloads.get(hash);
+        if (p == null) return null;
+        try {
+            return CANONICAL.readValue(inflate(p.deflated()), BODY);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    Map<String, byte[]> live() {
+        Map<String, byte[]> out = new LinkedHashMap<>();
+        payloads.forEach((h, p) -> out.put(h, p.deflated()));
+        return out;
+    }
+
+    int size() {
+        return payloads.size();
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater d = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            d.setInput(raw);
+            d.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            byte[] buf = new byte[8192];
+            while (!d.finished()) out.write(buf, 0, d.deflate(buf));
+            return out.toByteArray();
+        } finally {
+            d.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] deflated) {
+        Inflater inf = new Inflater();
+        try {
+            inf.setInput(deflated);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(deflated.length * 4);
+            byte[] buf = new byte[8192];
+            while (!inf.finished()) {
+                int n = inf.inflate(buf);
+                if (n == 0 && (inf.needsInput() || inf.needsDictionary())) {
+                    throw new IllegalStateException("압축된 본문이 손상되었습니다.");
+                }
+                out.write(buf, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 본문이 손상되었습니다.", e);
+        } finally {
+            inf.end();
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.scproject.osplatform.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 사용자가 저장한 시뮬레이션 기록 저장소.
+ *
+ * 전역 락 하나로 감싼 리스트 대신
+ *  - id -> 기록 : ConcurrentHashMap (조회/삭제 O(1))
+ *  - 최신순 인덱스 : ConcurrentSkipListMap, 키 = (created 내림차순, id 내림차순)
+ *  - type 별 인덱스 : type -> 같은 형태의 skip list
+ * 를 두어서 목록 조회는 정렬 없이 인덱스를 앞에서부터 읽고, 삭제는 O(log n) 입니다.
+ * 모두 lock-free 자료구조라 저장/조회/삭제가 서로를 막지 않습니다.
+ *
+ * 목록/인덱스에는 작은 요약(id, title, type, created, headline)만 두고, 시뮬레이션 결과 본문은
+ * RecordPayloads 에 압축 + 중복 제거해서 따로 둡니다. 본문은 상세 조회(detail) 때만 풀어서 돌려줍니다.
+ *
+ * records.dir 이 설정되어 있으면 RecordLog 로 디스크에 남기고 시작할 때 복원합니다.
+ * 추가/삭제는 "로그 큐에 넣기 + 인덱스 반영" 을 읽기 락 안에서 함께 하고, 스냅샷만 쓰기 락으로
+ * 잠깐 상태를 복사하므로 스냅샷에는 로그에 먼저 쓰인 변경이 빠짐없이 들어갑니다.
+ * (저장끼리는 읽기 락이라 서로 막지 않고, fsync 대기는 락 밖에서 합니다.)
+ */
+@Service
+public class RecordStore {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    // 목록에서 바로 보여 줄 만한 대표 값들 (저장 화면들이 보내는 필드 중 작은 것만)
+    private static final List<String> HEADLINE_FIELDS = List.of(
+            "algo", "frameCount", "frames", "faults", "hits", "faultRate", "hitRate",
+            "quantum", "timeUnit", "totalTime", "metrics", "scenarioLabel", "alg1", "alg2");
+
+    private final AtomicInteger seq = new AtomicInteger(1);
+    private final Map<Integer, Map<String, Object>> byId = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Key, Map<String, Object>> byCreated = new ConcurrentSkipListMap<>();
+    private final Map<String, ConcurrentSkipListMap<Key, Map<String, Object>>> byType = new ConcurrentHashMap<>();
+
+    private final RecordPayloads payloads = new RecordPayloads();
+    private final RecordLog log;
+    private final ReadWriteLock stateLock = new ReentrantReadWriteLock();
+
+    // 최신 기록이 앞에 오도록 created, id 모두 내림차순
+    record Key(long created, int id) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key o) {
+            if (created != o.created) return Long.compare(o.created, created);
+            return Integer.compare(o.id, id);
+        }
+
+        String cursor() {
+            return created + "-" + id;
+        }
+
+        static Key parse(String cursor) {
+            int dash = cursor.lastIndexOf('-');
+            try {
+                return new Key(Long.parseLong(cursor.substring(0, dash)), Integer.parseInt(cursor.substring(dash + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 cursor 입니다: " + cursor);
+            }
+        }
+    }
+
+    // 메모리에만 두는 저장소
+    public RecordStore() {
+        this.log = null;
+    }
+
+    @Autowired
+    public RecordStore(@Value("${records.dir:}") String dir,
+                       @Value("${records.snapshot-every:100000}") int snapshotEvery) {
+        if (dir == null || dir.isBlank()) {
+            this.log = null;
+            return;
+        }
+        this.log = new RecordLog(Path.of(dir), snapshotEvery);
+        seq.set(log.open(this::restore, this::unindex, payloads::install, this::snapshot));
+        payloads.dropUnreferenced();
+    }
+
+    @PreDestroy
+    public void close() {
+        if (log != null) log.close();
+    }
+
+    public Map<String, Object> create(Map<String, Object> body) {
+        int id = seq.getAndIncrement();
+
+        Map<String, Object> rec = new LinkedHashMap<>();
+        rec.put("id", id);
+        rec.put("created", System.currentTimeMillis());
+
+        // 제목 기본값
+        rec.put("title", body.getOrDefault("title", "내 기록"));
+
+        // 어떤 시뮬인지 (scheduling or paging)
+        rec.put("type", body.getOrDefault("type", "unknown"));
+
+        rec.put("headline", headline(body));
+        RecordPayloads.Encoded payload = payloadOf(body);
+        rec.put("payloadHash", payload.hash());
+
+        if (log == null) {
+            payloads.retain(payload, (h, d) -> { });
+            index(rec);
+            return rec;
+        }
+        ByteBuffer entry = log.putEntry(rec);
+        CompletableFuture<Void> done;
+        stateLock.readLock().lock();
+        try {
+            // 처음 보는 본문이면 기록보다 먼저 로그에 씀
+            payloads.retain(payload, (h, d) -> log.append(log.payloadEntry(h, d)));
+            done = log.append(entry);
+            index(rec);
+        } finally {
+            stateLock.readLock().unlock();
+        }
+        await(done);
+        return rec;
+    }
+
+    /** 요약만 */
+    public Map<String, Object> get(int id) {
+        return byId.get(id);
+    }
+
+    /** 요약 + 압축을 푼 본문(data). 없는 id 면 null */
+    public Map<String, Object> detail(int id) {
+        Map<String, Object> rec = byId.get(id);
+        if (rec == null) return null;
+        Map<String, Object> out = new LinkedHashMap<>(rec);
+        out.put("data", payloads.load((String) rec.get("payloadHash")));
+        return out;
+    }
+
+    public int payloadCount() {
+        return payloads.size();
+    }
+
+    /**
+     * 최신순 목록 한 페이지. cursor 는 이전 페이지의 nextCursor (처음엔 null),
+     * type 을 주면 그 종류만 봅니다.
+     */
+    public Map<String, Object> list(String type, String cursor, Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : limit;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit 은 1 ~ " + MAX_LIMIT + " 이어야 합니다.");
+        }
+
+        ConcurrentNavigableMap<Key, Map<String, Object>> index = type == null ? byCreated : byType.get(type);
+        List<Map<String, Object>> items = new ArrayList<>(Math.min(size, 64));
+        String next = null;
+        if (index != null) {
+            if (cursor != null && !cursor.isEmpty()) index = index.tailMap(Key.parse(cursor), false);
+            Key last = null;
+            for (Map.Entry<Key, Map<String, Object>> e : index.entrySet()) {
+                if (items.size() == size) {
+                    next = last.cursor();
+                    break;
+                }
+                items.add(e.getValue());
+                last = e.getKey();
+            }
+        }
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("items", items);
+        out.put("nextCursor", next);
+        return out;
+    }
+
+    public boolean delete(int id) {
+        if (log == null) return unindex(id);
+        CompletableFuture<Void> done;
+        stateLock.readLock().lock();
+        try {
+            if (!unindex(id)) return false;
+            done = log.append(log.deleteEntry(id));
+        } finally {
+            stateLock.readLock().unlock();
+        }
+        await(done);
+        return true;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    private void index(Map<String, Object> rec) {
+        Key key = keyOf(rec);
+        byId.put(key.id(), rec);
+        byCreated.put(key, rec);
+        byType.computeIfAbsent(String.valueOf(rec.get("type")), t -> new ConcurrentSkipListMap<>()).put(key, rec);
+    }
+
+    private boolean unindex(int id) {
+        Map<String, Object> rec = byId.remove(id);
+        if (rec == null) return false;
+        Key key = keyOf(rec);
+        byCreated.remove(key);
+        Map<Key, Map<String, Object>> typed = byType.get(String.valueOf(rec.get("type")));
+        if (typed != null) typed.remove(key);
+        Object hash = rec.get("payloadHash");
+        if (hash != null) payloads.release((String) hash);
+        return true;
+    }
+
+    // 로그에서 읽은 기록 복원. 본문을 통째로 들고 있던 예전 형식(data)이면 여기서 요약 + 본문으로 나눔
+    private void restore(Map<String, Object> rec) {
+        if (byId.containsKey(((Number) rec.get("id")).intValue())) return; // 스냅샷 직후 같은 PUT 이 세그먼트에도 남은 경우
+        Object data = rec.remove("data");
+        if (data instanceof Map<?, ?> legacy) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> body = (Map<String, Object>) legacy;
+            RecordPayloads.Encoded payload = payloadOf(body);
+            rec.put("headline", headline(body));
+            rec.put("payloadHash", payload.hash());
+            payloads.retain(payload, (h, d) -> { });
+        } else {
+            payloads.retainExisting((String) rec.get("payloadHash"));
+        }
+        index(rec);
+    }
+
+    private static Map<String, Object> headline(Map<String, Object> body) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        for (String f : HEADLINE_FIELDS) {
+            if (body.containsKey(f)) out.put(f, body.get(f));
+        }
+        return out;
+    }
+
+    // 실제 시뮬레이션 결과 본문은 title/type 을 뺀 나머지 (같은 예제면 같은 해시)
+    private static RecordPayloads.Encoded payloadOf(Map<String, Object> body) {
+        Map<String, Object> data = new HashMap<>(body);
+        data.remove("title");
+        data.remove("type");
+        return RecordPayloads.encode(data);
+    }
+
+    // compaction 용: 진행 중인 추가/삭제가 없는 순간의 상태를 복사
+    private RecordLog.Snapshot snapshot() {
+        stateLock.writeLock().lock();
+        try {
+            return new RecordLog.Snapshot(seq.get(), new ArrayList<>(byId.values()), payloads.live());
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+    }
+
+    private static void await(CompletableFuture<Void> done) {
+        try {
+            done.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) throw io;
+            throw e;
+        }
+    }
+
+    private static Key keyOf(Map<String, Object> rec) {
+        return new Key(((Number) rec.get("created")).longValue(), ((Number) rec.get("id")).intValue());
+    }
+}
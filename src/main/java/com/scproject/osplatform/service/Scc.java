@@ -0,0 +1,96 @@
+package com.scproject.osplatform.service;
+
+import java.util.*;
+
+/**
+ * Tarjan 강한 연결 요소(SCC) – 재귀 대신 명시적 스택을 써서 노드가 10만 개 이상이어도 안전합니다.
+ * 그래프는 CSR 형태 (노드 u 의 간선 = targets[offsets[u] .. offsets[u+1]) ) 로 받습니다.
+ */
+final class Scc {
+
+    private Scc() {
+    }
+
+    /**
+     * 사이클을 이루는 SCC 만 돌려줍니다. (크기 2 이상, 또는 자기 자신으로 가는 간선이 있는 노드)
+     */
+    static List<int[]> cycles(int n, int[] offsets, int[] targets) {
+        int[] index = new int[n];
+        int[] low = new int[n];
+        Arrays.fill(index, -1);
+        boolean[] onStack = new boolean[n];
+        int[] stack = new int[n];
+        int sp = 0;
+        int[] callNode = new int[n];
+        int[] callEdge = new int[n];
+        int counter = 0;
+        List<int[]> out = new ArrayList<>();
+
+        for (int root = 0; root < n; root++) {
+            if (index[root] != -1) continue;
+            int depth = 0;
+            callNode[0] = root;
+            callEdge[0] = offsets[root];
+            index[root] = low[root] = counter++;
+            stack[sp++] = root;
+            onStack[root] = true;
+
+            while (depth >= 0) {
+                int u = callNode[depth];
+                if (callEdge[depth] < offsets[u + 1]) {
+                    int w = targets[callEdge[depth]++];
+                    if (index[w] == -1) {
+                        index[w] = low[w] = counter++;
+                        stack[sp++] = w;
+                        onStack[w] = true;
+                        depth++;
+                        callNode[depth] = w;
+                        callEdge[depth] = offsets[w];
+                    } else if (onStack[w]) {
+                        low[u] = Math.min(low[u], index[w]);
+                    }
+                    continue;
+                }
+
+                // u 의 간선을 다 봤음 -> SCC 루트면 꺼내기
+                if (low[u] == index[u]) {
+                    int start = sp;
+                    do {
+                        start--;
+                    } while (stack[start] != u);
+                    int[] comp = Arrays.copyOfRange(stack, start, sp);
+                    for (int v : comp) onStack[v] = false;
+                    sp = start;
+                    if (comp.length > 1 || hasSelfLoop(u, offsets, targets)) {
+                        Arrays.sort(comp);
+                        out.add(comp);
+                    }
+                }
+                depth--;
+                if (depth >= 0) {
+                    int parent = callNode[depth];
+                    low[parent] = Math.min(low[parent], low[u]);
+                }
+            }
+        }
+        return out;
+    }
+
+    private static boolean hasSelfLoop(int u, int[] offsets, int[] targets) {
+        for (int e = offsets[u]; e < offsets[u + 1]; e++) if (targets[e] == u) return true;
+        return false;
+    }
+
+    /**
+     * (from, to) 간선 목록을 CSR 로 변환합니다. 반환값: [offsets, targets]
+     */
+    static int[][] csr(int n, int[] from, int[] to, int edges) {
+        int[] offsets = new int[n + 1];
+        for (int e = 0; e < edges; e++) offsets[from[e] + 1]++;
+        for (int i = 0; i < n; i++) offsets[i + 1] += offsets[i];
+        int[] fill = Arrays.copyOf(offsets, n);
+        int[] targets = new int[edges];
+        for (int e = 0; e < edges; e++) targets[fill[from[e]]++] = to[e];
+        return new int[][]{offsets, targets};
+    }
+}
@@ -3,15 +3,20 @@ package com.scproject.osplatform.service;
 import com.scproject.osplatform.dto.sim.SchedulingReq;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
 
 @Service
 public class SchedulingService {
 
     /**
-     * algo 값에 따라 FCFS / RR 로 분기하고
+     * algo 값에 따라 FCFS / RR / SJF / SRTF / PRIORITY / MLFQ 로 분기하고
      * 프론트가 기대하는 형태의 Map 을 반환합니다.
      *
+     * 프로세스 상태는 pid 대신 도착 순 번호로 인덱싱하는 int[] 에 두고,
+     * ready 큐는 알고리즘별 키를 쓰는 이진 힙이라 전체가 O(n log n) 입니다.
+     *
      * 반환 형태:
      * {
      *   "gantt": [ { "pid": "P1", "start": 0, "end": 3 }, ... ],
@@ -19,144 +24,406 @@ public class SchedulingService {
      * }
      */
     public Map<String, Object> run(SchedulingReq req) {
-        String algo = (req.algo == null ? "FCFS" : req.algo.toUpperCase(Locale.ROOT));
-        List<SchedulingReq.Proc> processes = req.processes != null ? req.processes : Collections.emptyList();
-
-        if ("RR".equals(algo)) {
-            int q = (req.quantum == null || req.quantum <= 0) ? 1 : req.quantum;
-            return simulateRR(processes, q);
-        } else {
-            // 기본은 FCFS
-            return simulateFCFS(processes);
-        }
+        return run(req, GanttListener.NONE);
     }
 
     /**
-     * FCFS (First Come First Served) – 도착 순서대로 비선점 실행
+     * observer 는 간트차트 조각마다 (결과에 모으기 전에) 불립니다. 비동기 작업의 진행률 보고 / 취소 확인용이며,
+     * observer 가 예외를 던지면 그 시점에서 시뮬레이션이 멈춥니다.
      */
-    private Map<String, Object> simulateFCFS(List<SchedulingReq.Proc> processes) {
-        List<SchedulingReq.Proc> procs = new ArrayList<>(processes);
-        // 도착 시간 기준 정렬
-        procs.sort(Comparator.comparingInt(p -> p.arrival));
+    Map<String, Object> run(SchedulingReq req, GanttListener observer) {
+        return run(table(req), req, observer);
+    }
 
+    /**
+     * 서버에서 만든 프로세스 표(워크로드 생성기 등)로 실행합니다. req 에서는 알고리즘 옵션만 읽고 processes 는 무시합니다.
+     */
+    Map<String, Object> run(ProcTable t, SchedulingReq req, GanttListener observer) {
+        if (Boolean.TRUE.equals(req.summaryOnly)) {
+            return Map.of("metrics", simulate(t, req, observer));
+        }
         List<Map<String, Object>> gantt = new ArrayList<>();
+        Map<String, Object> metrics = simulate(t, req, (pid, start, end) -> {
+            observer.segment(pid, start, end);
+            gantt.add(segment(pid, start, end));
+        });
+        return Map.of("gantt", gantt, "metrics", metrics);
+    }
+
+    /**
+     * 결과 Map 을 만들지 않고 간트차트 조각은 gantt 로만 흘려보낸 뒤 metrics 만 돌려줍니다. (배치 채점 / 세션 재실행용)
+     */
+    Map<String, Object> metrics(SchedulingReq req, GanttListener gantt) {
+        return simulate(table(req), req, gantt);
+    }
 
-        Map<String, Integer> arrival = new HashMap<>();
-        Map<String, Integer> burst = new HashMap<>();
-        Map<String, Integer> firstStart = new HashMap<>();
-        Map<String, Integer> endTime = new HashMap<>();
+    /**
+     * 간트차트 조각을 모아 두지 않고 만들어지는 대로 NDJSON 으로 흘려보냅니다.
+     *
+     * 출력 형태 (한 줄에 JSON 하나):
+     *   { "algo": "RR" }
+     *   { "pid": "P1", "start": 0, "end": 3 }
+     *   ...
+     *   { "metrics": { "avgWaiting": 1.5, ... } }
+     */
+    public void stream(SchedulingReq req, OutputStream os) throws IOException {
+        stream(table(req), req, os);
+    }
 
-        int time = 0;
-        for (SchedulingReq.Proc p : procs) {
-            arrival.put(p.pid, p.arrival);
-            burst.put(p.pid, p.burst);
+    void stream(ProcTable t, SchedulingReq req, OutputStream os) throws IOException {
+        try (NdjsonWriter w = new NdjsonWriter(os)) {
+            w.begin();
+            w.field("algo", algoName(req.algo));
+            w.end();
+
+            GanttListener listener = GanttListener.NONE;
+            if (!Boolean.TRUE.equals(req.summaryOnly)) {
+                listener = (pid, start, end) -> {
+                    w.begin();
+                    w.field("pid", pid);
+                    w.field("start", start);
+                    w.field("end", end);
+                    w.end();
+                };
+            }
+            Map<String, Object> metrics = simulate(t, req, listener);
+
+            w.begin();
+            w.field("metrics", metrics);
+            w.end();
+        }
+    }
+
+    private static ProcTable table(SchedulingReq req) {
+        return ProcTable.of(req.processes != null ? req.processes : Collections.emptyList());
+    }
+
+    private Map<String, Object> simulate(ProcTable t, SchedulingReq req, GanttListener gantt) {
+        int q = (req.quantum == null || req.quantum <= 0) ? 1 : req.quantum;
+        int aging = (req.aging == null || req.aging <= 0) ? 0 : req.aging;
+        int levels = (req.levels == null || req.levels <= 0) ? 3 : req.levels;
+        return simulate(t, req.algo, q, aging, levels, gantt);
+    }
+
+    /**
+     * 이미 정렬/인코딩된 프로세스 표로 실행합니다.
+     * ProcTable 은 읽기만 하므로 여러 스레드가 같은 표를 공유해도 됩니다.
+     */
+    Map<String, Object> simulate(ProcTable t, String algo, int q, int aging, int levels, GanttListener gantt) {
+        switch (algoName(algo)) {
+            case "RR":
+                return simulateRR(t, q, gantt);
+            case "SJF":
+                // 비선점: 도착한 것 중 burst 가 가장 짧은 것부터
+                return simulateNonPreemptive(t, (id, readySince) -> t.burst[id], gantt);
+            case "PRIORITY": {
+                // 비선점: priority 값이 작은 것부터. aging 이 있으면 aging 시간만큼 기다릴 때마다 1 씩 좋아짐
+                // (p - wait/aging 의 순서는 p*aging + 도착시간 의 순서와 같아서 힙 키가 시간에 따라 안 바뀜)
+                if (aging == 0) {
+                    return simulateNonPreemptive(t, (id, readySince) -> t.priority[id], gantt);
+                }
+                return simulateNonPreemptive(t, (id, readySince) -> (long) t.priority[id] * aging + readySince, gantt);
+            }
+            case "SRT":
+            case "SRTF":
+                return simulateSRTF(t, gantt);
+            case "MLFQ":
+                return simulateMLFQ(t, q, levels, gantt);
+            case "FCFS":
+            default:
+                // 기본은 FCFS
+                return simulateFCFS(t, gantt);
+        }
+    }
+
+    private String algoName(String algo) {
+        return algo == null ? "FCFS" : algo.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * FCFS (First Come First Served) – 도착 순서대로 비선점 실행
+     */
+    private Map<String, Object> simulateFCFS(ProcTable t, GanttListener gantt) {
+        int[] firstStart = new int[t.n];
+        int[] endTime = new int[t.n];
 
+        int time = 0;
+        for (int id = 0; id < t.n; id++) {
             // CPU 가 비어 있고, 프로세스가 나중에 도착하면 그때까지 점프
-            if (time < p.arrival) {
-                time = p.arrival;
+            if (time < t.arrival[id]) {
+                time = t.arrival[id];
             }
 
             int start = time;
-            int end = start + p.burst;
+            int end = start + t.burst[id];
 
-            firstStart.put(p.pid, start);
-            endTime.put(p.pid, end);
+            firstStart[id] = start;
+            endTime[id] = end;
 
-            gantt.add(segment(p.pid, start, end));
+            gantt.segment(t.pid[id], start, end);
 
             time = end;
         }
 
-        Map<String, Object> metrics = calcMetrics(procs, arrival, burst, firstStart, endTime);
-        return Map.of("gantt", gantt, "metrics", metrics);
+        return t.metrics(firstStart, endTime);
     }
 
     /**
-     * RR (Round Robin) – 타임퀀텀 기반 선점 스케줄링
+     * 비선점 스케줄링 공통 루프 (SJF / PRIORITY).
+     * 도착한 프로세스를 readyKey 기준 최소 힙에 넣고, 하나를 끝까지 실행한 뒤 다음을 꺼냅니다.
      */
-    private Map<String, Object> simulateRR(List<SchedulingReq.Proc> processes, int quantum) {
-        List<SchedulingReq.Proc> procs = new ArrayList<>(processes);
-        if (procs.isEmpty()) {
-            return Map.of("gantt", List.of(), "metrics", Map.of(
-                    "avgWaiting", 0.0,
-                    "avgTurnaround", 0.0,
-                    "avgResponse", 0.0
-            ));
+    private Map<String, Object> simulateNonPreemptive(ProcTable t, ReadyKey readyKey, GanttListener gantt) {
+        int[] firstStart = new int[t.n];
+        int[] endTime = new int[t.n];
+        ProcHeap ready = new ProcHeap(t.n);
+
+        int time = 0;
+        int next = 0; // 아직 도착하지 않은 첫 프로세스
+        for (int done = 0; done < t.n; done++) {
+            if (ready.isEmpty() && time < t.arrival[next]) {
+                time = t.arrival[next];
+            }
+            while (next < t.n && t.arrival[next] <= time) {
+                ready.push(readyKey.key(next, t.arrival[next]), next);
+                next++;
+            }
+
+            int id = ready.pop();
+            int start = time;
+            int end = start + t.burst[id];
+            firstStart[id] = start;
+            endTime[id] = end;
+            gantt.segment(t.pid[id], start, end);
+            time = end;
         }
 
-        // 도착 시간 순으로 정렬
-        procs.sort(Comparator.comparingInt(p -> p.arrival));
+        return t.metrics(firstStart, endTime);
+    }
 
-        Map<String, Integer> arrival = new HashMap<>();
-        Map<String, Integer> burst = new HashMap<>();
-        Map<String, Integer> remaining = new HashMap<>();
-        Map<String, Integer> firstStart = new HashMap<>();
-        Map<String, Integer> endTime = new HashMap<>();
+    /**
+     * SRTF (Shortest Remaining Time First) – 선점형 SJF.
+     * 이벤트는 "다음 도착"과 "현재 프로세스 종료" 두 가지뿐이라 그 사이를 한 번에 건너뜁니다.
+     * 새로 도착한 프로세스의 남은 시간이 더 짧을 때만 선점합니다. (같으면 계속 실행)
+     */
+    private Map<String, Object> simulateSRTF(ProcTable t, GanttListener gantt) {
+        int[] firstStart = new int[t.n];
+        int[] endTime = new int[t.n];
+        int[] remaining = Arrays.copyOf(t.burst, t.n);
+        Arrays.fill(firstStart, -1);
+        ProcHeap ready = new ProcHeap(t.n);
+        GanttMerger merged = new GanttMerger(t, gantt);
+
+        int time = 0;
+        int next = 0;
+        int running = -1;
+        int segStart = 0;
+        int done = 0;
+
+        while (done < t.n) {
+            if (running == -1 && ready.isEmpty() && time < t.arrival[next]) {
+                time = t.arrival[next];
+            }
+            while (next < t.n && t.arrival[next] <= time) {
+                ready.push(remaining[next], next);
+                next++;
+            }
+
+            if (running == -1) {
+                running = ready.pop();
+                segStart = time;
+                if (firstStart[running] == -1) firstStart[running] = time;
+            } else if (!ready.isEmpty() && ready.peekKey() < remaining[running]) {
+                // 선점: 지금까지 실행한 조각을 내보내고 남은 시간으로 다시 대기
+                merged.add(running, segStart, time);
+                ready.push(remaining[running], running);
+                running = ready.pop();
+                segStart = time;
+                if (firstStart[running] == -1) firstStart[running] = time;
+            }
 
-        for (SchedulingReq.Proc p : procs) {
-            arrival.put(p.pid, p.arrival);
-            burst.put(p.pid, p.burst);
-            remaining.put(p.pid, p.burst);
+            int finish = time + remaining[running];
+            if (next < t.n && t.arrival[next] < finish) {
+                remaining[running] -= t.arrival[next] - time;
+                time = t.arrival[next];
+            } else {
+                time = finish;
+                remaining[running] = 0;
+                endTime[running] = time;
+                merged.add(running, segStart, time);
+                running = -1;
+                done++;
+            }
         }
 
-        List<Map<String, Object>> gantt = new ArrayList<>();
-        Queue<String> ready = new ArrayDeque<>();
+        merged.flush();
+        return t.metrics(firstStart, endTime);
+    }
+
+    /**
+     * MLFQ (Multi-Level Feedback Queue)
+     *
+     * - 단계 k 의 타임 퀀텀은 quantum * 2^k, 마지막 단계는 FCFS (퀀텀 없음)
+     * - 새 프로세스는 단계 0 으로 들어오고, 퀀텀을 다 쓰면 한 단계 내려감
+     * - 더 높은 단계에 프로세스가 도착하면 실행 중인 낮은 단계 프로세스를 선점하고,
+     *   선점된 프로세스는 같은 단계의 맨 뒤로 돌아감
+     *
+     * 모든 단계를 (단계, 들어온 순번) 키 하나의 힙으로 관리하므로 단계별 FIFO 와 같습니다.
+     */
+    private Map<String, Object> simulateMLFQ(ProcTable t, int quantum, int levels, GanttListener gantt) {
+        int[] firstStart = new int[t.n];
+        int[] endTime = new int[t.n];
+        int[] remaining = Arrays.copyOf(t.burst, t.n);
+        int[] level = new int[t.n];
+        Arrays.fill(firstStart, -1);
+        ProcHeap ready = new ProcHeap(t.n);
+        GanttMerger merged = new GanttMerger(t, gantt);
+        long seq = 0; // 같은 단계 안의 FIFO 순서
+
+        int time = 0;
+        int next = 0;
+        int running = -1;
+        int segStart = 0;
+        long sliceLeft = 0;
+        int done = 0;
+
+        while (done < t.n) {
+            if (running == -1 && ready.isEmpty() && time < t.arrival[next]) {
+                time = t.arrival[next];
+            }
+            while (next < t.n && t.arrival[next] <= time) {
+                ready.push(mlfqKey(0, seq++), next);
+                next++;
+            }
+
+            if (running == -1 || (!ready.isEmpty() && ready.peekKey() < mlfqKey(level[running], 0))) {
+                if (running != -1) {
+                    // 더 높은 단계가 도착해서 선점
+                    merged.add(running, segStart, time);
+                    ready.push(mlfqKey(level[running], seq++), running);
+                }
+                running = ready.pop();
+                segStart = time;
+                sliceLeft = level[running] == levels - 1 ? Long.MAX_VALUE : (long) quantum << level[running];
+                if (firstStart[running] == -1) firstStart[running] = time;
+            }
+
+            long step = Math.min(remaining[running], sliceLeft);
+            if (next < t.n) step = Math.min(step, (long) t.arrival[next] - time);
+            time += (int) step;
+            remaining[running] -= (int) step;
+            sliceLeft -= step;
+
+            if (remaining[running] == 0) {
+                endTime[running] = time;
+                merged.add(running, segStart, time);
+                running = -1;
+                done++;
+            } else if (sliceLeft == 0) {
+                // 퀀텀 소진 -> 한 단계 아래로
+                merged.add(running, segStart, time);
+                level[running]++;
+                ready.push(mlfqKey(level[running], seq++), running);
+                running = -1;
+            }
+        }
 
-        int time = procs.get(0).arrival;
+        merged.flush();
+        return t.metrics(firstStart, endTime);
+    }
+
+    private long mlfqKey(int level, long seq) {
+        return ((long) level << 40) | seq;
+    }
+
+    /**
+     * RR (Round Robin) – 타임퀀텀 기반 선점 스케줄링
+     *
+     * ready 큐에 혼자 남은 동안은 퀀텀 단위로 돌지 않고 다음 도착/종료까지 한 번에 건너뛰므로,
+     * 실행 시간은 총 CPU 시간이 아니라 스케줄링 결정 횟수에 비례합니다.
+     */
+    private Map<String, Object> simulateRR(ProcTable t, int quantum, GanttListener gantt) {
+        int n = t.n;
+        if (n == 0) {
+            return t.metrics(new int[0], new int[0]);
+        }
+        GanttMerger merged = new GanttMerger(t, gantt);
+
+        int[] remaining = Arrays.copyOf(t.burst, n);
+        int[] firstStart = new int[n];
+        int[] endTime = new int[n];
+        Arrays.fill(firstStart, -1);
+
+        // ready 큐: 한 프로세스는 큐에 최대 한 번만 있으므로 크기 n 인 원형 버퍼면 충분
+        int[] ready = new int[n];
+        int head = 0, size = 0;
+
+        int time = t.arrival[0];
         int idx = 0; // 아직 도착하지 않은 프로세스 인덱스
 
         // 초기 도착 프로세스 큐에 추가
-        while (idx < procs.size() && procs.get(idx).arrival <= time) {
-            ready.add(procs.get(idx).pid);
-            idx++;
+        while (idx < n && t.arrival[idx] <= time) {
+            ready[(head + size++) % n] = idx++;
         }
 
-        while (!ready.isEmpty() || idx < procs.size()) {
-            if (ready.isEmpty()) {
+        while (size > 0 || idx < n) {
+            if (size == 0) {
                 // 다음 도착 프로세스까지 점프
-                time = Math.max(time, procs.get(idx).arrival);
-                while (idx < procs.size() && procs.get(idx).arrival <= time) {
-                    ready.add(procs.get(idx).pid);
-                    idx++;
+                time = Math.max(time, t.arrival[idx]);
+                while (idx < n && t.arrival[idx] <= time) {
+                    ready[(head + size++) % n] = idx++;
                 }
                 continue;
             }
 
-            String pid = ready.poll();
-            int rem = remaining.get(pid);
+            int id = ready[head];
+            head = (head + 1) % n;
+            size--;
+            int rem = remaining[id];
             if (rem <= 0) {
+                // burst 0 인 프로세스는 꺼내는 순간 끝난 것으로 처리
+                if (firstStart[id] == -1) firstStart[id] = time;
+                endTime[id] = time;
                 continue;
             }
 
             int run = Math.min(rem, quantum);
+            if (size == 0) {
+                // 혼자 남았으면 ready 큐가 바뀌는 시점까지 퀀텀 여러 개를 한 번에 실행:
+                // 다음 도착 이후 첫 퀀텀 경계 또는 종료 중 빠른 쪽
+                if (idx < n) {
+                    long slices = Math.max(1, ((long) t.arrival[idx] - time + quantum - 1) / quantum);
+                    run = (int) Math.min(rem, slices * quantum);
+                } else {
+                    run = rem;
+                }
+            }
             int start = time;
             int end = time + run;
 
-            // 간트차트 조각 추가
-            gantt.add(segment(pid, start, end));
+            // 간트차트 조각 추가 (같은 프로세스가 이어서 돌면 하나로 합쳐짐)
+            merged.add(id, start, end);
 
             // 첫 응답 시간 기록
-            firstStart.putIfAbsent(pid, start);
+            if (firstStart[id] == -1) firstStart[id] = start;
 
             time = end;
-            remaining.put(pid, rem - run);
+            remaining[id] = rem - run;
 
             // 새로 도착한 프로세스를 그 동안 ready 큐에 추가
-            while (idx < procs.size() && procs.get(idx).arrival <= time) {
-                ready.add(procs.get(idx).pid);
-                idx++;
+            while (idx < n && t.arrival[idx] <= time) {
+                ready[(head + size++) % n] = idx++;
             }
 
             // 아직 남은 시간이 있으면 다시 큐에 넣기
-            if (remaining.get(pid) > 0) {
-                ready.add(pid);
+            if (remaining[id] > 0) {
+                ready[(head + size++) % n] = id;
             } else {
-                endTime.put(pid, time);
+                endTime[id] = time;
             }
         }
 
-        Map<String, Object> metrics = calcMetrics(procs, arrival, burst, firstStart, endTime);
-        return Map.of("gantt", gantt, "metrics", metrics);
+        merged.flush();
+        return t.metrics(firstStart, endTime);
     }
 
     // 간트차트 한 칸을 Map 으로 만들기
@@ -169,50 +436,10 @@ public class SchedulingService {
     }
 
     /**
-     * 평균 대기시간 / 반환시간 / 응답시간 계산
+     * 비선점 ready 큐의 정렬 키 (작을수록 먼저 실행)
      */
-    private Map<String, Object> calcMetrics(
-            List<SchedulingReq.Proc> procs,
-            Map<String, Integer> arrival,
-            Map<String, Integer> burst,
-            Map<String, Integer> firstStart,
-            Map<String, Integer> endTime
-    ) {
-        if (procs.isEmpty()) {
-            return Map.of(
-                    "avgWaiting", 0.0,
-                    "avgTurnaround", 0.0,
-                    "avgResponse", 0.0
-            );
-        }
-
-        double sumW = 0, sumT = 0, sumR = 0;
-        int cnt = procs.size();
-
-        for (SchedulingReq.Proc p : procs) {
-            String pid = p.pid;
-            int a = arrival.get(pid);
-            int b = burst.get(pid);
-            int fs = firstStart.get(pid);
-            int e = endTime.get(pid);
-
-            int turnaround = e - a;
-            int waiting = turnaround - b;
-            int response = fs - a;
-
-            sumW += waiting;
-            sumT += turnaround;
-            sumR += response;
-        }
-
-        return Map.of(
-                "avgWaiting", round(sumW / cnt),
-                "avgTurnaround", round(sumT / cnt),
-                "avgResponse", round(sumR / cnt)
-        );
-    }
-
-    private double round(double v) {
-        return Math.round(v * 100.0) / 100.0;
+    @FunctionalInterface
+    private interface ReadyKey {
+        long key(int id, int readySince);
     }
 }
@@ -0,0 +1,94 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.SchedulingReq;
+
+import java.util.*;
+
+/**
+ * 프로세스 표를 조금씩 고쳐 가며 다시 돌리는 스케줄링 세션.
+ *
+ * 스케줄러 루프는 알고리즘마다 대기열 구조가 달라 중간 상태를 떠 두지 않고,
+ * 결과 Map 없이 (O(n log n)) 다시 돌린 뒤 간트차트를 이전 실행과 비교해
+ * 앞뒤로 같은 조각을 빼고 바뀐 구간만 돌려줍니다. (프로세스 하나를 고치면 보통 그 뒤 일부만 바뀜)
+ * 간트차트 조각은 (pid, start, end) 배열로만 들고 있습니다.
+ */
+final class SchedulingSession {
+
+    private final SchedulingService schedulingService;
+    private Gantt last = new Gantt(0);
+
+    SchedulingSession(SchedulingService schedulingService) {
+        this.schedulingService = schedulingService;
+    }
+
+    /**
+     * 반환 형태:
+     * {
+     *   "metrics": { "avgWaiting": 1.5, ... },
+     *   "segments": 42,                                     // 새 간트차트 조각 수
+     *   "gantt": { "from": 17, "removed": 5,                // 이전 간트차트의 [from, from + removed) 를
+     *              "segments": [ { "pid": "P3", "start": 40, "end": 44 }, ... ] }  // 이것으로 교체
+     * }
+     */
+    synchronized Map<String, Object> run(SchedulingReq req) {
+        Gantt next = new Gantt(Math.max(16, last.count));
+        Map<String, Object> metrics = schedulingService.metrics(req, next::add);
+
+        // 앞에서부터 / 뒤에서부터 같은 조각 (겹치지 않게)
+        int common = Math.min(last.count, next.count);
+        int prefix = 0;
+        while (prefix < common && last.same(prefix, next, prefix)) prefix++;
+        int suffix = 0;
+        while (suffix < common - prefix && last.same(last.count - 1 - suffix, next, next.count - 1 - suffix)) suffix++;
+
+        List<Map<String, Object>> segments = new ArrayList<>(next.count - prefix - suffix);
+        for (int k = prefix; k < next.count - suffix; k++) {
+            Map<String, Object> seg = new LinkedHashMap<>();
+            seg.put("pid", next.pid[k]);
+            seg.put("start", next.start[k]);
+            seg.put("end", next.end[k]);
+            segments.add(seg);
+        }
+        Map<String, Object> gantt = new LinkedHashMap<>();
+        gantt.put("from", prefix);
+        gantt.put("removed", last.count - prefix - suffix);
+        gantt.put("segments", segments);
+        last = next;
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("metrics", metrics);
+        out.put("segments", next.count);
+        out.put("gantt", gantt);
+        return out;
+    }
+
+    private static final class Gantt {
+        private String[] pid;
+        private int[] start;
+        private int[] end;
+        private int count;
+
+        Gantt(int capacity) {
+            pid = new String[capacity];
+            start = new int[capacity];
+            end = new int[capacity];
+        }
+
+        void add(String p, int s, int e) {
+            if (count == pid.length) {
+                int cap = Math.max(16, count * 2);
+                pid = Arrays.copyOf(pid, cap);
+                start = Arrays.copyOf(start, cap);
+                end = Arrays.copyOf(end, cap);
+            }
+            pid[count] = p;
+            start[count] = s;
+            end[count] = e;
+            count++;
+        }
+
+        boolean same(int i, Gantt o, int k) {
+            return start[i] == o.start[k] && end[i] == o.end[k] && Objects.equals(pid[i], o.pid[k]);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.scproject.osplatform.service;
+
+import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 서버에 상태를 두는 세션(대기 그래프, 은행원 세션 등)의 보관소.
+ *
+ * 브라우저 탭을 그냥 닫으면 DELETE 가 오지 않으므로, idle 시간 동안 쓰이지 않은 세션은
+ * 새 세션을 만들 때 한꺼번에 정리하고, 조회할 때 만료된 세션은 없는 세션(NoSuchElementException)으로 취급합니다.
+ * 개수 / 무게(노드 수 등) 한도에 걸리면 입력 오류가 아니라 용량 문제이므로 RejectedExecutionException (429) 입니다.
+ */
+final class SessionRegistry<S> {
+
+    private final String noun;
+    private final int maxEntries;
+    private final long maxWeight;
+    private final long idleMillis;
+    private final Map<String, Entry<S>> entries = new HashMap<>();
+    private long weight;
+
+    SessionRegistry(String noun, int maxEntries, long maxWeight, long idleMinutes) {
+        if (idleMinutes <= 0) throw new IllegalArgumentException("sim.sessions.idle-minutes 는 1 이상이어야 합니다.");
+        this.noun = noun;
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.idleMillis = idleMinutes * 60_000;
+    }
+
+    SessionRegistry(String noun, int maxEntries, long idleMinutes) {
+        this(noun, maxEntries, Long.MAX_VALUE, idleMinutes);
+    }
+
+    /** 새 세션을 등록하고 id 를 돌려줍니다. weight 는 무게 한도에 더해지는 값 (대기 그래프면 노드 수) */
+    String add(S session, long weight) {
+        return add(session, weight, System.currentTimeMillis());
+    }
+
+    synchronized String add(S session, long w, long now) {
+        expireIdle(now);
+        if (entries.size() >= maxEntries) {
+            throw new RejectedExecutionException("열 수 있는 " + noun + " 수(" + maxEntries + ")를 넘었습니다. 잠시 후 다시 시도하세요.");
+        }
+        if (weight + w > maxWeight) {
+            throw new RejectedExecutionException("열려 있는 " + noun + "의 합계 크기(" + maxWeight + ")를 넘었습니다. 잠시 후 다시 시도하세요.");
+        }
+        String id = UUID.randomUUID().toString();
+        entries.put(id, new Entry<>(session, w, now));
+        weight += w;
+        return id;
+    }
+
+    S get(String id) {
+        return get(id, System.currentTimeMillis());
+    }
+
+    synchronized S get(String id, long now) {
+        Entry<S> e = entries.get(id);
+        if (e != null && expired(e, now)) {
+            remove(id);
+            e = null;
+        }
+        if (e == null) throw new NoSuchElementException("없는 " + noun + "입니다: " + id);
+        e.lastUsed = now;
+        return e.session;
+    }
+
+    synchronized boolean remove(String id) {
+        Entry<S> e = entries.remove(id);
+        if (e == null) return false;
+        weight -= e.weight;
+        return true;
+    }
+
+    /** now 기준으로 idle 시간을 넘긴 세션을 지우고, 지운 개수를 돌려줍니다. */
+    synchronized int expireIdle(long now) {
+        int before = entries.size();
+        Iterator<Entry<S>> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry<S> e = it.next();
+            if (expired(e, now)) {
+                weight -= e.weight;
+                it.remove();
+            }
+        }
+        return before - entries.size();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long weight() {
+        return weight;
+    }
+
+    private boolean expired(Entry<S> e, long now) {
+        return now - e.lastUsed > idleMillis;
+    }
+
+    private static final class Entry<S> {
+        final S session;
+        final long weight;
+        long lastUsed;
+
+        Entry(S session, long weight, long lastUsed) {
+            this.session = session;
+            this.weight = weight;
+            this.lastUsed = lastUsed;
+        }
+    }
+}
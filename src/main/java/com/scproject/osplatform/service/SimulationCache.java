@@ -0,0 +1,390 @@
+package com.scproject.osplatform.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scproject.osplatform.dto.sim.BankerReq;
+import com.scproject.osplatform.dto.sim.PagingReq;
+import com.scproject.osplatform.dto.sim.SchedulingReq;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * 시뮬레이션 결과 캐시.
+ *
+ * 학습/비교 페이지는 같은 예제(참조열 A/B/C, 기본 프로세스 표 등)를 계속 다시 보내므로
+ * 정규화한 요청의 SHA-256 을 키로, 이미 직렬화된 JSON 바이트를 값으로 둡니다.
+ * 적중하면 시뮬레이션도 직렬화도 하지 않고 그 바이트를 그대로 내려보냅니다.
+ *
+ * - 용량은 항목 수가 아니라 응답 바이트 합으로 제한합니다 (sim.cache.max-bytes).
+ * - 교체는 LRU 순서로 희생자를 고르되, TinyLFU 식 입장 검사를 합니다:
+ *   최근 요청 빈도(count-min sketch)가 희생자보다 낮은 새 항목은 들이지 않아서
+ *   한 번 보고 마는 큰 요청들이 자주 쓰는 예제들을 밀어내지 못합니다.
+ */
+@Service
+public class SimulationCache {
+
+    // 항목 하나가 전체 용량의 이 비율을 넘으면 캐시하지 않음
+    private static final int MAX_ENTRY_SHARE = 8;
+    // 키/노드 등 응답 바이트 외의 대략적인 항목당 비용
+    private static final int ENTRY_OVERHEAD = 128;
+
+    private final ObjectMapper mapper;
+    private final SimulationMetrics metrics;
+    private final long maxBytes;
+    private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final FrequencySketch sketch;
+
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long rejections;
+
+    public SimulationCache(ObjectMapper mapper, SimulationMetrics metrics,
+                           @Value("${sim.cache.max-bytes:67108864}") long maxBytes) {
+        this.mapper = mapper;
+        this.metrics = metrics;
+        this.maxBytes = Math.max(0, maxBytes);
+        this.sketch = new FrequencySketch((int) Math.min(1 << 20, Math.max(1024, this.maxBytes / 1024)));
+    }
+
+    // ===== 엔드포인트별 정규화 키 =====
+
+    public byte[] paging(PagingReq req, Supplier<Map<String, Object>> run) {
+        return paging(req, new TraceDigest(req.refs, req.writes), run);
+    }
+
+    /**
+     * 참조열 부분은 trace 의 해시를 쓰므로 키를 만드는 비용이 참조열 길이와 무관합니다.
+     * (req.refs / req.writes 는 trace 를 만들 때 쓴 것과 같아야 함)
+     */
+    byte[] paging(PagingReq req, TraceDigest trace, Supplier<Map<String, Object>> run) {
+        String algo = req.algo == null ? "FIFO" : req.algo.toUpperCase(Locale.ROOT);
+        KeyBuilder k = new KeyBuilder("paging");
+        k.str(algo);
+        k.i(req.frames);
+        k.bool(Boolean.TRUE.equals(req.summaryOnly));
+        k.bytes(trace.refs());
+        // 알고리즘이 쓰는 파라미터만 (기본값으로 정규화해서) 키에 넣음
+        PagingParams params = PagingService.params(req);
+        k.i(algo.equals("WS") ? params.window : 0);
+        k.i(algo.equals("PFF") ? params.pffInterval : 0);
+        if (algo.equals("NUR")) k.bytes(trace.writes());
+        Map<String, Long> sizes = Map.of("refs", (long) (req.refs == null ? 0 : req.refs.size()), "frames", (long) req.frames);
+        return get(k.finish(), "paging", algo, sizes, run);
+    }
+
+    /**
+     * /paging/batch 의 설정 하나. 같은 입력의 /paging 요청과 키가 같아서 두 엔드포인트가 결과를 나눠 쓰고,
+     * 캐시된 바이트 앞에 "algo", "frames" 만 붙여서 돌려줍니다. trace 는 배치 전체가 하나를 같이 씁니다.
+     */
+    byte[] pagingBatchItem(PagingReq req, TraceDigest trace, Supplier<Map<String, Object>> run) {
+        byte[] body = paging(req, trace, run);
+        Map<String, Object> label = new LinkedHashMap<>();
+        label.put("algo", req.algo);
+        label.put("frames", req.frames);
+        byte[] head = serialize(label);
+        if (body.length <= 2) return head; // 빈 객체
+        // {"algo":..,"frames":..} 의 '}' 자리에 ',' 를 두고 body 의 '{' 뒤를 이어 붙임
+        byte[] out = Arrays.copyOf(head, head.length + body.length - 1);
+        out[head.length - 1] = ',';
+        System.arraycopy(body, 1, out, head.length, body.length - 1);
+        return out;
+    }
+
+    /** 직렬화된 배치 항목들을 { "results": [ ... ] } 로 이어 붙입니다. */
+    static byte[] batchResults(List<byte[]> items) {
+        byte[] open = "{\"results\":[".getBytes(StandardCharsets.US_ASCII);
+        int size = open.length + 2 + Math.max(0, items.size() - 1);
+        for (byte[] item : items) size += item.length;
+        ByteBuffer out = ByteBuffer.allocate(size);
+        out.put(open);
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) out.put((byte) ',');
+            out.put(items.get(i));
+        }
+        out.put((byte) ']').put((byte) '}');
+        return out.array();
+    }
+
+    public byte[] scheduling(SchedulingReq req, Supplier<Map<String, Object>> run) {
+        String algo = req.algo == null ? "FCFS" : req.algo.toUpperCase(Locale.ROOT);
+        KeyBuilder k = new KeyBuilder("scheduling");
+        k.str(algo);
+        // 해당 알고리즘이 실제로 쓰는 옵션만 (기본값을 채운 뒤) 키에 넣음
+        boolean quantumUsed = algo.equals("RR") || algo.equals("MLFQ");
+        k.i(quantumUsed ? (req.quantum == null || req.quantum <= 0 ? 1 : req.quantum) : 0);
+        k.i(algo.equals("PRIORITY") && req.aging != null && req.aging > 0 ? req.aging : 0);
+        k.i(algo.equals("MLFQ") ? (req.levels == null || req.levels <= 0 ? 3 : req.levels) : 0);
+        k.bool(Boolean.TRUE.equals(req.summaryOnly));
+        if (req.processes == null) {
+            k.i(0);
+        } else {
+            k.i(req.processes.size());
+            for (SchedulingReq.Proc p : req.processes) {
+                k.str(p.pid);
+                k.i(p.arrival);
+                k.i(p.burst);
+                k.i(p.priority);
+            }
+        }
+        Map<String, Long> sizes = Map.of("processes", (long) (req.processes == null ? 0 : req.processes.size()));
+        return get(k.finish(), "scheduling", algo, sizes, run);
+    }
+
+    public byte[] bankers(BankerReq req, Supplier<Map<String, Object>> run) {
+        KeyBuilder k = new KeyBuilder("bankers");
+        k.bool(!Boolean.FALSE.equals(req.trace));
+        k.matrix(req.max);
+        k.matrix(req.allocation);
+        k.ints(req.available);
+        long n = req.allocation == null ? 0 : req.allocation.length;
+        long m = req.available == null ? 0 : req.available.length;
+        Map<String, Long> sizes = Map.of("processes", n, "cells", n * m);
+        return get(k.finish(), "deadlock", "BANKERS", sizes, run);
+    }
+
+    // ===== 캐시 본체 =====
+
+    byte[] get(String key, String endpoint, String algo, Map<String, Long> sizes, Supplier<Map<String, Object>> run) {
+        byte[] cached;
+        synchronized (this) {
+            sketch.increment(key.hashCode());
+            cached = entries.get(key);
+            if (cached != null) hits++;
+            else misses++;
+        }
+        metrics.cacheRequest(endpoint, cached != null);
+        if (cached != null) return cached;
+
+        Map<String, Object> result = metrics.simulate(endpoint, algo, sizes, run);
+        byte[] body = metrics.serialize(endpoint, algo, () -> serialize(result));
+        if (maxBytes > 0) put(key, body);
+        return body;
+    }
+
+    private synchronized void put(String key, byte[] body) {
+        long weight = weight(body);
+        if (weight > maxBytes / MAX_ENTRY_SHARE || entries.containsKey(key)) return;
+
+        // 공간이 모자라면 LRU 쪽부터 희생자 후보를 모으고, 하나라도 새 항목보다 자주 쓰였으면 들이지 않음
+        long need = bytes + weight - maxBytes;
+        if (need > 0) {
+            int freq = sketch.frequency(key.hashCode());
+            List<String> victims = new ArrayList<>();
+            long freed = 0;
+            for (Map.Entry<String, byte[]> e : entries.entrySet()) {
+                if (freed >= need) break;
+                if (sketch.frequency(e.getKey().hashCode()) > freq) {
+                    rejections++;
+                    return;
+                }
+                victims.add(e.getKey());
+                freed += weight(e.getValue());
+            }
+            for (String v : victims) {
+                bytes -= weight(entries.remove(v));
+                evictions++;
+            }
+        }
+        entries.put(key, body);
+        bytes += weight;
+    }
+
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        long total = hits + misses;
+        out.put("hits", hits);
+        out.put("misses", misses);
+        out.put("hitRate", total == 0 ? 0.0 : Math.round(hits * 10000.0 / total) / 100.0);
+        out.put("evictions", evictions);
+        out.put("rejections", rejections);
+        out.put("entries", entries.size());
+        out.put("bytes", bytes);
+        out.put("maxBytes", maxBytes);
+        return out;
+    }
+
+    private static long weight(byte[] body) {
+        return body.length + ENTRY_OVERHEAD;
+    }
+
+    private byte[] serialize(Map<String, Object> result) {
+        try {
+            return mapper.writeValueAsBytes(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 요청 필드들을 순서대로 SHA-256 에 흘려 넣어 키를 만듭니다 (JSON 을 다시 만들지 않음).
+     */
+    private static final class KeyBuilder {
+        private final MessageDigest md;
+        private final ByteBuffer buf = ByteBuffer.allocate(8);
+
+        KeyBuilder(String endpoint) {
+            md = sha256();
+            str(endpoint);
+        }
+
+        void bytes(byte[] b) {
+            md.update(b);
+        }
+
+        void i(int v) {
+            buf.clear();
+            buf.putInt(v);
+            md.update(buf.array(), 0, 4);
+        }
+
+        void bool(boolean v) {
+            md.update((byte) (v ? 1 : 0));
+        }
+
+        void str(String s) {
+            if (s == null) {
+                i(-1);
+                return;
+            }
+            byte[] b = s.getBytes(StandardCharsets.UTF_8);
+            i(b.length);
+            md.update(b);
+        }
+
+        void ints(int[] a) {
+            if (a == null) {
+                i(-1);
+                return;
+            }
+            i(a.length);
+            for (int v : a) i(v);
+        }
+
+        void matrix(int[][] a) {
+            if (a == null) {
+                i(-1);
+                return;
+            }
+            i(a.length);
+            for (int[] row : a) ints(row);
+        }
+
+        String finish() {
+            return HexFormat.of().formatHex(md.digest());
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 참조열과 (NUR 용) 쓰기 비트의 SHA-256. 요청당 한 번만 만들어 설정별 키에 넣으므로
+     * /paging/batch 의 설정이 64 개여도 참조열은 한 번만 해시합니다.
+     * 쓰기 비트는 NUR 설정이 있을 때만 (처음 필요할 때) 계산하고, 참조열 길이에 맞춰 정규화합니다.
+     */
+    static final class TraceDigest {
+        private final List<Integer> refs;
+        private final List<Boolean> writes;
+        private final byte[] refsDigest;
+        private byte[] writesDigest;
+
+        TraceDigest(List<Integer> refs, List<Boolean> writes) {
+            this.refs = refs != null ? refs : Collections.emptyList();
+            this.writes = writes;
+            MessageDigest md = sha256();
+            ByteBuffer buf = ByteBuffer.allocate(4096);
+            buf.putInt(this.refs.size());
+            for (Integer r : this.refs) {
+                if (!buf.hasRemaining()) flush(md, buf);
+                buf.putInt(r == null ? 0 : r);
+            }
+            flush(md, buf);
+            this.refsDigest = md.digest();
+        }
+
+        byte[] refs() {
+            return refsDigest;
+        }
+
+        synchronized byte[] writes() {
+            if (writesDigest == null) {
+                PagingParams params = PagingParams.of(null, null, writes);
+                MessageDigest md = sha256();
+                byte[] bits = new byte[4096];
+                int n = 0;
+                for (int i = 0; i < refs.size(); i++) {
+                    if (n == bits.length) {
+                        md.update(bits, 0, n);
+                        n = 0;
+                    }
+                    bits[n++] = (byte) (params.write(i) ? 1 : 0);
+                }
+                md.update(bits, 0, n);
+                writesDigest = md.digest();
+            }
+            return writesDigest;
+        }
+
+        private static void flush(MessageDigest md, ByteBuffer buf) {
+            md.update(buf.array(), 0, buf.position());
+            buf.clear();
+        }
+    }
+
+    /**
+     * 4행 count-min sketch. 카운터는 15 에서 멈추고, 증가 횟수가 표 크기의 10 배가 되면
+     * 전부 절반으로 줄여서 오래된 빈도가 서서히 잊혀지게 합니다.
+     */
+    static final class FrequencySketch {
+        private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+        private final byte[][] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int width) {
+            int w = Integer.highestOneBit(Math.max(16, width - 1) << 1);
+            this.table = new byte[SEEDS.length][w];
+            this.mask = w - 1;
+            this.sampleSize = 10 * w;
+        }
+
+        void increment(int h) {
+            for (int r = 0; r < SEEDS.length; r++) {
+                int idx = index(h, r);
+                if (table[r][idx] < 15) table[r][idx]++;
+            }
+            if (++additions >= sampleSize) {
+                for (byte[] row : table) {
+                    for (int i = 0; i < row.length; i++) row[i] >>= 1;
+                }
+                additions /= 2;
+            }
+        }
+
+        int frequency(int h) {
+            int min = 15;
+            for (int r = 0; r < SEEDS.length; r++) min = Math.min(min, table[r][index(h, r)]);
+            return min;
+        }
+
+        private int index(int h, int row) {
+            int x = h * SEEDS[row];
+            return (x ^ (x >>> 15)) & mask;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.scproject.osplatform.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+
+/**
+ * 비동기 시뮬레이션 작업 하나의 상태.
+ *
+ * 진행 상황은 작업 스레드가 checkpoint() 로만 갱신하고, 다른 스레드(상태 조회 / SSE)는 volatile 필드를 읽기만 합니다.
+ * 상태 전이(QUEUED -> RUNNING -> 끝)는 this 로 동기화합니다.
+ */
+final class SimulationJob {
+
+    enum Status { QUEUED, RUNNING, DONE, FAILED, CANCELLED }
+
+    final String id;
+    final String kind;
+    final String user;
+    final long total;          // 진행률 분모 (참조 수, 총 burst 등)
+    final long createdAt = System.currentTimeMillis();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile long done;
+    private volatile Map<String, Object> partial = Map.of();
+    private volatile Map<String, Object> result;
+    private volatile String error;
+    private volatile long finishedAt;
+    private volatile boolean cancelRequested;
+    private Future<?> future;
+
+    SimulationJob(String id, String kind, String user, long total) {
+        this.id = id;
+        this.kind = kind;
+        this.user = user;
+        this.total = Math.max(1, total);
+    }
+
+    /**
+     * 엔진 콜백 안에서 부릅니다. 진행 상황을 공개하고, 취소 요청이 있었으면 CancellationException 으로 빠져나갑니다.
+     */
+    void checkpoint(long done, Map<String, Object> partial) {
+        this.done = done;
+        this.partial = partial;
+        if (cancelRequested || Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("작업이 취소되었습니다.");
+        }
+    }
+
+    synchronized void attach(Future<?> future) {
+        this.future = future;
+        if (status == Status.CANCELLED) future.cancel(false); // 등록 직후, 넘기기 전에 취소된 경우
+    }
+
+    /** 큐에서 꺼내져 실행을 시작할 때. 이미 취소된 작업이면 false */
+    synchronized boolean start() {
+        if (status != Status.QUEUED) return false;
+        status = Status.RUNNING;
+        return true;
+    }
+
+    synchronized void finish(Status status, Map<String, Object> result, String error) {
+        if (this.status != Status.RUNNING) return;
+        if (status == Status.DONE) this.done = total;
+        this.result = result;
+        this.error = error;
+        this.finishedAt = System.currentTimeMillis();
+        this.status = status;
+    }
+
+    /**
+     * 취소. 대기 중이면 바로 CANCELLED (true 반환 -> 호출한 쪽이 자리 반납),
+     * 실행 중이면 취소 표시 + 인터럽트만 하고 실제 종료는 작업 스레드가 다음 checkpoint 에서 합니다.
+     */
+    synchronized boolean cancel() {
+        if (status == Status.QUEUED) {
+            status = Status.CANCELLED;
+            finishedAt = System.currentTimeMillis();
+            if (future != null) future.cancel(false);
+            return true;
+        }
+        if (status == Status.RUNNING) {
+            cancelRequested = true;
+            if (future != null) future.cancel(true);
+        }
+        return false;
+    }
+
+    Status status() {
+        return status;
+    }
+
+    boolean finished() {
+        Status s = status;
+        return s == Status.DONE || s == Status.FAILED || s == Status.CANCELLED;
+    }
+
+    long finishedAt() {
+        return finishedAt;
+    }
+
+    long done() {
+        return done;
+    }
+
+    Map<String, Object> snapshot(boolean withResult) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("id", id);
+        out.put("kind", kind);
+        out.put("status", status);
+        out.put("progress", Math.round(Math.min(done, total) * 1000.0 / total) / 1000.0);
+        out.put("partial", partial);
+        if (error != null) out.put("error", error);
+        if (withResult && result != null) out.put("result", result);
+        return out;
+    }
+}
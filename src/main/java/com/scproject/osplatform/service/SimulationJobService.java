@@ -0,0 +1,218 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.BankerReq;
+import com.scproject.osplatform.dto.sim.PagingReq;
+import com.scproject.osplatform.dto.sim.SchedulingReq;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * 큰 시뮬레이션을 Tomcat 요청 스레드 대신 전용 작업자 풀에서 돌리는 비동기 작업 API.
+ *
+ * - 제출하면 바로 작업 id 를 돌려주고, 상태 조회(폴링) 또는 SSE 구독으로 진행률 / 중간 결과를 봅니다.
+ * - 작업자 수와 대기열 길이는 simulationJobExecutor 가 제한하며, 대기열이 차면 RejectedExecutionException (-> 429).
+ * - 사용자별 동시 작업(대기 + 실행) 수도 sim.jobs.per-user 로 제한합니다.
+ * - 취소는 엔진 콜백(스텝 / 간트 조각)마다 확인하는 협조적 방식입니다.
+ */
+@Service
+public class SimulationJobService {
+
+    // 콜백을 이만큼 받을 때마다 진행 상황 공개 + 취소 확인
+    private static final int PAGING_CHECK_EVERY = 1024;
+    private static final int SCHEDULING_CHECK_EVERY = 64;
+    // 끝난 작업을 보관하는 시간 / 최대 개수
+    private static final long RETAIN_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final int MAX_RETAINED = 1000;
+    private static final long EVENT_INTERVAL_MILLIS = 250;
+
+    private final ThreadPoolExecutor executor;
+    private final PagingService pagingService;
+    private final SchedulingService schedulingService;
+    private final BankersService bankersService;
+    private final int perUser;
+
+    private final Map<String, SimulationJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, Integer> activePerUser = new ConcurrentHashMap<>();
+    private final Map<SseEmitter, SimulationJob> subscribers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "sim-job-events");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public SimulationJobService(ThreadPoolExecutor simulationJobExecutor,
+                                PagingService pagingService,
+                                SchedulingService schedulingService,
+                                BankersService bankersService,
+                                @Value("${sim.jobs.per-user:2}") int perUser) {
+        this.executor = simulationJobExecutor;
+        this.pagingService = pagingService;
+        this.schedulingService = schedulingService;
+        this.bankersService = bankersService;
+        this.perUser = Math.max(1, perUser);
+        ticker.scheduleWithFixedDelay(this::tick, EVENT_INTERVAL_MILLIS, EVENT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    // ===== 제출 =====
+
+    public Map<String, Object> submitPaging(PagingReq req, String user) {
+        long total = req.refs == null ? 0 : req.refs.size();
+        return submit("paging", user, total, job -> {
+            int[] counts = new int[2]; // [스텝, 폴트]
+            return pagingService.run(req, (ref, fault, slot, out, mem) -> {
+                counts[0]++;
+                if (fault) counts[1]++;
+                if (counts[0] % PAGING_CHECK_EVERY == 0) {
+                    job.checkpoint(counts[0], Map.of("steps", counts[0], "faults", counts[1]));
+                }
+            });
+        });
+    }
+
+    public Map<String, Object> submitScheduling(SchedulingReq req, String user) {
+        long total = 0; // 진행률 = 지금까지 실행된 CPU 시간 / 전체 burst 합
+        if (req.processes != null) {
+            for (SchedulingReq.Proc p : req.processes) total += Math.max(0, p.burst);
+        }
+        return submit("scheduling", user, total, job -> {
+            long[] counts = new long[3]; // [조각 수, 실행된 CPU 시간, 마지막 시각]
+            return schedulingService.run(req, (pid, start, end) -> {
+                counts[0]++;
+                counts[1] += end - start;
+                counts[2] = end;
+                if (counts[0] % SCHEDULING_CHECK_EVERY == 0) {
+                    job.checkpoint(counts[1], Map.of("segments", counts[0], "time", counts[2]));
+                }
+            });
+        });
+    }
+
+    public Map<String, Object> submitBankers(BankerReq req, String user) {
+        // 안전성 검사는 O(n·m·log n) 이라 중간 보고 없이 시작 전에만 취소를 확인
+        return submit("deadlock", user, 1, job -> {
+            job.checkpoint(0, Map.of());
+            return bankersService.run(req);
+        });
+    }
+
+    private Map<String, Object> submit(String kind, String user, long total,
+                                       Function<SimulationJob, Map<String, Object>> body) {
+        if (!acquire(user)) {
+            throw new RejectedExecutionException("사용자당 동시 작업 수(" + perUser + ")를 넘었습니다.");
+        }
+        SimulationJob job = new SimulationJob(UUID.randomUUID().toString(), kind, user, total);
+        // 작업자가 바로 꺼내 끝내도 조회/구독할 수 있도록 먼저 등록한 뒤 넘김
+        jobs.put(job.id, job);
+        try {
+            job.attach(executor.submit(() -> execute(job, body)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            if (job.cancel()) release(user); // 그 사이 cancel 로 이미 반납됐으면 두 번 반납하지 않음
+            throw new RejectedExecutionException("작업 대기열이 가득 찼습니다. 잠시 후 다시 시도하세요.");
+        }
+        return job.snapshot(false);
+    }
+
+    private void execute(SimulationJob job, Function<SimulationJob, Map<String, Object>> body) {
+        if (!job.start()) return; // 대기 중에 취소됨 (자리는 cancel 에서 반납)
+        try {
+            job.finish(SimulationJob.Status.DONE, body.apply(job), null);
+        } catch (CancellationException e) {
+            job.finish(SimulationJob.Status.CANCELLED, null, e.getMessage());
+        } catch (RuntimeException e) {
+            job.finish(SimulationJob.Status.FAILED, null, String.valueOf(e.getMessage()));
+        } finally {
+            release(job.user);
+        }
+    }
+
+    // ===== 조회 / 취소 / 구독 =====
+
+    public Map<String, Object> status(String id) {
+        return get(id).snapshot(true);
+    }
+
+    public Map<String, Object> cancel(String id) {
+        SimulationJob job = get(id);
+        if (job.cancel()) {
+            release(job.user);
+            executor.purge(); // 취소된 Future 를 대기열에서 치워 자리 확보
+        }
+        return job.snapshot(false);
+    }
+
+    /**
+     * SSE 구독. EVENT_INTERVAL_MILLIS 마다 "progress" 이벤트, 끝나면 결과를 담은 "done" 이벤트를 보내고 닫습니다.
+     */
+    public SseEmitter subscribe(String id) {
+        SimulationJob job = get(id);
+        SseEmitter emitter = new SseEmitter(0L);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(e -> subscribers.remove(emitter));
+        subscribers.put(emitter, job);
+        return emitter;
+    }
+
+    private void tick() {
+        for (Map.Entry<SseEmitter, SimulationJob> e : subscribers.entrySet()) {
+            SseEmitter emitter = e.getKey();
+            SimulationJob job = e.getValue();
+            try {
+                if (job.finished()) {
+                    emitter.send(SseEmitter.event().name("done").data(job.snapshot(true)));
+                    subscribers.remove(emitter);
+                    emitter.complete();
+                } else {
+                    emitter.send(SseEmitter.event().name("progress").data(job.snapshot(false)));
+                }
+            } catch (IOException | IllegalStateException ex) {
+                subscribers.remove(emitter);
+            }
+        }
+
+        // 오래된 / 너무 많은 완료 작업 정리
+        long now = System.currentTimeMillis();
+        jobs.values().removeIf(j -> j.finished() && now - j.finishedAt() > RETAIN_MILLIS);
+        if (jobs.size() > MAX_RETAINED) {
+            jobs.values().stream()
+                    .filter(SimulationJob::finished)
+                    .sorted(Comparator.comparingLong(SimulationJob::finishedAt))
+                    .limit(jobs.size() - MAX_RETAINED)
+                    .forEach(j -> jobs.remove(j.id));
+        }
+    }
+
+    private SimulationJob get(String id) {
+        SimulationJob job = jobs.get(id);
+        if (job == null) throw new NoSuchElementException("작업이 없습니다: " + id);
+        return job;
+    }
+
+    private boolean acquire(String user) {
+        boolean[] ok = {false};
+        activePerUser.compute(user, (u, n) -> {
+            int cur = n == null ? 0 : n;
+            if (cur >= perUser) return n;
+            ok[0] = true;
+            return cur + 1;
+        });
+        return ok[0];
+    }
+
+    private void release(String user) {
+        activePerUser.computeIfPresent(user, (u, n) -> n <= 1 ? null : n - 1);
+    }
+}
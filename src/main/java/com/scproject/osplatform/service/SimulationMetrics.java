@@ -0,0 +1,119 @@
+package com.scproject.osplatform.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * /api/sim/* 엔드포인트용 Micrometer 지표 (Actuator 의 /actuator/prometheus 로 노출).
+ *
+ *   sim.simulate.time     시뮬레이션에 걸린 시간          (endpoint, algo)
+ *   sim.serialize.time    결과 JSON 직렬화에 걸린 시간     (endpoint, algo)
+ *   sim.input.size        입력 크기                       (endpoint, algo, dim = refs|frames|processes|cells)
+ *   sim.output.items      스텝 / 간트 조각 / trace 항목 수 (endpoint, algo)
+ *   sim.response.bytes    직렬화된 응답 크기              (endpoint, algo)
+ *   sim.cache.requests    결과 캐시 적중 여부             (endpoint, result = hit|miss)
+ *
+ * algo 는 사용자가 보낸 문자열이라 그대로 태그로 쓰면 시계열이 끝없이 늘어날 수 있으므로
+ * 알려진 이름이 아니면 OTHER 로 묶습니다.
+ */
+@Component
+public class SimulationMetrics {
+
+    private static final Set<String> KNOWN_ALGOS = Set.of(
+            "FIFO", "LRU", "OPT", "LFU", "NUR", "CLOCK", "SECOND_CHANCE", "WS", "PFF",
+            "FCFS", "RR", "SJF", "SRT", "SRTF", "PRIORITY", "MLFQ",
+            "BANKERS");
+
+    private final MeterRegistry registry;
+
+    public SimulationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 시뮬레이션을 실행하면서 시간 / 입력 크기 / 출력 항목 수를 기록합니다.
+     */
+    Map<String, Object> simulate(String endpoint, String algo, Map<String, Long> inputSizes,
+                                 Supplier<Map<String, Object>> run) {
+        String tag = algoTag(algo);
+        inputSizes.forEach((dim, size) -> DistributionSummary.builder("sim.input.size")
+                .description("시뮬레이션 입력 크기")
+                .tags("endpoint", endpoint, "algo", tag, "dim", dim)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(1e8)
+                .register(registry)
+                .record(size));
+
+        Timer.Sample sample = Timer.start(registry);
+        Map<String, Object> result = run.get();
+        sample.stop(timer("sim.simulate.time", "시뮬레이션 시간", endpoint, tag));
+
+        DistributionSummary.builder("sim.output.items")
+                .description("스텝 / 간트 조각 / trace 항목 수")
+                .tags("endpoint", endpoint, "algo", tag)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(1e8)
+                .register(registry)
+                .record(outputItems(result));
+        return result;
+    }
+
+    /**
+     * 결과 직렬화 시간과 응답 크기를 기록합니다.
+     */
+    byte[] serialize(String endpoint, String algo, Supplier<byte[]> write) {
+        String tag = algoTag(algo);
+        Timer.Sample sample = Timer.start(registry);
+        byte[] body = write.get();
+        sample.stop(timer("sim.serialize.time", "응답 직렬화 시간", endpoint, tag));
+        DistributionSummary.builder("sim.response.bytes")
+                .description("직렬화된 응답 크기")
+                .baseUnit("bytes")
+                .tags("endpoint", endpoint, "algo", tag)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(64.0)
+                .maximumExpectedValue(1e9)
+                .register(registry)
+                .record(body.length);
+        return body;
+    }
+
+    void cacheRequest(String endpoint, boolean hit) {
+        Counter.builder("sim.cache.requests")
+                .description("결과 캐시 조회")
+                .tags("endpoint", endpoint, "result", hit ? "hit" : "miss")
+                .register(registry)
+                .increment();
+    }
+
+    private Timer timer(String name, String description, String endpoint, String algo) {
+        return Timer.builder(name)
+                .description(description)
+                .tags("endpoint", endpoint, "algo", algo)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    static String algoTag(String algo) {
+        return KNOWN_ALGOS.contains(algo) ? algo : "OTHER";
+    }
+
+    // 결과에 들어 있는 목록(steps / gantt / trace) 길이의 합
+    private static long outputItems(Map<String, Object> result) {
+        long items = 0;
+        for (String key : List.of("steps", "gantt", "trace")) {
+            if (result.get(key) instanceof List<?> list) items += list.size();
+        }
+        return items;
+    }
+}
@@ -0,0 +1,72 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.PagingReq;
+import com.scproject.osplatform.dto.sim.SchedulingReq;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 시뮬레이터 화면에서 입력을 조금씩 고쳐 가며 다시 돌리는 세션들.
+ * 첫 실행은 전체 결과를 주고, 이후 실행은 이전 실행과 달라진 부분만 돌려줍니다.
+ * (페이징: PagingSession, 스케줄링: SchedulingSession)
+ *
+ * sim.sessions.idle-minutes 동안 쓰이지 않은 세션은 정리됩니다 (SessionRegistry).
+ */
+@Service
+public class SimulationSessionService {
+
+    // 종류별로 동시에 열어 둘 수 있는 최대 세션 수 (페이징 세션은 스텝마다 해시를 들고 있어서 은행원 세션보다 적게)
+    private static final int MAX_SESSIONS = 128;
+
+    private final SchedulingService schedulingService;
+    private final SessionRegistry<PagingSession> paging;
+    private final SessionRegistry<SchedulingSession> scheduling;
+
+    public SimulationSessionService(SchedulingService schedulingService,
+                                    @Value("${sim.sessions.idle-minutes:30}") long idleMinutes) {
+        this.schedulingService = schedulingService;
+        this.paging = new SessionRegistry<>("세션", MAX_SESSIONS, idleMinutes);
+        this.scheduling = new SessionRegistry<>("세션", MAX_SESSIONS, idleMinutes);
+    }
+
+    public Map<String, Object> createPaging(PagingReq req) {
+        PagingSession session = new PagingSession();
+        Map<String, Object> first = session.run(req); // 잘못된 입력이면 세션을 만들지 않음
+        return withId(paging.add(session, 1), first);
+    }
+
+    public Map<String, Object> runPaging(String id, PagingReq req) {
+        return paging.get(id).run(req);
+    }
+
+    public boolean closePaging(String id) {
+        return paging.remove(id);
+    }
+
+    public Map<String, Object> createScheduling(SchedulingReq req) {
+        SchedulingSession session = new SchedulingSession(schedulingService);
+        Map<String, Object> first = session.run(req);
+        return withId(scheduling.add(session, 1), first);
+    }
+
+    public Map<String, Object> runScheduling(String id, SchedulingReq req) {
+        return scheduling.get(id).run(req);
+    }
+
+    public boolean closeScheduling(String id) {
+        return scheduling.remove(id);
+    }
+
+    SessionRegistry<PagingSession> pagingSessions() {
+        return paging;
+    }
+
+    private static Map<String, Object> withId(String id, Map<String, Object> first) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("id", id);
+        out.putAll(first);
+        return out;
+    }
+}
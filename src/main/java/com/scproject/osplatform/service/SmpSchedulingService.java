@@ -0,0 +1,416 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.SchedulingReq;
+import com.scproject.osplatform.dto.sim.SmpSchedulingReq;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 멀티코어(SMP) 스케줄링 시뮬레이션.
+ *
+ * CPU 마다 자기 run queue 를 갖고 하나의 이벤트 타임라인 위에서 동시에 돕니다.
+ *  - 도착한 프로세스는 affinity 가 허용하는 CPU 중 부하(대기 + 실행 중)가 가장 적은 곳에 배치
+ *  - 각 CPU 는 자기 큐에서만 꺼내 실행 (RR 은 퀀텀마다 자기 큐 뒤로, 나머지는 비선점)
+ *  - 큐 사이 이동(migration)은 balance 모드에 따라:
+ *      NONE  : 처음 배치된 CPU 에서만 실행
+ *      PUSH  : balanceInterval 마다 가장 붐비는 큐에서 가장 한가한 CPU 로 부하 차이가 1 이하가 될 때까지 밀어냄
+ *      PULL  : CPU 가 놀게 되면 가장 붐비는 큐에서 하나를 당겨 옴
+ *      STEAL : CPU 가 놀게 되면 무작위로 고른 CPU 부터 돌며 처음 만난 큐의 절반을 훔쳐 옴 (work stealing)
+ *    어느 경우든 affinity 가 허용하지 않는 CPU 로는 옮기지 않습니다.
+ *
+ * 이벤트는 "다음 도착", "CPU 별 실행 조각 끝", "PUSH 주기" 세 가지이고, CPU 별 다음 이벤트는 힙에 두므로
+ * 이벤트 하나가 O(log n + cpus) 입니다. (CPU 는 최대 64 개라 놀고 있는 CPU / 큐가 찬 CPU 를 long 비트마스크로 관리)
+ */
+@Service
+public class SmpSchedulingService {
+
+    static final int MAX_CPUS = 64;
+
+    private enum Balance { NONE, PUSH, PULL, STEAL }
+
+    /**
+     * 반환 형태:
+     * {
+     *   "cpus": [ { "cpu": 0, "gantt": [ { "pid": "P1", "start": 0, "end": 3 }, ... ], "busy": 120, "utilization": 0.95 }, ... ],
+     *   "metrics": { "avgWaiting": 1.5, "avgTurnaround": 4.2, "avgResponse": 1.5,
+     *                "makespan": 126, "utilization": 0.91, "migrations": 17 }
+     * }
+     */
+    public Map<String, Object> run(SmpSchedulingReq req) {
+        List<SchedulingReq.Proc> procs = req.processes != null ? req.processes : Collections.emptyList();
+        int cpus = req.cpus;
+        if (cpus < 1 || cpus > MAX_CPUS) throw new IllegalArgumentException("cpus 는 1~" + MAX_CPUS + " 이어야 합니다.");
+
+        // ProcTable.of 와 같은 안정 정렬을 하되 affinity 도 같은 순서로
+        Integer[] order = new Integer[procs.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparingInt(i -> procs.get(i).arrival));
+        int n = order.length;
+        String[] pid = new String[n];
+        int[] arrival = new int[n];
+        int[] burst = new int[n];
+        int[] priority = new int[n];
+        long[] affinity = new long[n];
+        long all = allCpus(cpus);
+        for (int i = 0; i < n; i++) {
+            SchedulingReq.Proc p = procs.get(order[i]);
+            pid[i] = p.pid;
+            arrival[i] = p.arrival;
+            burst[i] = p.burst;
+            priority[i] = p.priority;
+            affinity[i] = mask(p, cpus, all);
+        }
+        return run(ProcTable.sorted(pid, arrival, burst, priority), affinity, req);
+    }
+
+    /**
+     * affinity 가 null 이면 모든 프로세스가 모든 CPU 에서 실행 가능. (워크로드 생성기 등)
+     */
+    Map<String, Object> run(ProcTable t, long[] affinity, SmpSchedulingReq req) {
+        return new Engine(t, affinity, req).run();
+    }
+
+    private static long mask(SchedulingReq.Proc p, int cpus, long all) {
+        if (p.affinity == null || p.affinity.isEmpty()) return all;
+        long m = 0;
+        for (Integer c : p.affinity) {
+            if (c == null || c < 0 || c >= cpus) {
+                throw new IllegalArgumentException(p.pid + " 의 affinity 에 없는 CPU 번호가 있습니다: " + c);
+            }
+            m |= 1L << c;
+        }
+        return m;
+    }
+
+    private static long allCpus(int cpus) {
+        return cpus == 64 ? -1L : (1L << cpus) - 1;
+    }
+
+    private static final class Engine {
+        private final ProcTable t;
+        private final long[] affinity;
+        private final int cpus;
+        private final String algo;
+        private final int quantum;
+        private final Balance balance;
+        private final int interval;
+        private final int migrationCost;
+        private final SplittableRandom rnd;
+        private final boolean withGantt;
+
+        // 프로세스별
+        private final int[] remaining;
+        private final int[] firstStart;
+        private final int[] endTime;
+        private final int[] lastCpu;
+
+        // CPU 별
+        private final ProcHeap[] queue;
+        private final int[] running;
+        private final int[] runStart;
+        private final long[] busy;
+        private final GanttMerger[] lanes;
+        private final List<List<Map<String, Object>>> gantt;
+        private final ProcHeap events;   // id = CPU, key = 실행 중인 조각이 끝나는 시각
+        private long idleMask;           // 놀고 있는 CPU
+        private long queuedMask;         // 큐에 대기 프로세스가 있는 CPU
+
+        private long seq;                // FIFO 정책의 큐 키 (들어온 순서)
+        private long migrations;
+        private int done;
+        private int time;
+
+        Engine(ProcTable t, long[] affinity, SmpSchedulingReq req) {
+            this.t = t;
+            this.cpus = req.cpus;
+            if (cpus < 1 || cpus > MAX_CPUS) throw new IllegalArgumentException("cpus 는 1~" + MAX_CPUS + " 이어야 합니다.");
+            this.affinity = affinity;
+            this.algo = req.algo == null ? "RR" : req.algo.toUpperCase(Locale.ROOT);
+            if (!Set.of("RR", "FCFS", "SJF", "PRIORITY").contains(algo)) {
+                throw new IllegalArgumentException("SMP 에서 지원하지 않는 알고리즘: " + req.algo + " (가능: RR, FCFS, SJF, PRIORITY)");
+            }
+            this.quantum = req.quantum == null || req.quantum <= 0 ? 4 : req.quantum;
+            try {
+                this.balance = req.balance == null ? Balance.STEAL : Balance.valueOf(req.balance.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 balance: " + req.balance + " (가능: NONE, PUSH, PULL, STEAL)");
+            }
+            this.interval = req.balanceInterval == null || req.balanceInterval <= 0 ? 10 : req.balanceInterval;
+            this.migrationCost = req.migrationCost == null || req.migrationCost < 0 ? 0 : req.migrationCost;
+            this.rnd = new SplittableRandom(req.seed == null ? 0 : req.seed);
+            this.withGantt = !Boolean.TRUE.equals(req.summaryOnly);
+
+            int n = t.n;
+            remaining = Arrays.copyOf(t.burst, n);
+            firstStart = new int[n];
+            endTime = new int[n];
+            lastCpu = new int[n];
+            Arrays.fill(firstStart, -1);
+            Arrays.fill(lastCpu, -1);
+
+            queue = new ProcHeap[cpus];
+            running = new int[cpus];
+            runStart = new int[cpus];
+            busy = new long[cpus];
+            lanes = new GanttMerger[cpus];
+            gantt = new ArrayList<>(cpus);
+            for (int c = 0; c < cpus; c++) {
+                queue[c] = new ProcHeap(16);
+                running[c] = -1;
+                List<Map<String, Object>> lane = new ArrayList<>();
+                gantt.add(lane);
+                lanes[c] = new GanttMerger(t, withGantt ? (pid, start, end) -> lane.add(segment(pid, start, end)) : GanttListener.NONE);
+            }
+            events = new ProcHeap(cpus);
+            idleMask = allCpus(cpus);
+        }
+
+        Map<String, Object> run() {
+            int n = t.n;
+            int next = 0;
+            long nextTick = interval;
+            int[] preempted = new int[cpus];
+
+            while (done < n) {
+                long nextArrival = next < n ? t.arrival[next] : Long.MAX_VALUE;
+                long nextEvent = events.isEmpty() ? Long.MAX_VALUE : events.peekKey();
+                long at = Math.min(nextArrival, nextEvent);
+                if (balance == Balance.PUSH) {
+                    // 대기 중인 프로세스가 없으면 밸런싱할 것도 없으므로 주기만 따라 올림
+                    if (queuedMask != 0) at = Math.min(at, nextTick);
+                    else if (nextTick < at) nextTick = (at / interval + 1) * interval;
+                }
+                time = (int) at;
+
+                // 1) 이 시각에 끝나는 실행 조각
+                int preemptedCount = 0;
+                while (!events.isEmpty() && events.peekKey() == time) {
+                    int c = events.pop();
+                    if (!endSlice(c)) preempted[preemptedCount++] = c;
+                }
+                // 2) 도착. 단일 CPU RR 과 같이 같은 시각에 도착한 프로세스가 퀀텀을 다 쓴 프로세스보다 앞에 섬
+                while (next < n && t.arrival[next] <= time) {
+                    enqueue(place(next), next, key(next));
+                    next++;
+                }
+                for (int i = 0; i < preemptedCount; i++) {
+                    int c = preempted[i];
+                    enqueue(c, running[c], key(running[c])); // RR: 자기 큐 뒤로
+                    running[c] = -1;
+                    idleMask |= 1L << c;
+                }
+                // 3) 주기적 push
+                if (balance == Balance.PUSH && time >= nextTick) {
+                    push();
+                    nextTick = ((long) time / interval + 1) * interval;
+                }
+                // 4) 노는 CPU 에 일 주기 (자기 큐가 비었으면 pull / steal)
+                for (long idle = idleMask; idle != 0; idle &= idle - 1) {
+                    int c = Long.numberOfTrailingZeros(idle);
+                    if (queue[c].isEmpty() && queuedMask != 0) {
+                        if (balance == Balance.PULL) pull(c);
+                        else if (balance == Balance.STEAL) steal(c);
+                    }
+                    if (!queue[c].isEmpty()) dispatch(c);
+                }
+            }
+
+            for (GanttMerger lane : lanes) lane.flush();
+            return result();
+        }
+
+        // 실행 조각이 끝남. 프로세스가 끝났으면 true, 아니면 다시 큐에 넣을 때까지 running 에 남겨 둠 (부하로 계산)
+        private boolean endSlice(int c) {
+            int id = running[c];
+            int start = runStart[c];
+            busy[c] += time - start;
+            remaining[id] -= time - start;
+            lanes[c].add(id, start, time);
+            if (remaining[id] > 0) return false;
+            endTime[id] = time;
+            done++;
+            running[c] = -1;
+            idleMask |= 1L << c;
+            return true;
+        }
+
+        private void dispatch(int c) {
+            ProcHeap q = queue[c];
+            int id = q.pop();
+            while (remaining[id] <= 0) {
+                // burst 0 인 프로세스는 꺼내는 순간 끝난 것으로 처리
+                if (firstStart[id] == -1) firstStart[id] = time;
+                endTime[id] = time;
+                done++;
+                if (q.isEmpty()) {
+                    queuedMask &= ~(1L << c);
+                    return;
+                }
+                id = q.pop();
+            }
+            if (q.isEmpty()) queuedMask &= ~(1L << c);
+            if (firstStart[id] == -1) firstStart[id] = time;
+            if (lastCpu[id] != -1 && lastCpu[id] != c) remaining[id] += migrationCost;
+            lastCpu[id] = c;
+
+            int slice = algo.equals("RR") ? Math.min(quantum, remaining[id]) : remaining[id];
+            running[c] = id;
+            runStart[c] = time;
+            idleMask &= ~(1L << c);
+            events.push((long) time + slice, c);
+        }
+
+        // affinity 가 허용하는 CPU 중 (대기 + 실행 중) 이 가장 적은 곳. 같으면 번호가 작은 CPU
+        private int place(int id) {
+            long allowed = allowed(id);
+            if (allowed == 0) throw new IllegalArgumentException(t.pid[id] + " 의 affinity 가 비어 있습니다.");
+            int best = -1;
+            int bestLoad = Integer.MAX_VALUE;
+            for (long m = allowed; m != 0; m &= m - 1) {
+                int c = Long.numberOfTrailingZeros(m);
+                int load = load(c);
+                if (load < bestLoad) {
+                    best = c;
+                    bestLoad = load;
+                }
+            }
+            return best;
+        }
+
+        private void push() {
+            while (true) {
+                int from = -1, to = -1;
+                for (long m = queuedMask; m != 0; m &= m - 1) {
+                    int c = Long.numberOfTrailingZeros(m);
+                    if (from == -1 || load(c) > load(from)) from = c;
+                }
+                if (from == -1) return;
+                int id = queue[from].peekId();
+                // 맨 앞 프로세스가 갈 수 있는 CPU 중 가장 한가한 곳
+                for (long m = allowed(id) & ~(1L << from); m != 0; m &= m - 1) {
+                    int c = Long.numberOfTrailingZeros(m);
+                    if (to == -1 || load(c) < load(to)) to = c;
+                }
+                if (to == -1 || load(from) - load(to) <= 1) return;
+                move(from, to);
+            }
+        }
+
+        private void pull(int c) {
+            int from = -1;
+            for (long m = queuedMask & ~(1L << c); m != 0; m &= m - 1) {
+                int v = Long.numberOfTrailingZeros(m);
+                if ((allowed(queue[v].peekId()) & (1L << c)) == 0) continue;
+                if (from == -1 || queue[v].size() > queue[from].size()) from = v;
+            }
+            if (from != -1) move(from, c);
+        }
+
+        private void steal(int c) {
+            int start = rnd.nextInt(cpus);
+            for (int k = 0; k < cpus; k++) {
+                int v = (start + k) % cpus;
+                if (v == c || (queuedMask & (1L << v)) == 0) continue;
+                // 큐 앞쪽 절반을 훔치되, c 에서 못 도는 프로세스는 제자리로
+                ProcHeap q = queue[v];
+                int want = (q.size() + 1) / 2;
+                int[] skipped = null;
+                long[] skippedKeys = null;
+                int skippedCount = 0;
+                int stolen = 0;
+                while (stolen < want && !q.isEmpty()) {
+                    int id = q.peekId();
+                    if ((allowed(id) & (1L << c)) != 0) {
+                        move(v, c);
+                        stolen++;
+                    } else {
+                        if (skipped == null) {
+                            skipped = new int[want];
+                            skippedKeys = new long[want];
+                        }
+                        if (skippedCount == want) break;
+                        skippedKeys[skippedCount] = q.peekKey();
+                        skipped[skippedCount++] = q.pop();
+                    }
+                }
+                for (int i = 0; i < skippedCount; i++) q.push(skippedKeys[i], skipped[i]);
+                if (!q.isEmpty()) queuedMask |= 1L << v;
+                if (stolen > 0) return;
+            }
+        }
+
+        // from 큐의 맨 앞 프로세스를 to 큐로 (큐 키는 그대로라 FIFO 순서도 유지)
+        private void move(int from, int to) {
+            ProcHeap q = queue[from];
+            long key = q.peekKey();
+            int id = q.pop();
+            if (q.isEmpty()) queuedMask &= ~(1L << from);
+            enqueue(to, id, key);
+            migrations++;
+        }
+
+        private void enqueue(int c, int id, long key) {
+            queue[c].push(key, id);
+            queuedMask |= 1L << c;
+        }
+
+        private long key(int id) {
+            return switch (algo) {
+                case "SJF" -> t.burst[id];
+                case "PRIORITY" -> t.priority[id];
+                default -> seq++;
+            };
+        }
+
+        private int load(int c) {
+            return queue[c].size() + (running[c] == -1 ? 0 : 1);
+        }
+
+        private long allowed(int id) {
+            return affinity == null ? allCpus(cpus) : affinity[id];
+        }
+
+        private Map<String, Object> result() {
+            int n = t.n;
+            int first = n == 0 ? 0 : t.arrival[0];
+            int makespan = 0;
+            for (int i = 0; i < n; i++) makespan = Math.max(makespan, endTime[i]);
+            long span = Math.max(1, makespan - first);
+
+            List<Map<String, Object>> perCpu = new ArrayList<>(cpus);
+            long totalBusy = 0;
+            for (int c = 0; c < cpus; c++) {
+                Map<String, Object> cpu = new LinkedHashMap<>();
+                cpu.put("cpu", c);
+                if (withGantt) cpu.put("gantt", gantt.get(c));
+                cpu.put("busy", busy[c]);
+                cpu.put("utilization", round(busy[c] / (double) span));
+                perCpu.add(cpu);
+                totalBusy += busy[c];
+            }
+
+            Map<String, Object> metrics = new LinkedHashMap<>(t.metrics(firstStart, endTime));
+            metrics.put("makespan", makespan);
+            metrics.put("utilization", round(totalBusy / ((double) span * cpus)));
+            metrics.put("migrations", migrations);
+
+            Map<String, Object> out = new LinkedHashMap<>();
+            out.put("cpus", perCpu);
+            out.put("metrics", metrics);
+            return out;
+        }
+
+        private static Map<String, Object> segment(String pid, int start, int end) {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("pid", pid);
+            m.put("start", start);
+            m.put("end", end);
+            return m;
+        }
+
+        private static double round(double v) {
+            return Math.round(v * 10000.0) / 10000.0;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.scproject.osplatform.service;
+
+/**
+ * 집합 연관(set-associative) TLB.
+ *
+ * 태그는 long[] 하나에 집합별로 ways 칸씩 붙여 두고 (0 = 빈 칸, 그 외 vpn + 1),
+ * 집합 번호는 vpn 의 하위 비트를 마스크로 잘라 구합니다. (집합 수는 2 의 거듭제곱)
+ * 집합 안의 LRU 순서는 long 하나에 4비트씩 way 번호를 담아 두고 (하위 니블 = 가장 최근) 시프트로 갱신하므로,
+ * 조회 / 삽입 / 무효화 모두 할당 없이 O(ways) 입니다.
+ */
+final class Tlb {
+
+    static final int MAX_WAYS = 16;
+
+    final int ways;
+    final int sets;
+    private final int setMask;
+    private final long[] tags;
+    private final long[] order;
+
+    Tlb(int entries, int ways) {
+        if (ways < 1 || ways > MAX_WAYS) throw new IllegalArgumentException("tlbWays 는 1~" + MAX_WAYS + " 이어야 합니다.");
+        if (entries < ways || entries % ways != 0 || Integer.bitCount(entries / ways) != 1 || entries > (1 << 20)) {
+            throw new IllegalArgumentException("tlbEntries 는 tlbWays 의 2^k 배여야 합니다. (최대 1048576)");
+        }
+        this.ways = ways;
+        this.sets = entries / ways;
+        this.setMask = sets - 1;
+        this.tags = new long[entries];
+        this.order = new long[sets];
+        long initial = 0;
+        for (int w = ways - 1; w >= 0; w--) initial = (initial << 4) | w;
+        java.util.Arrays.fill(order, initial);
+    }
+
+    /** 있으면 가장 최근으로 올리고 true */
+    boolean lookup(long vpn) {
+        int set = (int) vpn & setMask;
+        int base = set * ways;
+        long tag = vpn + 1;
+        for (int w = 0; w < ways; w++) {
+            if (tags[base + w] == tag) {
+                touch(set, w);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 빈 칸이 있으면 거기에, 없으면 집합의 LRU 칸에 넣음 */
+    void insert(long vpn) {
+        int set = (int) vpn & setMask;
+        int base = set * ways;
+        int way = -1;
+        for (int w = 0; w < ways; w++) {
+            if (tags[base + w] == 0) {
+                way = w;
+                break;
+            }
+        }
+        if (way == -1) way = (int) (order[set] >>> (4 * (ways - 1))) & 0xF;
+        tags[base + way] = vpn + 1;
+        touch(set, way);
+    }
+
+    /** 페이지가 메모리에서 나가면 해당 변환도 지움 (TLB shootdown) */
+    void invalidate(long vpn) {
+        int set = (int) vpn & setMask;
+        int base = set * ways;
+        long tag = vpn + 1;
+        for (int w = 0; w < ways; w++) {
+            if (tags[base + w] == tag) {
+                tags[base + w] = 0;
+                return;
+            }
+        }
+    }
+
+    // way 를 순서 워드의 맨 앞(하위 니블)으로: 그 앞에 있던 니블들을 한 칸씩 위로 밀어 올림
+    private void touch(int set, int way) {
+        long o = order[set];
+        int pos = 0;
+        while (((o >>> (4 * pos)) & 0xF) != way) pos++;
+        if (pos == 0) return;
+        long below = o & ((1L << (4 * pos)) - 1);
+        long above = pos == 15 ? 0 : o & (-1L << (4 * (pos + 1)));
+        order[set] = above | (below << 4) | way;
+    }
+}
@@ -0,0 +1,244 @@
+package com.scproject.osplatform.service;
+
+import java.util.*;
+
+/**
+ * 간선을 하나씩 추가/삭제하는 대기 그래프 (P -> Q : P 가 Q 가 가진 자원을 기다림).
+ *
+ * 사이클이 없는 부분(DAG 간선)에 대해 위상 순서 ord 를 유지합니다 (Pearce–Kelly).
+ * u -> v 추가 시 ord[u] < ord[v] 면 순서가 그대로 유효하므로 O(1) 이고, 아니면
+ * ord[v]..ord[u] 구간에 걸린 노드들만 앞/뒤로 탐색해서
+ *  - 앞으로 탐색하다 u 에 닿으면 사이클 -> 이 간선은 "사이클 간선" 으로 따로 보관
+ *  - 아니면 탐색된 노드들끼리만 순서를 다시 매김
+ * 즉 매번 그래프 전체가 아니라 영향받는 구간만 봅니다.
+ *
+ * 삭제는 DAG 의 위상 순서를 깨뜨리지 않으므로 O(차수) 이고, DAG 간선이 빠졌을 때는
+ * 보관 중인 사이클 간선들(deferred 목록, 노드 수와 무관)만 다시 넣어 봐서 사이클이 풀렸는지 확인합니다.
+ * 따라서 "사이클 간선이 하나라도 남아 있다" == "그래프에 교착 상태가 있다" 입니다.
+ */
+final class WaitForGraph {
+
+    private final int n;
+    private final IntList[] out;      // DAG 간선
+    private final IntList[] in;
+    private final IntList[] cycleOut; // 추가하면 사이클이 생겨서 따로 둔 간선
+    private long[] deferred = new long[16]; // 같은 사이클 간선들을 (u << 32 | v) 로, 앞 cycleEdges 개만 유효
+    private int cycleEdges;
+    private int dagEdges;
+
+    private final int[] ord;     // 노드 -> 위상 순서 위치
+
+    // 탐색용 작업 공간 (mark[v] == epoch 이면 이번 탐색에서 방문)
+    private final int[] mark;
+    private final int[] parent;
+    private final int[] stack;
+    private int epoch;
+
+    WaitForGraph(int n) {
+        this.n = n;
+        this.out = new IntList[n];
+        this.in = new IntList[n];
+        this.cycleOut = new IntList[n];
+        this.ord = new int[n];
+        for (int i = 0; i < n; i++) {
+            out[i] = new IntList();
+            in[i] = new IntList();
+            cycleOut[i] = new IntList();
+            ord[i] = i;
+        }
+        this.mark = new int[n];
+        this.parent = new int[n];
+        this.stack = new int[n];
+    }
+
+    int size() {
+        return n;
+    }
+
+    int edgeCount() {
+        return dagEdges + cycleEdges;
+    }
+
+    boolean hasCycle() {
+        return cycleEdges > 0;
+    }
+
+    /**
+     * 간선 추가. 사이클이 생기면 그 사이클(u 에서 시작해 u 로 돌아오기 직전까지)을,
+     * 아니면 null 을 돌려줍니다. 이미 있는 간선이면 아무 것도 하지 않고 null.
+     */
+    int[] add(int u, int v) {
+        check(u);
+        check(v);
+        if (out[u].contains(v) || cycleOut[u].contains(v)) return null;
+
+        int[] cycle = insert(u, v);
+        if (cycle != null) {
+            cycleOut[u].add(v);
+            if (cycleEdges == deferred.length) deferred = Arrays.copyOf(deferred, cycleEdges * 2);
+            deferred[cycleEdges++] = edge(u, v);
+        }
+        return cycle;
+    }
+
+    /**
+     * 간선 삭제. 없던 간선이면 false.
+     */
+    boolean remove(int u, int v) {
+        check(u);
+        check(v);
+        if (cycleOut[u].remove(v)) {
+            long e = edge(u, v);
+            for (int i = 0; i < cycleEdges; i++) {
+                if (deferred[i] == e) {
+                    deferred[i] = deferred[--cycleEdges];
+                    break;
+                }
+            }
+            return true;
+        }
+        if (!out[u].remove(v)) return false;
+        in[v].remove(u);
+        dagEdges--;
+        if (cycleEdges > 0) retryCycleEdges();
+        return true;
+    }
+
+    /**
+     * 현재 그래프(사이클 간선 포함)에서 사이클을 이루는 SCC 들.
+     * 사이클 간선이 없으면 DAG 이므로 탐색 없이 바로 빈 목록입니다.
+     */
+    List<int[]> cycles() {
+        if (cycleEdges == 0) return List.of();
+        int[] offsets = new int[n + 1];
+        int[] targets = new int[dagEdges + cycleEdges];
+        int k = 0;
+        for (int u = 0; u < n; u++) {
+            offsets[u] = k;
+            for (int i = 0; i < out[u].size(); i++) targets[k++] = out[u].get(i);
+            for (int i = 0; i < cycleOut[u].size(); i++) targets[k++] = cycleOut[u].get(i);
+        }
+        offsets[n] = k;
+        return Scc.cycles(n, offsets, targets);
+    }
+
+    // DAG 간선이 빠진 뒤, 보관 중인 사이클 간선 중 이제는 사이클을 만들지 않는 것을 DAG 로 옮김
+    // (간선을 더 넣는다고 사이클이 풀리지는 않으므로 한 바퀴만 돌면 충분)
+    private void retryCycleEdges() {
+        for (int i = cycleEdges - 1; i >= 0; i--) {
+            int u = (int) (deferred[i] >>> 32);
+            int v = (int) deferred[i];
+            if (insert(u, v) == null) {
+                cycleOut[u].remove(v);
+                deferred[i] = deferred[--cycleEdges]; // 뒤에서 가져온 간선은 이미 확인한 것
+            }
+        }
+    }
+
+    private static long edge(int u, int v) {
+        return (long) u << 32 | v;
+    }
+
+    // Pearce–Kelly 삽입. 사이클이면 DAG 를 건드리지 않고 사이클 경로를 반환
+    private int[] insert(int u, int v) {
+        if (u == v) return new int[]{u};
+        int lb = ord[v];
+        int ub = ord[u];
+        if (lb > ub) {
+            link(u, v);
+            return null;
+        }
+
+        // 1) v 에서 앞으로, ord <= ub 인 노드만
+        int fEpoch = ++epoch;
+        int fCount = 0;
+        int[] forward = new int[16];
+        int sp = 0;
+        stack[sp++] = v;
+        mark[v] = fEpoch;
+        parent[v] = -1;
+        while (sp > 0) {
+            int x = stack[--sp];
+            if (fCount == forward.length) forward = Arrays.copyOf(forward, fCount * 2);
+            forward[fCount++] = x;
+            IntList succ = out[x];
+            for (int i = 0; i < succ.size(); i++) {
+                int y = succ.get(i);
+                if (y == u) {
+                    parent[u] = x;
+                    return path(v, u);
+                }
+                if (mark[y] != fEpoch && ord[y] < ub) {
+                    mark[y] = fEpoch;
+                    parent[y] = x;
+                    stack[sp++] = y;
+                }
+            }
+        }
+
+        // 2) u 에서 뒤로, ord >= lb 인 노드만
+        int bEpoch = ++epoch;
+        int bCount = 0;
+        int[] backward = new int[16];
+        stack[sp++] = u;
+        mark[u] = bEpoch;
+        while (sp > 0) {
+            int x = stack[--sp];
+            if (bCount == backward.length) backward = Arrays.copyOf(backward, bCount * 2);
+            backward[bCount++] = x;
+            IntList pred = in[x];
+            for (int i = 0; i < pred.size(); i++) {
+                int y = pred.get(i);
+                if (mark[y] != bEpoch && ord[y] > lb) {
+                    mark[y] = bEpoch;
+                    stack[sp++] = y;
+                }
+            }
+        }
+
+        // 3) 뒤쪽 집합 -> 앞쪽 집합 순으로, 둘이 쓰던 위치들을 다시 배정
+        sortByOrd(backward, bCount);
+        sortByOrd(forward, fCount);
+        int total = bCount + fCount;
+        int[] slots = new int[total];
+        for (int i = 0; i < bCount; i++) slots[i] = ord[backward[i]];
+        for (int i = 0; i < fCount; i++) slots[bCount + i] = ord[forward[i]];
+        Arrays.sort(slots);
+        for (int i = 0; i < total; i++) {
+            int node = i < bCount ? backward[i] : forward[i - bCount];
+            ord[node] = slots[i];
+        }
+        link(u, v);
+        return null;
+    }
+
+    private void link(int u, int v) {
+        out[u].add(v);
+        in[v].add(u);
+        dagEdges++;
+    }
+
+    // parent 를 따라 u -> ... 를 복원: 결과는 u, v, ..., (u 직전 노드)
+    private int[] path(int v, int u) {
+        int len = 1;
+        for (int x = parent[u]; x != -1; x = parent[x]) len++;
+        int[] p = new int[len];
+        p[0] = u;
+        int i = len - 1;
+        for (int x = parent[u]; x != -1; x = parent[x]) p[i--] = x;
+        return p;
+    }
+
+    private void sortByOrd(int[] nodes, int count) {
+        long[] keyed = new long[count];
+        for (int i = 0; i < count; i++) keyed[i] = ((long) ord[nodes[i]] << 32) | nodes[i];
+        Arrays.sort(keyed);
+        for (int i = 0; i < count; i++) nodes[i] = (int) keyed[i];
+    }
+
+    private void check(int node) {
+        if (node < 0 || node >= n) {
+            throw new IllegalArgumentException("프로세스 번호가 범위를 벗어났습니다: " + node);
+        }
+    }
+}
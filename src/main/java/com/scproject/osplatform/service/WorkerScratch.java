@@ -0,0 +1,72 @@
+package com.scproject.osplatform.service;
+
+/**
+ * 작업자 스레드 하나가 여러 시나리오를 연달아 돌릴 때 다시 쓰는 작업용 배열 묶음.
+ *
+ * 엔진은 시나리오마다 프레임 배열, 페이지 해시, need 행렬 같은 임시 배열을 새로 만드는데,
+ * 작은 시나리오 수천 개를 돌리면 그 할당/GC 가 실제 계산보다 커집니다.
+ * 그래서 슬롯마다 지금까지 필요했던 가장 큰 배열을 들고 있다가 그대로 빌려 줍니다.
+ *  - 돌려받는 배열은 요청한 길이보다 길 수 있고, 내용은 이전 시나리오가 쓰던 값 그대로입니다. (초기화는 쓰는 쪽 책임)
+ *  - 스레드 사이에 공유하면 안 됩니다.
+ */
+final class WorkerScratch {
+
+    // int[] 슬롯
+    static final int FRAMES = 0;
+    static final int PAGE_IN_SLOT = 1;
+    static final int SLOT_OF = 2;
+    static final int FREE = 3;
+    static final int PAGE_IDS = 4;
+    static final int HASH_KEYS = 5;
+    static final int HASH_VALS = 6;
+    static final int NEED = 7;
+    static final int ALLOC = 8;
+    static final int SEQ = 9;
+    static final int BY_NEED = 10;
+    static final int WORK = 11;
+    static final int PTR = 12;
+    static final int UNSATISFIED = 13;
+    static final int FINISH = 14;
+    private static final int INT_SLOTS = 15;
+
+    // long[] 슬롯
+    static final int SORT_KEYS = 0;
+    private static final int LONG_SLOTS = 1;
+
+    private final int[][] ints = new int[INT_SLOTS][];
+    private final long[][] longs = new long[LONG_SLOTS][];
+
+    /** 길이가 최소 n 인 int 배열 */
+    int[] ints(int slot, int n) {
+        int[] a = ints[slot];
+        if (a == null || a.length < n) {
+            a = new int[grow(a == null ? 0 : a.length, n)];
+            ints[slot] = a;
+        }
+        return a;
+    }
+
+    /** 길이가 정확히 n 인 int 배열 (배열 길이를 그대로 노출하는 곳용. 같은 n 이 반복되면 재사용) */
+    int[] exact(int slot, int n) {
+        int[] a = ints[slot];
+        if (a == null || a.length != n) {
+            a = new int[n];
+            ints[slot] = a;
+        }
+        return a;
+    }
+
+    /** 길이가 최소 n 인 long 배열 */
+    long[] longs(int slot, int n) {
+        long[] a = longs[slot];
+        if (a == null || a.length < n) {
+            a = new long[grow(a == null ? 0 : a.length, n)];
+            longs[slot] = a;
+        }
+        return a;
+    }
+
+    private static int grow(int current, int n) {
+        return Math.min(Integer.MAX_VALUE - 8, Math.max(n, current + (current >> 1)));
+    }
+}
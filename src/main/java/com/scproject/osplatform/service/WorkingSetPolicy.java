@@ -0,0 +1,66 @@
+package com.scproject.osplatform.service;
+
+/**
+ * Working-Set – 최근 Δ(window) 번의 참조에 나온 페이지만 메모리에 둡니다. (가변 할당, frames 는 상한)
+ *
+ * 최근 사용 순서 리스트는 마지막 참조 시각 순이기도 하므로, 시각 t 에 창에서 빠질 수 있는 페이지는
+ * 꼬리뿐입니다. 스텝이 끝날 때 꼬리의 마지막 참조가 t - Δ 이하이면 반납합니다. (스텝마다 많아야 하나, O(1))
+ * 상태는 프레임 크기 배열뿐이라 참조열 길이나 Δ 와 무관합니다.
+ * 작업 집합이 frames 보다 커지면 LRU 로 교체합니다.
+ */
+final class WorkingSetPolicy implements PageReplacementPolicy {
+
+    private final RecencyList recency;
+    private final int[] lastUse; // 프레임 -> 마지막 참조 시각
+    private final int window;
+    private int touched = -1;    // 마지막으로 hit / loaded 된 시각 (그 스텝이 끝난 뒤에만 반납)
+
+    WorkingSetPolicy(int frames, PageIds ids, PagingParams params) {
+        recency = new RecencyList(frames);
+        lastUse = new int[frames];
+        window = Math.max(1, params.window);
+    }
+
+    private WorkingSetPolicy(WorkingSetPolicy o) {
+        recency = o.recency.copy();
+        lastUse = o.lastUse.clone();
+        window = o.window;
+        touched = o.touched;
+    }
+
+    @Override
+    public void hit(int slot, int page, int time, boolean write) {
+        recency.moveToFront(slot);
+        lastUse[slot] = time;
+        touched = time;
+    }
+
+    @Override
+    public int victim(int time) {
+        int slot = recency.tail();
+        recency.unlink(slot);
+        return slot;
+    }
+
+    @Override
+    public void loaded(int slot, int page, int time, boolean write) {
+        recency.pushFront(slot);
+        lastUse[slot] = time;
+        touched = time;
+    }
+
+    @Override
+    public int release(int time) {
+        // fault 처리 전(faulting 직후)에는 반납하지 않음: 창에서 빠지는 페이지는 이번 참조를 처리한 뒤에 내보냄
+        if (touched != time) return -1;
+        int slot = recency.tail();
+        if (slot == -1 || lastUse[slot] > time - window) return -1;
+        recency.unlink(slot);
+        return slot;
+    }
+
+    @Override
+    public PageReplacementPolicy copy() {
+        return new WorkingSetPolicy(this);
+    }
+}
@@ -0,0 +1,244 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.PagingWorkloadReq;
+import com.scproject.osplatform.dto.sim.SchedulingWorkloadReq;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * 작은 생성 규칙(spec)으로 큰 참조열 / 프로세스 표를 서버에서 직접 만듭니다.
+ *
+ * 결과는 List<Integer> / DTO 목록 없이 엔진이 바로 읽는 int[] (PageIds) 와 ProcTable 배열로 곧장 채우고,
+ * 같은 spec + seed 면 항상 같은 입력이 나옵니다. (SplittableRandom 은 JDK 버전이 같으면 결과가 고정)
+ */
+final class WorkloadGenerator {
+
+    static final int MAX_REFS = 50_000_000;
+    static final int MAX_PAGES = 1 << 24;
+    static final int MAX_PROCESSES = 2_000_000;
+
+    private WorkloadGenerator() {
+    }
+
+    // ===== 참조열 =====
+
+    /**
+     * UNIFORM : pages 개 중 균등
+     * ZIPF    : 순위 k 가 1/k^skew 에 비례 (페이지 0 이 가장 인기). 표 없이 rejection-inversion 으로 O(1) 샘플링
+     * LOOP    : 0..pages-1 을 계속 반복 (LRU / FIFO 최악)
+     * SCAN    : 인기 페이지(locality 개) 위주로 쓰다가 phaseLength 마다 나머지 페이지를 한 번씩 순차 스캔 (캐시 오염)
+     * PHASE   : phaseLength 마다 locality 크기의 작업 집합 창이 다른 곳으로 옮겨감
+     */
+    static PageIds refs(PagingWorkloadReq.Spec spec) {
+        check(spec);
+        int n = spec.length;
+        int pages = spec.pages;
+        SplittableRandom rnd = new SplittableRandom(seed(spec.seed));
+        int[] refs = new int[n];
+
+        switch (pattern(spec)) {
+            case "UNIFORM" -> {
+                for (int i = 0; i < n; i++) refs[i] = rnd.nextInt(pages);
+            }
+            case "ZIPF" -> {
+                double skew = spec.skew == null ? 1.0 : spec.skew;
+                if (!(skew > 0) || skew > 10) throw new IllegalArgumentException("skew 는 0 초과 10 이하여야 합니다.");
+                ZipfSampler zipf = new ZipfSampler(pages, skew);
+                for (int i = 0; i < n; i++) refs[i] = zipf.sample(rnd) - 1;
+            }
+            case "LOOP" -> {
+                for (int i = 0, p = 0; i < n; i++) {
+                    refs[i] = p;
+                    if (++p == pages) p = 0;
+                }
+            }
+            case "SCAN" -> {
+                int period = phaseLength(spec);
+                int hot = locality(spec);
+                int cold = pages - hot;
+                int cursor = 0;
+                for (int i = 0; i < n; i++) {
+                    // 주기 앞 절반은 인기 페이지 무작위, 뒤 절반은 차가운 페이지 순차 스캔
+                    if (cold == 0 || i % period < (period + 1) / 2) {
+                        refs[i] = rnd.nextInt(hot);
+                    } else {
+                        refs[i] = hot + cursor;
+                        if (++cursor == cold) cursor = 0;
+                    }
+                }
+            }
+            case "PHASE" -> {
+                int period = phaseLength(spec);
+                int set = locality(spec);
+                int base = 0;
+                for (int i = 0; i < n; i++) {
+                    if (i % period == 0) base = rnd.nextInt(pages - set + 1);
+                    refs[i] = base + rnd.nextInt(set);
+                }
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 pattern: " + spec.pattern + " (가능: UNIFORM, ZIPF, LOOP, SCAN, PHASE)");
+        }
+        return PageIds.dense(refs, pages);
+    }
+
+    /** 쓰기 참조 비트 배열 (writeRatio 가 없거나 0 이면 null) */
+    static long[] writes(PagingWorkloadReq.Spec spec) {
+        double ratio = spec.writeRatio == null ? 0 : spec.writeRatio;
+        if (ratio < 0 || ratio > 1) throw new IllegalArgumentException("writeRatio 는 0~1 이어야 합니다.");
+        if (ratio == 0) return null;
+        // 참조열과 독립된 난수열 (같은 seed 에서 writeRatio 만 바꿔도 참조열은 그대로)
+        SplittableRandom rnd = new SplittableRandom(seed(spec.seed) ^ 0x5DEECE66DL);
+        long[] bits = new long[(spec.length + 63) >>> 6];
+        for (int i = 0; i < spec.length; i++) {
+            if (rnd.nextDouble() < ratio) bits[i >>> 6] |= 1L << i;
+        }
+        return bits;
+    }
+
+    private static void check(PagingWorkloadReq.Spec spec) {
+        if (spec == null) throw new IllegalArgumentException("workload 가 필요합니다.");
+        if (spec.length < 0 || spec.length > MAX_REFS) {
+            throw new IllegalArgumentException("length 는 0~" + MAX_REFS + " 이어야 합니다.");
+        }
+        if (spec.pages <= 0 || spec.pages > MAX_PAGES) {
+            throw new IllegalArgumentException("pages 는 1~" + MAX_PAGES + " 이어야 합니다.");
+        }
+    }
+
+    private static String pattern(PagingWorkloadReq.Spec spec) {
+        return spec.pattern == null ? "UNIFORM" : spec.pattern.toUpperCase(Locale.ROOT);
+    }
+
+    private static int phaseLength(PagingWorkloadReq.Spec spec) {
+        int v = spec.phaseLength != null ? spec.phaseLength : spec.length / 8;
+        return Math.max(1, v);
+    }
+
+    private static int locality(PagingWorkloadReq.Spec spec) {
+        int v = spec.locality != null ? spec.locality : spec.pages / 8;
+        return Math.max(1, Math.min(spec.pages, v));
+    }
+
+    // ===== 프로세스 표 =====
+
+    /**
+     * Poisson 도착 (도착 간격 ~ 지수분포, 도착률 λ = load / 평균 burst) + burst 분포
+     * EXPONENTIAL : 평균 meanBurst 의 지수분포
+     * BIMODAL     : longRatio 확률로 평균 longBurst, 나머지는 평균 meanBurst 인 지수분포 (convoy 효과 관찰용)
+     * UNIFORM     : 1..2*meanBurst-1 균등
+     */
+    static ProcTable processes(SchedulingWorkloadReq.Spec spec) {
+        if (spec == null) throw new IllegalArgumentException("workload 가 필요합니다.");
+        int n = spec.count;
+        if (n < 0 || n > MAX_PROCESSES) throw new IllegalArgumentException("count 는 0~" + MAX_PROCESSES + " 이어야 합니다.");
+        int mean = spec.meanBurst == null ? 10 : spec.meanBurst;
+        if (mean <= 0) throw new IllegalArgumentException("meanBurst 는 1 이상이어야 합니다.");
+        double load = spec.load == null ? 0.9 : spec.load;
+        if (!(load > 0)) throw new IllegalArgumentException("load 는 0 보다 커야 합니다.");
+        int priorities = spec.priorities == null ? 10 : spec.priorities;
+        if (priorities <= 0) throw new IllegalArgumentException("priorities 는 1 이상이어야 합니다.");
+
+        String burst = spec.burst == null ? "EXPONENTIAL" : spec.burst.toUpperCase(Locale.ROOT);
+        double longRatio = spec.longRatio == null ? 0.1 : spec.longRatio;
+        int longMean = spec.longBurst == null ? mean * 10 : spec.longBurst;
+        double expected = switch (burst) {
+            case "EXPONENTIAL", "UNIFORM" -> mean;
+            case "BIMODAL" -> {
+                if (longRatio < 0 || longRatio > 1) throw new IllegalArgumentException("longRatio 는 0~1 이어야 합니다.");
+                if (longMean <= 0) throw new IllegalArgumentException("longBurst 는 1 이상이어야 합니다.");
+                yield (1 - longRatio) * mean + longRatio * longMean;
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 burst: " + spec.burst + " (가능: EXPONENTIAL, BIMODAL, UNIFORM)");
+        };
+        double meanGap = expected / load;
+
+        SplittableRandom rnd = new SplittableRandom(seed(spec.seed));
+        String[] pid = new String[n];
+        int[] arrival = new int[n];
+        int[] bursts = new int[n];
+        int[] priority = new int[n];
+        double clock = 0;
+        for (int i = 0; i < n; i++) {
+            pid[i] = "P" + (i + 1);
+            arrival[i] = (int) Math.min(Integer.MAX_VALUE, (long) clock);
+            bursts[i] = switch (burst) {
+                case "EXPONENTIAL" -> exponentialBurst(rnd, mean);
+                case "BIMODAL" -> exponentialBurst(rnd, rnd.nextDouble() < longRatio ? longMean : mean);
+                default -> 1 + rnd.nextInt(2 * mean - 1);
+            };
+            priority[i] = rnd.nextInt(priorities);
+            clock += exponential(rnd, meanGap);
+        }
+        return ProcTable.sorted(pid, arrival, bursts, priority);
+    }
+
+    private static double exponential(SplittableRandom rnd, double mean) {
+        return -mean * Math.log(1 - rnd.nextDouble());
+    }
+
+    // 1 이상 정수, 평균이 대략 mean
+    private static int exponentialBurst(SplittableRandom rnd, int mean) {
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE / 4, Math.round(exponential(rnd, mean))));
+    }
+
+    private static long seed(Long seed) {
+        return seed == null ? 0 : seed;
+    }
+
+    /**
+     * Zipf(n, s) 샘플러 – Hörmann & Derflinger 의 rejection-inversion 방식.
+     * CDF 표 없이 상수 시간에 1..n 중 하나를 뽑습니다. (Apache Commons RNG 와 같은 방법)
+     */
+    static final class ZipfSampler {
+        private final int n;
+        private final double exponent;
+        private final double hIntegralX1;
+        private final double hIntegralN;
+        private final double s;
+
+        ZipfSampler(int n, double exponent) {
+            this.n = n;
+            this.exponent = exponent;
+            this.hIntegralX1 = hIntegral(1.5) - 1;
+            this.hIntegralN = hIntegral(n + 0.5);
+            this.s = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+        }
+
+        int sample(SplittableRandom rnd) {
+            while (true) {
+                double u = hIntegralN + rnd.nextDouble() * (hIntegralX1 - hIntegralN);
+                double x = hIntegralInverse(u);
+                int k = (int) (x + 0.5);
+                if (k < 1) k = 1;
+                else if (k > n) k = n;
+                if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) return k;
+            }
+        }
+
+        private double hIntegral(double x) {
+            double logX = Math.log(x);
+            return helper2((1 - exponent) * logX) * logX;
+        }
+
+        private double h(double x) {
+            return Math.exp(-exponent * Math.log(x));
+        }
+
+        private double hIntegralInverse(double x) {
+            double t = x * (1 - exponent);
+            if (t < -1) t = -1;
+            return Math.exp(helper1(t) * x);
+        }
+
+        // log(1+x)/x
+        private static double helper1(double x) {
+            return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1 - x * (0.5 - x * (1.0 / 3 - 0.25 * x));
+        }
+
+        // (exp(x)-1)/x
+        private static double helper2(double x) {
+            return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1 + x * 0.5 * (1 + x * (1.0 / 3) * (1 + 0.25 * x));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.PagingWorkloadReq;
+import com.scproject.osplatform.dto.sim.SchedulingReq;
+import com.scproject.osplatform.dto.sim.SchedulingWorkloadReq;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 워크로드 생성 규칙을 받아 서버에서 입력을 만들고 곧바로 페이징 / 스케줄링 엔진에 넣습니다.
+ * 큰 참조열이나 프로세스 목록을 JSON 으로 주고받는 비용 없이 부하 시험을 할 수 있습니다.
+ */
+@Service
+public class WorkloadService {
+
+    // JSON 한 번에 돌려주는 스텝 / 간트 결과의 상한. 이보다 크면 summaryOnly 나 /stream 을 쓰도록
+    static final int MAX_INLINE = 1_000_000;
+
+    private final PagingService pagingService;
+    private final SchedulingService schedulingService;
+
+    public WorkloadService(PagingService pagingService, SchedulingService schedulingService) {
+        this.pagingService = pagingService;
+        this.schedulingService = schedulingService;
+    }
+
+    /**
+     * 반환 형태: PagingService.run 결과 + 생성 규칙 요약
+     * { "steps": [...], "faults": 12, "workload": { "pattern": "ZIPF", "length": 1000000, "pages": 4096, "seed": 7 } }
+     */
+    public Map<String, Object> paging(PagingWorkloadReq req) {
+        boolean summaryOnly = Boolean.TRUE.equals(req.summaryOnly);
+        if (!summaryOnly && req.workload != null && req.workload.length > MAX_INLINE) {
+            throw new IllegalArgumentException("length 가 " + MAX_INLINE + " 를 넘으면 summaryOnly 나 /stream 을 쓰세요.");
+        }
+        PageIds ids = WorkloadGenerator.refs(req.workload);
+        Map<String, Object> out = new LinkedHashMap<>(
+                pagingService.run(req.algo, req.frames, ids, params(req), summaryOnly, PageStepListener.NONE));
+        out.put("workload", describe(req.workload));
+        return out;
+    }
+
+    /** PagingService.stream 과 같은 NDJSON */
+    public void streamPaging(PagingWorkloadReq req, OutputStream os) throws IOException {
+        PageIds ids = WorkloadGenerator.refs(req.workload);
+        pagingService.stream(req.algo, req.frames, ids, params(req), Boolean.TRUE.equals(req.summaryOnly), os);
+    }
+
+    /**
+     * 반환 형태: SchedulingService.run 결과 + 만들어진 프로세스 표 요약
+     * { "gantt": [...], "metrics": {...}, "workload": { "count": 1000, "meanBurst": 9.87, "load": 0.91, "lastArrival": 10342 } }
+     */
+    public Map<String, Object> scheduling(SchedulingWorkloadReq req) {
+        boolean summaryOnly = Boolean.TRUE.equals(req.summaryOnly);
+        if (!summaryOnly && req.workload != null && req.workload.count > MAX_INLINE) {
+            throw new IllegalArgumentException("count 가 " + MAX_INLINE + " 를 넘으면 summaryOnly 나 /stream 을 쓰세요.");
+        }
+        ProcTable t = WorkloadGenerator.processes(req.workload);
+        Map<String, Object> out = new LinkedHashMap<>(schedulingService.run(t, options(req), GanttListener.NONE));
+        out.put("workload", describe(t));
+        return out;
+    }
+
+    /** SchedulingService.stream 과 같은 NDJSON */
+    public void streamScheduling(SchedulingWorkloadReq req, OutputStream os) throws IOException {
+        schedulingService.stream(WorkloadGenerator.processes(req.workload), options(req), os);
+    }
+
+    private static PagingParams params(PagingWorkloadReq req) {
+        return PagingParams.of(req.window, req.pffInterval, WorkloadGenerator.writes(req.workload));
+    }
+
+    // 알고리즘 옵션만 담은 요청 (processes 는 생성한 표로 대신)
+    private static SchedulingReq options(SchedulingWorkloadReq req) {
+        SchedulingReq r = new SchedulingReq();
+        r.algo = req.algo;
+        r.quantum = req.quantum;
+        r.aging = req.aging;
+        r.levels = req.levels;
+        r.summaryOnly = req.summaryOnly;
+        return r;
+    }
+
+    private static Map<String, Object> describe(PagingWorkloadReq.Spec spec) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("pattern", spec.pattern == null ? "UNIFORM" : spec.pattern);
+        out.put("length", spec.length);
+        out.put("pages", spec.pages);
+        out.put("seed", spec.seed == null ? 0 : spec.seed);
+        return out;
+    }
+
+    private static Map<String, Object> describe(ProcTable t) {
+        long total = 0;
+        for (int i = 0; i < t.n; i++) total += t.burst[i];
+        int last = t.n == 0 ? 0 : t.arrival[t.n - 1];
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("count", t.n);
+        out.put("meanBurst", t.n == 0 ? 0.0 : Math.round(total * 100.0 / t.n) / 100.0);
+        out.put("load", last == 0 ? 0.0 : Math.round(total * 100.0 / last) / 100.0);
+        out.put("lastArrival", last);
+        return out;
+    }
+}
@@ -3,7 +3,8 @@ package com.scproject.osplatform;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+// 기록 저장소는 메모리에만 두어 테스트가 디스크에 파일을 남기지 않게 함
+@SpringBootTest(properties = "records.dir=")
 class OsplatformApplicationTests {
 
 	@Test
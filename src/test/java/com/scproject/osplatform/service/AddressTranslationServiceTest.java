@@ -0,0 +1,146 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.TranslationReq;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AddressTranslationServiceTest {
+
+    private final AddressTranslationService service = new AddressTranslationService(new PagingService());
+
+    @Test
+    void tlbMatchesNaiveSetAssociativeLru() {
+        Random rnd = new Random(1);
+        for (int round = 0; round < 50; round++) {
+            int ways = 1 + rnd.nextInt(16);
+            int sets = 1 << rnd.nextInt(5);
+            Tlb tlb = new Tlb(ways * sets, ways);
+            List<Deque<Long>> naive = new ArrayList<>();
+            for (int s = 0; s < sets; s++) naive.add(new ArrayDeque<>());
+
+            for (int i = 0; i < 3000; i++) {
+                long vpn = rnd.nextInt(ways * sets * 2);
+                Deque<Long> set = naive.get((int) vpn & (sets - 1));
+                if (rnd.nextInt(10) == 0) {
+                    tlb.invalidate(vpn);
+                    set.remove(vpn);
+                    continue;
+                }
+                boolean expected = set.remove(vpn);
+                if (!expected && set.size() == ways) set.removeLast();
+                set.addFirst(vpn);
+
+                boolean hit = tlb.lookup(vpn);
+                if (!hit) tlb.insert(vpn);
+                assertEquals(expected, hit, "round " + round + " i " + i);
+            }
+        }
+    }
+
+    @Test
+    void countsTableNodesPerLevel() {
+        // 4단계 9/9/9/9, 4KiB 페이지
+        long[] vpns = {0, 1, 1L << 9, 1L << 27};
+        TranslationReq req = req("LRU", 8);
+        Map<String, Object> res = service.run(req, addresses(vpns, 12));
+
+        Map<?, ?> table = (Map<?, ?>) res.get("pageTable");
+        assertArrayEquals(new int[]{9, 9, 9, 9}, (int[]) table.get("bitsPerLevel"));
+        assertArrayEquals(new long[]{1, 2, 2, 3}, (long[]) table.get("nodes"));
+        assertEquals(8L * 4096, table.get("bytes"));
+    }
+
+    @Test
+    void computesEffectiveAccessTime() {
+        // 같은 페이지 안의 주소 4번: 첫 접근만 TLB miss + 폴트
+        TranslationReq req = req("FIFO", 4);
+        req.levels = 2;
+        req.vaBits = 32;
+        req.tlbNs = 2;
+        req.memNs = 100;
+        req.faultNs = 1000;
+        Map<String, Object> res = service.run(req, new long[]{0x1000, 0x1008, 0x1ff0, 0x1004});
+
+        Map<?, ?> tlb = (Map<?, ?>) res.get("tlb");
+        assertEquals(3L, tlb.get("hits"));
+        assertEquals(1, res.get("faults"));
+        assertEquals(2L, ((Map<?, ?>) res.get("pageTable")).get("walkAccesses"));
+        // (4*(2+100) + 2*100 + 1000) / 4
+        assertEquals(402.0, res.get("eatNs"));
+    }
+
+    @Test
+    void evictedPagesLeaveTheTlb() {
+        // 프레임 1개, TLB 는 넉넉: 페이지가 바뀔 때마다 이전 페이지 변환이 무효화돼야 함
+        TranslationReq req = req("FIFO", 1);
+        req.tlbEntries = 16;
+        req.tlbWays = 16;
+        long[] vpns = {1, 2, 1, 2, 1};
+        Map<String, Object> res = service.run(req, addresses(vpns, 12));
+        assertEquals(5, res.get("faults"));
+        assertEquals(0L, ((Map<?, ?>) res.get("tlb")).get("hits"));
+    }
+
+    @Test
+    void handlesLargeTracesWithVariableAllocation() {
+        Random rnd = new Random(2);
+        long[] addresses = new long[2_000_000];
+        for (int i = 0; i < addresses.length; i++) {
+            // 작은 작업 집합 + 가끔 먼 주소
+            long page = rnd.nextInt(10) == 0 ? rnd.nextInt(1 << 20) : rnd.nextInt(256);
+            addresses[i] = (page << 12) | rnd.nextInt(4096);
+        }
+        for (String algo : List.of("LRU", "CLOCK", "WS")) {
+            Map<String, Object> res = service.run(req(algo, 512), addresses);
+            Map<?, ?> tlb = (Map<?, ?>) res.get("tlb");
+            long hits = (Long) tlb.get("hits");
+            long misses = (Long) tlb.get("misses");
+            assertEquals(addresses.length, hits + misses);
+            // TLB 에 있는 페이지는 항상 메모리에 있음
+            assertTrue(hits <= addresses.length - (Integer) res.get("faults"), algo);
+        }
+    }
+
+    @Test
+    void numbersPagesInFirstSeenOrderAcrossRehashes() {
+        // 서로 다른 페이지가 해시 테이블 초기 크기보다 훨씬 많아도 (여러 번 늘어나도) 번호가 그대로 유지되는지
+        Random rnd = new Random(4);
+        long[] vpns = new long[300_000];
+        Set<Long> distinct = new HashSet<>();
+        for (int i = 0; i < vpns.length; i++) {
+            vpns[i] = rnd.nextInt(50_000) * 7919L;
+            distinct.add(vpns[i]);
+        }
+        Map<String, Object> res = service.run(req("LRU", distinct.size()), addresses(vpns, 12));
+        assertEquals(distinct.size(), res.get("distinctPages"));
+        assertEquals(distinct.size(), res.get("faults")); // 프레임이 충분하면 처음 볼 때만 fault
+    }
+
+    @Test
+    void rejectsBadConfigs() {
+        TranslationReq req = req("LRU", 4);
+        req.tlbEntries = 48;
+        req.tlbWays = 4; // 집합 12개 (2 의 거듭제곱 아님)
+        assertThrows(IllegalArgumentException.class, () -> service.run(req, new long[]{0}));
+        TranslationReq levels = req("LRU", 4);
+        levels.levels = 5;
+        assertThrows(IllegalArgumentException.class, () -> service.run(levels, new long[]{0}));
+        assertThrows(IllegalArgumentException.class, () -> service.run(req("LRU", 0), new long[]{0}));
+    }
+
+    private static long[] addresses(long[] vpns, int pageBits) {
+        long[] out = new long[vpns.length];
+        for (int i = 0; i < vpns.length; i++) out[i] = vpns[i] << pageBits;
+        return out;
+    }
+
+    private static TranslationReq req(String algo, int frames) {
+        TranslationReq req = new TranslationReq();
+        req.algo = algo;
+        req.frames = frames;
+        return req;
+    }
+}
@@ -0,0 +1,46 @@
+package com.scproject.osplatform.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BankerSessionTest {
+
+    private final BankersService bankers = new BankersService();
+
+    @Test
+    void textbookRequestsAreGrantedOrDenied() {
+        BankerSession s = textbook();
+
+        // P1 이 (1,0,2) 요청 -> 안전 (교재 예제)
+        Map<String, Object> res = s.request(1, new int[]{1, 0, 2});
+        assertEquals(true, res.get("granted"));
+        assertArrayEquals(new int[]{2, 3, 0}, (int[]) res.get("available"));
+
+        // 이어서 P4 가 (3,3,0) 요청 -> available 부족
+        assertEquals("insufficient-available", s.request(4, new int[]{3, 3, 0}).get("reason"));
+
+        // P0 가 (0,2,0) 요청 -> 불안전, 상태는 그대로
+        assertEquals("unsafe", s.request(0, new int[]{0, 2, 0}).get("reason"));
+        assertArrayEquals(new int[]{2, 3, 0}, (int[]) s.snapshot().get("available"));
+    }
+
+    @Test
+    void releaseReturnsResources() {
+        BankerSession s = textbook();
+        s.release(2, new int[]{3, 0, 2});
+        assertArrayEquals(new int[]{6, 3, 4}, (int[]) s.snapshot().get("available"));
+        assertThrows(IllegalArgumentException.class, () -> s.release(2, new int[]{1, 0, 0}));
+    }
+
+    private BankerSession textbook() {
+        return new BankerSession(bankers,
+                new int[][]{{7, 5, 3}, {3, 2, 2}, {9, 0, 2}, {2, 2, 2}, {4, 3, 3}},
+                new int[][]{{0, 1, 0}, {2, 0, 0}, {3, 0, 2}, {2, 1, 1}, {0, 0, 2}},
+                new int[]{3, 3, 2});
+    }
+}
@@ -0,0 +1,51 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.BankerReq;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BankersServiceTest {
+
+    private final BankersService service = new BankersService();
+
+    @Test
+    void textbookStateIsSafe() {
+        Map<String, Object> res = service.run(textbook());
+
+        assertEquals(true, res.get("safe"));
+        assertEquals(List.of(1, 3, 4, 0, 2), res.get("sequence"));
+        assertEquals(10, ((List<?>) res.get("trace")).size());
+    }
+
+    @Test
+    void unsafeWhenAvailableTooSmall() {
+        BankerReq req = textbook();
+        req.available = new int[]{1, 1, 0};
+
+        Map<String, Object> res = service.run(req);
+        assertEquals(false, res.get("safe"));
+        assertEquals(List.of(), res.get("sequence"));
+    }
+
+    @Test
+    void traceCanBeTurnedOff() {
+        BankerReq req = textbook();
+        req.trace = false;
+
+        Map<String, Object> res = service.run(req);
+        assertEquals(List.of(1, 3, 4, 0, 2), res.get("sequence"));
+        assertEquals(List.of(), res.get("trace"));
+    }
+
+    private static BankerReq textbook() {
+        BankerReq req = new BankerReq();
+        req.allocation = new int[][]{{0, 1, 0}, {2, 0, 0}, {3, 0, 2}, {2, 1, 1}, {0, 0, 2}};
+        req.max = new int[][]{{7, 5, 3}, {3, 2, 2}, {9, 0, 2}, {2, 2, 2}, {4, 3, 3}};
+        req.available = new int[]{3, 3, 2};
+        return req;
+    }
+}
@@ -0,0 +1,248 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.BankerReq;
+import com.scproject.osplatform.dto.sim.BatchGradeReq;
+import com.scproject.osplatform.dto.sim.PagingReq;
+import com.scproject.osplatform.dto.sim.SchedulingReq;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchGradingServiceTest {
+
+    private static final String[] ALGOS = {"FIFO", "LRU", "OPT", "LFU", "NUR", "CLOCK", "WS", "PFF"};
+    private static final String[] SCHED = {"FCFS", "RR", "SJF", "SRTF", "PRIORITY", "MLFQ"};
+
+    private final PagingService paging = new PagingService();
+    private final SchedulingService scheduling = new SchedulingService();
+    private final BankersService bankers = new BankersService();
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final BatchGradingService service = new BatchGradingService(paging, scheduling, bankers, pool);
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void mixedBatchMatchesSeparateCalls() {
+        // 크기를 크게 / 작게 섞어서 작업자 scratch 에 이전 시나리오 값이 남아 있어도 결과가 같은지 확인
+        Random rnd = new Random(11);
+        BatchGradeReq req = new BatchGradeReq();
+        req.scenarios = new ArrayList<>();
+        for (int i = 0; i < 900; i++) {
+            switch (i % 3) {
+                case 0 -> req.scenarios.add(paging("p" + i, randomPaging(rnd), null));
+                case 1 -> req.scenarios.add(scheduling("s" + i, randomScheduling(rnd), null));
+                default -> req.scenarios.add(bankers("b" + i, randomBankers(rnd), null));
+            }
+        }
+
+        List<Map<String, Object>> results = results(service.run(req));
+        assertEquals(900, results.size());
+        for (int i = 0; i < 900; i++) {
+            BatchGradeReq.Scenario s = req.scenarios.get(i);
+            Map<String, Object> r = results.get(i);
+            assertEquals(s.id, r.get("id"));
+            assertFalse(r.containsKey("pass"));
+            Map<String, Object> result = result(r);
+            switch (i % 3) {
+                case 0 -> assertEquals(paging.run(s.paging).get("faults"), result.get("faults"), s.id);
+                case 1 -> assertEquals(scheduling.run(s.scheduling).get("metrics"), result, s.id);
+                default -> {
+                    Map<String, Object> expected = bankers.run(s.bankers);
+                    assertEquals(expected.get("safe"), result.get("safe"), s.id);
+                    assertEquals(expected.get("sequence"), result.get("sequence"), s.id);
+                }
+            }
+        }
+    }
+
+    @Test
+    void gradesAgainstExpectedAnswers() {
+        PagingReq p = new PagingReq();
+        p.algo = "LRU";
+        p.frames = 3;
+        p.refs = List.of(7, 0, 1, 2, 0, 3, 0, 4, 2, 3, 0, 3, 2, 1, 2, 0, 1, 7, 0, 1);
+
+        SchedulingReq s = new SchedulingReq();
+        s.algo = "SJF";
+        s.processes = List.of(proc("P1", 0, 8, 0), proc("P2", 1, 4, 0), proc("P3", 2, 9, 0), proc("P4", 3, 5, 0));
+
+        BatchGradeReq req = new BatchGradeReq();
+        req.failuresOnly = true;
+        req.scenarios = List.of(
+                paging("right", p, Map.of("faults", 12)),
+                paging("wrong", p, Map.of("faults", 15)),
+                scheduling("close", s, Map.of("avgWaiting", 7.75, "avgTurnaround", 14.254)),
+                bankers("seq", textbook(), Map.of("safe", true, "sequence", List.of(1, 3, 4, 0, 2))),
+                bankers("badSeq", textbook(), Map.of("sequence", List.of(1, 3, 0, 4, 2))),
+                paging("badAlgo", pagingReq("NOPE", 3, List.of(1, 2)), Map.of("faults", 2)));
+
+        Map<String, Object> res = service.run(req);
+        List<Map<String, Object>> results = results(res);
+
+        assertEquals(true, results.get(0).get("pass"));
+        assertFalse(results.get(0).containsKey("result"));      // failuresOnly: 맞은 시나리오는 결과 생략
+
+        assertEquals(false, results.get(1).get("pass"));
+        assertEquals(Map.of("expected", 15, "actual", 12), mismatches(results.get(1)).get("faults"));
+        assertEquals(12, result(results.get(1)).get("faults"));
+
+        assertEquals(true, results.get(2).get("pass"));          // avgTurnaround 14.25 는 허용 오차 0.01 안
+        assertEquals(true, results.get(3).get("pass"));
+        assertEquals(false, results.get(4).get("pass"));
+        assertEquals(Set.of("sequence"), mismatches(results.get(4)).keySet());
+
+        assertTrue(((String) results.get(5).get("error")).contains("NOPE"));
+        assertFalse(results.get(5).containsKey("pass"));
+
+        assertEquals(Map.of("scenarios", 6, "graded", 5, "passed", 3, "failed", 2, "errors", 1),
+                withoutElapsed(res));
+    }
+
+    @Test
+    void badScenarioDoesNotStopTheBatch() {
+        BankerReq broken = textbook();
+        broken.max = new int[][]{{7, 5, 3}};   // allocation 보다 행이 적음
+
+        BatchGradeReq req = new BatchGradeReq();
+        req.scenarios = new ArrayList<>();
+        req.scenarios.add(bankers("broken", broken, null));
+        req.scenarios.add(bankers("missing", null, null));
+        req.scenarios.add(scheduling("typo", null, null));
+        req.scenarios.get(2).type = "SCHEDULE";
+        req.scenarios.add(bankers("ok", textbook(), null));
+
+        List<Map<String, Object>> results = results(service.run(req));
+        assertTrue(results.get(0).containsKey("error"));
+        assertTrue(((String) results.get(1).get("error")).contains("bankers"));
+        assertTrue(((String) results.get(2).get("error")).contains("SCHEDULE"));
+        assertEquals(true, result(results.get(3)).get("safe"));
+    }
+
+    @Test
+    void rejectsOversizedBatch() {
+        BatchGradeReq req = new BatchGradeReq();
+        req.scenarios = Collections.nCopies(BatchGradingService.MAX_SCENARIOS + 1, null);
+        assertThrows(IllegalArgumentException.class, () -> service.run(req));
+    }
+
+    private static PagingReq randomPaging(Random rnd) {
+        int len = rnd.nextBoolean() ? 5 + rnd.nextInt(20) : 200 + rnd.nextInt(2000);
+        int pages = 2 + rnd.nextInt(rnd.nextBoolean() ? 6 : 300);
+        List<Integer> refs = new ArrayList<>(len);
+        for (int k = 0; k < len; k++) refs.add(rnd.nextInt(pages) * 7 - 50);
+        PagingReq p = pagingReq(ALGOS[rnd.nextInt(ALGOS.length)], 1 + rnd.nextInt(rnd.nextBoolean() ? 4 : 64), refs);
+        if (rnd.nextBoolean()) {
+            p.writes = new ArrayList<>(len);
+            for (int k = 0; k < len; k++) p.writes.add(rnd.nextBoolean());
+        }
+        return p;
+    }
+
+    private static SchedulingReq randomScheduling(Random rnd) {
+        int n = 1 + rnd.nextInt(rnd.nextBoolean() ? 6 : 200);
+        List<SchedulingReq.Proc> procs = new ArrayList<>(n);
+        for (int k = 0; k < n; k++) procs.add(proc("P" + k, rnd.nextInt(n * 3), 1 + rnd.nextInt(20), rnd.nextInt(5)));
+        SchedulingReq s = new SchedulingReq();
+        s.algo = SCHED[rnd.nextInt(SCHED.length)];
+        s.quantum = 1 + rnd.nextInt(5);
+        s.processes = procs;
+        return s;
+    }
+
+    private static BankerReq randomBankers(Random rnd) {
+        int n = 1 + rnd.nextInt(rnd.nextBoolean() ? 5 : 60);
+        int m = 1 + rnd.nextInt(rnd.nextBoolean() ? 3 : 12);
+        BankerReq b = new BankerReq();
+        b.max = new int[n][m];
+        b.allocation = new int[n][m];
+        b.available = new int[m];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < m; j++) {
+                b.allocation[i][j] = rnd.nextInt(4);
+                b.max[i][j] = b.allocation[i][j] + rnd.nextInt(6);
+            }
+        }
+        for (int j = 0; j < m; j++) b.available[j] = rnd.nextInt(8);
+        return b;
+    }
+
+    private static BatchGradeReq.Scenario paging(String id, PagingReq p, Map<String, Object> expected) {
+        BatchGradeReq.Scenario s = scenario(id, "PAGING", expected);
+        s.paging = p;
+        return s;
+    }
+
+    private static BatchGradeReq.Scenario scheduling(String id, SchedulingReq r, Map<String, Object> expected) {
+        BatchGradeReq.Scenario s = scenario(id, "SCHEDULING", expected);
+        s.scheduling = r;
+        return s;
+    }
+
+    private static BatchGradeReq.Scenario bankers(String id, BankerReq b, Map<String, Object> expected) {
+        BatchGradeReq.Scenario s = scenario(id, "bankers", expected);
+        s.bankers = b;
+        return s;
+    }
+
+    private static BatchGradeReq.Scenario scenario(String id, String type, Map<String, Object> expected) {
+        BatchGradeReq.Scenario s = new BatchGradeReq.Scenario();
+        s.id = id;
+        s.type = type;
+        s.expected = expected;
+        return s;
+    }
+
+    private static PagingReq pagingReq(String algo, int frames, List<Integer> refs) {
+        PagingReq p = new PagingReq();
+        p.algo = algo;
+        p.frames = frames;
+        p.refs = refs;
+        return p;
+    }
+
+    private static SchedulingReq.Proc proc(String pid, int arrival, int burst, int priority) {
+        SchedulingReq.Proc p = new SchedulingReq.Proc();
+        p.pid = pid;
+        p.arrival = arrival;
+        p.burst = burst;
+        p.priority = priority;
+        return p;
+    }
+
+    private static BankerReq textbook() {
+        BankerReq req = new BankerReq();
+        req.max = new int[][]{{7, 5, 3}, {3, 2, 2}, {9, 0, 2}, {2, 2, 2}, {4, 3, 3}};
+        req.allocation = new int[][]{{0, 1, 0}, {2, 0, 0}, {3, 0, 2}, {2, 1, 1}, {0, 0, 2}};
+        req.available = new int[]{3, 3, 2};
+        return req;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> results(Map<String, Object> res) {
+        return (List<Map<String, Object>>) res.get("results");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> result(Map<String, Object> r) {
+        return (Map<String, Object>) r.get("result");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> mismatches(Map<String, Object> r) {
+        return (Map<String, Object>) r.get("mismatches");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> withoutElapsed(Map<String, Object> res) {
+        Map<String, Object> summary = new HashMap<>((Map<String, Object>) res.get("summary"));
+        summary.remove("elapsedMs");
+        return summary;
+    }
+}
@@ -0,0 +1,132 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.DeadlockDetectReq;
+import com.scproject.osplatform.dto.sim.WaitForGraphReq;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlockDetectionServiceTest {
+
+    private final DeadlockDetectionService service = new DeadlockDetectionService(new BankersService(), 30);
+
+    @Test
+    void reductionFindsTextbookDeadlock() {
+        // 교재 예제: P2 가 (0,0,1) 을 더 요청하면 P1~P4 교착
+        DeadlockDetectReq req = new DeadlockDetectReq();
+        req.allocation = new int[][]{{0, 1, 0}, {2, 0, 0}, {3, 0, 3}, {2, 1, 1}, {0, 0, 2}};
+        req.request = new int[][]{{0, 0, 0}, {2, 0, 2}, {0, 0, 1}, {1, 0, 0}, {0, 0, 2}};
+        req.available = new int[]{0, 0, 0};
+        Map<String, Object> res = service.detect(req);
+        assertEquals(true, res.get("deadlocked"));
+        assertEquals(List.of(1, 2, 3, 4), res.get("processes"));
+
+        req.request[2] = new int[]{0, 0, 0};
+        assertEquals(false, service.detect(req).get("deadlocked"));
+    }
+
+    @Test
+    void singleInstanceGraphUsesScc() {
+        // R0 -> P0, R1 -> P1, P0 가 R1 을, P1 이 R0 을 기다림. P2 는 R0 을 기다리기만 함
+        DeadlockDetectReq req = new DeadlockDetectReq();
+        req.holds = new int[][]{{0, 0}, {1, 1}};
+        req.waits = new int[][]{{0, 1}, {1, 0}, {2, 0}};
+        Map<String, Object> res = service.detect(req);
+        assertEquals(true, res.get("deadlocked"));
+        assertEquals(List.of(0, 1), res.get("processes"));
+    }
+
+    @Test
+    void singleInstanceAcceptsLargeResourceIdsAndRejectsLargeProcessIds() {
+        DeadlockDetectReq req = new DeadlockDetectReq();
+        req.holds = new int[][]{{2_000_000_000, 0}, {Integer.MAX_VALUE, 1}};
+        req.waits = new int[][]{{0, Integer.MAX_VALUE}, {1, 2_000_000_000}};
+        assertEquals(List.of(0, 1), service.detect(req).get("processes"));
+
+        req.holds = new int[][]{{0, Integer.MAX_VALUE}};
+        req.waits = null;
+        assertThrows(IllegalArgumentException.class, () -> service.detect(req));
+
+        DeadlockDetectReq waitFor = new DeadlockDetectReq();
+        waitFor.waitFor = new int[][]{{0, Integer.MAX_VALUE}};
+        assertThrows(IllegalArgumentException.class, () -> service.detect(waitFor));
+    }
+
+    @Test
+    void openGraphsAreLimitedByTotalNodes() {
+        WaitForGraphReq req = new WaitForGraphReq();
+        req.processes = 1 << 20;
+        String first = (String) service.createGraph(req).get("id");
+        service.createGraph(req);
+        assertThrows(RejectedExecutionException.class, () -> service.createGraph(req));
+        assertTrue(service.close(first));
+        assertNotNull(service.createGraph(req).get("id"));
+    }
+
+    @Test
+    void incrementalGraphMatchesFullScc() {
+        Random rnd = new Random(7);
+        for (int round = 0; round < 50; round++) {
+            int n = 2 + rnd.nextInt(12);
+            WaitForGraph g = new WaitForGraph(n);
+            Set<Long> edges = new HashSet<>();
+            for (int op = 0; op < 200; op++) {
+                int u = rnd.nextInt(n);
+                int v = rnd.nextInt(n);
+                if (rnd.nextInt(3) == 0) {
+                    assertEquals(edges.remove(key(u, v)), g.remove(u, v));
+                } else {
+                    int[] cycle = g.add(u, v);
+                    edges.add(key(u, v));
+                    if (cycle != null) assertCycle(cycle, edges);
+                }
+                assertEquals(!fullCycles(n, edges).isEmpty(), g.hasCycle());
+                assertEquals(edges.size(), g.edgeCount());
+            }
+            assertEquals(flatten(fullCycles(n, edges)), flatten(g.cycles()));
+        }
+    }
+
+    @Test
+    void largeChainDoesNotOverflowStack() {
+        int n = 100_000;
+        WaitForGraph g = new WaitForGraph(n);
+        // 위상 순서와 같은 방향이라 간선마다 O(1), 마지막 간선만 체인 전체를 탐색
+        for (int i = 0; i + 1 < n; i++) assertNull(g.add(i, i + 1));
+        assertEquals(n, g.add(n - 1, 0).length);
+        assertEquals(n, g.cycles().get(0).length);
+        assertTrue(g.remove(49_999, 50_000));
+        assertFalse(g.hasCycle());
+    }
+
+    private static void assertCycle(int[] cycle, Set<Long> edges) {
+        for (int i = 0; i < cycle.length; i++) {
+            assertTrue(edges.contains(key(cycle[i], cycle[(i + 1) % cycle.length])));
+        }
+    }
+
+    private static List<int[]> fullCycles(int n, Set<Long> edges) {
+        int[] from = new int[edges.size()];
+        int[] to = new int[edges.size()];
+        int k = 0;
+        for (long e : edges) {
+            from[k] = (int) (e >>> 32);
+            to[k++] = (int) e;
+        }
+        int[][] csr = Scc.csr(n, from, to, k);
+        return Scc.cycles(n, csr[0], csr[1]);
+    }
+
+    private static Set<List<Integer>> flatten(List<int[]> cycles) {
+        Set<List<Integer>> out = new HashSet<>();
+        for (int[] c : cycles) out.add(Arrays.stream(c).boxed().toList());
+        return out;
+    }
+
+    private static long key(int u, int v) {
+        return ((long) u << 32) | v;
+    }
+}
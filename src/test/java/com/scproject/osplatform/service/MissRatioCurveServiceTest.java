@@ -0,0 +1,86 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.PagingCurveReq;
+import com.scproject.osplatform.dto.sim.PagingReq;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MissRatioCurveServiceTest {
+
+    private final MissRatioCurveService service = new MissRatioCurveService();
+    private final PagingService pagingService = new PagingService();
+
+    @Test
+    void curvesMatchPerFrameSimulation() {
+        Random rnd = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            List<Integer> refs = new ArrayList<>();
+            int span = 2 + rnd.nextInt(10);
+            for (int i = 0; i < 80; i++) refs.add(rnd.nextInt(span));
+
+            Map<String, Object> res = service.run(req(null, refs));
+            int maxFrames = (int) res.get("maxFrames");
+            Map<String, List<Long>> curves = curves(res);
+
+            for (String algo : List.of("FIFO", "LRU", "OPT")) {
+                for (int frames = 1; frames <= maxFrames; frames++) {
+                    PagingReq p = new PagingReq();
+                    p.algo = algo;
+                    p.frames = frames;
+                    p.refs = refs;
+                    int expected = (int) pagingService.run(p).get("faults");
+                    assertEquals(expected, curves.get(algo).get(frames - 1), algo + " frames=" + frames);
+                }
+            }
+        }
+    }
+
+    @Test
+    void reportsBeladyAnomalyForFifo() {
+        List<Integer> refs = List.of(1, 2, 3, 4, 1, 2, 5, 1, 2, 3, 4, 5);
+        Map<String, Object> res = service.run(req(List.of("fifo", "LRU"), refs));
+
+        assertEquals(List.of(12L, 12L, 9L, 10L, 5L), curves(res).get("FIFO"));
+        @SuppressWarnings("unchecked")
+        Map<String, List<Map<String, Object>>> anomalies = (Map<String, List<Map<String, Object>>>) res.get("anomalies");
+        assertEquals(List.of(Map.of("frames", 4, "faults", 10L, "prevFaults", 9L)), anomalies.get("FIFO"));
+        assertEquals(List.of(), anomalies.get("LRU"));
+    }
+
+    @Test
+    void fifoAndOptCurvesAreCappedButLruIsNot() {
+        List<Integer> refs = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) refs.add(i % 1_000);
+        Map<String, Object> res = service.run(req(null, refs));
+
+        assertEquals(1_000, res.get("maxFrames"));
+        assertEquals(Map.of("LRU", 1_000, "FIFO", MissRatioCurveService.MAX_QUADRATIC_FRAMES,
+                "OPT", MissRatioCurveService.MAX_QUADRATIC_FRAMES), res.get("framesComputed"));
+        assertEquals(1_000, curves(res).get("LRU").size());
+        assertEquals(MissRatioCurveService.MAX_QUADRATIC_FRAMES, curves(res).get("FIFO").size());
+
+        // 긴 참조열은 n·프레임 수 예산으로 더 줄어듦
+        assertEquals(256, MissRatioCurveService.quadraticFrames(1_000_000, 100_000));
+        assertEquals(5, MissRatioCurveService.quadraticFrames(50_000_000, 100_000));
+        assertEquals(3, MissRatioCurveService.quadraticFrames(50_000_000, 3));
+        assertEquals(0, MissRatioCurveService.quadraticFrames(0, 0));
+    }
+
+    private static PagingCurveReq req(List<String> algos, List<Integer> refs) {
+        PagingCurveReq req = new PagingCurveReq();
+        req.algos = algos;
+        req.refs = refs;
+        return req;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, List<Long>> curves(Map<String, Object> res) {
+        return (Map<String, List<Long>>) res.get("curves");
+    }
+}
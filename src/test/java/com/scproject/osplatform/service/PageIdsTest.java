@@ -0,0 +1,33 @@
+package com.scproject.osplatform.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageIdsTest {
+
+    @Test
+    void numbersPagesInFirstSeenOrderAcrossRehashes() {
+        Random rnd = new Random(11);
+        WorkerScratch scratch = new WorkerScratch();
+        // 페이지 수를 바꿔 가며: 작은 테이블 안 / 여러 번 커지는 경우 / 큰 scratch 를 작은 입력이 다시 쓰는 경우
+        for (int pages : new int[]{3, 5_000, 40, 100_000, 7}) {
+            int[] refs = new int[200_000];
+            for (int i = 0; i < refs.length; i++) refs[i] = rnd.nextInt(pages) * 31 - 1_000;
+
+            Map<Integer, Integer> expected = new HashMap<>();
+            for (int r : refs) expected.putIfAbsent(r, expected.size());
+
+            for (PageIds ids : new PageIds[]{PageIds.of(refs), PageIds.of(refs, scratch)}) {
+                assertEquals(expected.size(), ids.distinct(), "pages=" + pages);
+                for (int i = 0; i < refs.length; i++) {
+                    assertEquals(expected.get(refs[i]), ids.id(i), "pages=" + pages + " i=" + i);
+                }
+            }
+        }
+    }
+}
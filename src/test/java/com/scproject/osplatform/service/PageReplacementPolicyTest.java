@@ -0,0 +1,252 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.PagingReq;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 각 정책을 느리지만 뻔한 참조 구현과 무작위 참조열에서 비교합니다.
+ */
+class PageReplacementPolicyTest {
+
+    private final PagingService service = new PagingService();
+
+    @Test
+    void lfuMatchesNaive() {
+        Random rnd = new Random(1);
+        for (int round = 0; round < 200; round++) {
+            int frames = 1 + rnd.nextInt(6);
+            List<Integer> refs = randomRefs(rnd, 200, 12);
+            assertEquals(naiveLfu(frames, refs), faults("LFU", frames, refs, null), "round " + round);
+        }
+    }
+
+    @Test
+    void clockMatchesNaive() {
+        Random rnd = new Random(2);
+        for (int round = 0; round < 200; round++) {
+            int frames = 1 + rnd.nextInt(70); // 워드 경계(64)를 넘는 경우 포함
+            List<Integer> refs = randomRefs(rnd, 500, frames + 1 + rnd.nextInt(20));
+            assertEquals(naiveClock(frames, refs, null), faults("CLOCK", frames, refs, null), "round " + round);
+            assertEquals(faults("CLOCK", frames, refs, null), faults("SECOND_CHANCE", frames, refs, null));
+        }
+    }
+
+    @Test
+    void nurMatchesNaive() {
+        Random rnd = new Random(3);
+        for (int round = 0; round < 200; round++) {
+            int frames = 1 + rnd.nextInt(70);
+            List<Integer> refs = randomRefs(rnd, 500, frames + 1 + rnd.nextInt(20));
+            List<Boolean> writes = new ArrayList<>();
+            for (int i = 0; i < refs.size(); i++) writes.add(rnd.nextInt(3) == 0);
+            PagingReq req = req("NUR", frames, refs);
+            req.writes = writes;
+            req.summaryOnly = true;
+            assertEquals(naiveClock(frames, refs, writes), service.run(req).get("faults"), "round " + round);
+        }
+    }
+
+    @Test
+    void workingSetKeepsLastWindowResident() {
+        Random rnd = new Random(4);
+        for (int round = 0; round < 100; round++) {
+            int window = 1 + rnd.nextInt(10);
+            List<Integer> refs = randomRefs(rnd, 300, 15);
+            PagingReq req = req("WS", 64, refs);
+            req.window = window;
+            List<Map<String, Object>> steps = steps(service.run(req));
+
+            int faults = 0;
+            for (int t = 0; t < refs.size(); t++) {
+                // 작업 집합 = 최근 window 번의 참조 (t-window, t]
+                Set<Integer> ws = new HashSet<>(refs.subList(Math.max(0, t - window + 1), t + 1));
+                boolean fault = !refs.subList(Math.max(0, t - window), t).contains(refs.get(t));
+                if (fault) faults++;
+                assertEquals(fault, steps.get(t).get("fault"), "t=" + t);
+                assertEquals(ws, resident(steps.get(t)), "t=" + t);
+            }
+            assertEquals(faults, steps.size() == 0 ? 0 : countFaults(steps));
+        }
+    }
+
+    @Test
+    void workingSetFallsBackToLruWhenFramesAreShort() {
+        // 창이 길면 아무것도 빠지지 않으므로 LRU 와 같음
+        List<Integer> refs = List.of(7, 0, 1, 2, 0, 3, 0, 4, 2, 3, 0, 3, 2, 1, 2, 0, 1, 7, 0, 1);
+        PagingReq req = req("WS", 3, refs);
+        req.window = 1000;
+        assertEquals(12, service.run(req).get("faults"));
+    }
+
+    @Test
+    void pffMatchesNaive() {
+        Random rnd = new Random(5);
+        for (int round = 0; round < 100; round++) {
+            int interval = rnd.nextInt(6);
+            List<Integer> refs = randomRefs(rnd, 300, 15);
+            PagingReq req = req("PFF", 64, refs);
+            req.pffInterval = interval;
+            List<Map<String, Object>> steps = steps(service.run(req));
+
+            Map<Integer, Integer> lastUse = new HashMap<>();
+            int lastFault = -1;
+            for (int t = 0; t < refs.size(); t++) {
+                int page = refs.get(t);
+                boolean fault = !lastUse.containsKey(page);
+                if (fault) {
+                    if (lastFault >= 0 && t - lastFault > interval) {
+                        int before = lastFault;
+                        lastUse.values().removeIf(u -> u < before);
+                    }
+                    lastFault = t;
+                }
+                lastUse.put(page, t);
+                assertEquals(fault, steps.get(t).get("fault"), "t=" + t);
+                assertEquals(lastUse.keySet(), resident(steps.get(t)), "t=" + t);
+            }
+        }
+    }
+
+    @Test
+    void lfuAndClockPickDifferentVictimsThanLru() {
+        // LFU: 두 번 쓰인 1 은 남고 한 번 쓰인 2 가 나감
+        List<Map<String, Object>> lfu = steps(service.run(req("LFU", 2, List.of(1, 1, 2, 3))));
+        assertEquals(List.of(1, 3), lfu.get(3).get("frame"));
+
+        // Clock: 모든 참조 비트가 켜져 있으면 한 바퀴 돌며 지운 뒤 바늘 위치(1)를 교체 (LRU 라면 2)
+        List<Map<String, Object>> clock = steps(service.run(req("CLOCK", 3, List.of(1, 2, 3, 1, 4))));
+        assertEquals(List.of(4, 2, 3), clock.get(4).get("frame"));
+    }
+
+    @Test
+    void unknownAlgorithmIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> service.run(req("MRU", 3, List.of(1, 2))));
+        assertThrows(IllegalArgumentException.class, () -> service.stream("MRU", 3, new int[]{1}, true, new java.io.ByteArrayOutputStream()));
+    }
+
+    // ===== 참조 구현 =====
+
+    // 빈도가 가장 작은 것, 같으면 가장 오래 전에 쓰인 것
+    private static int naiveLfu(int frames, List<Integer> refs) {
+        Map<Integer, int[]> mem = new HashMap<>(); // page -> [count, lastTouch]
+        int faults = 0;
+        for (int t = 0; t < refs.size(); t++) {
+            int page = refs.get(t);
+            int[] e = mem.get(page);
+            if (e != null) {
+                e[0]++;
+                e[1] = t;
+                continue;
+            }
+            faults++;
+            if (mem.size() == frames) {
+                int victim = -1;
+                int[] best = null;
+                for (Map.Entry<Integer, int[]> m : mem.entrySet()) {
+                    int[] v = m.getValue();
+                    if (best == null || v[0] < best[0] || (v[0] == best[0] && v[1] < best[1])) {
+                        best = v;
+                        victim = m.getKey();
+                    }
+                }
+                mem.remove(victim);
+            }
+            mem.put(page, new int[]{1, t});
+        }
+        return faults;
+    }
+
+    // writes 가 null 이면 단순 Clock, 아니면 (R,M) 개선 Clock
+    private static int naiveClock(int frames, List<Integer> refs, List<Boolean> writes) {
+        int[] mem = new int[frames];
+        Arrays.fill(mem, Integer.MIN_VALUE);
+        boolean[] r = new boolean[frames];
+        boolean[] m = new boolean[frames];
+        int hand = 0, filled = 0, faults = 0;
+        for (int t = 0; t < refs.size(); t++) {
+            int page = refs.get(t);
+            boolean w = writes != null && writes.get(t);
+            int slot = -1;
+            for (int i = 0; i < filled; i++) if (mem[i] == page) slot = i;
+            if (slot != -1) {
+                r[slot] = true;
+                m[slot] |= w;
+                continue;
+            }
+            faults++;
+            if (filled < frames) {
+                slot = filled++;
+            } else if (writes == null) {
+                while (r[hand]) {
+                    r[hand] = false;
+                    hand = (hand + 1) % frames;
+                }
+                slot = hand;
+                hand = (hand + 1) % frames;
+            } else {
+                outer:
+                while (true) {
+                    for (int k = 0; k < frames; k++) {
+                        int i = (hand + k) % frames;
+                        if (!r[i] && !m[i]) { slot = i; break outer; }
+                    }
+                    for (int k = 0; k < frames; k++) {
+                        int i = (hand + k) % frames;
+                        if (!r[i] && m[i]) { slot = i; break outer; }
+                        r[i] = false;
+                    }
+                }
+                hand = (slot + 1) % frames;
+            }
+            mem[slot] = page;
+            r[slot] = true;
+            m[slot] = w;
+        }
+        return faults;
+    }
+
+    // ===== 유틸 =====
+
+    private int faults(String algo, int frames, List<Integer> refs, List<Boolean> writes) {
+        PagingReq req = req(algo, frames, refs);
+        req.writes = writes;
+        req.summaryOnly = true;
+        return (int) service.run(req).get("faults");
+    }
+
+    private static List<Integer> randomRefs(Random rnd, int n, int pages) {
+        List<Integer> refs = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) refs.add(rnd.nextInt(pages));
+        return refs;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Integer> resident(Map<String, Object> step) {
+        Set<Integer> out = new HashSet<>((List<Integer>) step.get("frame"));
+        out.remove(-1);
+        return out;
+    }
+
+    private static int countFaults(List<Map<String, Object>> steps) {
+        int n = 0;
+        for (Map<String, Object> s : steps) if (Boolean.TRUE.equals(s.get("fault"))) n++;
+        return n;
+    }
+
+    private static PagingReq req(String algo, int frames, List<Integer> refs) {
+        PagingReq req = new PagingReq();
+        req.algo = algo;
+        req.frames = frames;
+        req.refs = refs;
+        return req;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> steps(Map<String, Object> res) {
+        return (List<Map<String, Object>>) res.get("steps");
+    }
+}
@@ -0,0 +1,63 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.PagingReq;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PagingServiceTest {
+
+    private static final List<Integer> TEXTBOOK =
+            List.of(7, 0, 1, 2, 0, 3, 0, 4, 2, 3, 0, 3, 2, 1, 2, 0, 1, 7, 0, 1);
+
+    private final PagingService service = new PagingService();
+
+    @Test
+    void lruFaultsOnTextbookString() {
+        Map<String, Object> res = service.run(req("LRU", 3, TEXTBOOK));
+        assertEquals(12, res.get("faults"));
+    }
+
+    @Test
+    void lruReplacesLeastRecentlyUsedFrame() {
+        Map<String, Object> res = service.run(req("LRU", 3, List.of(1, 2, 3, 1, 4, 5)));
+        List<Map<String, Object>> steps = steps(res);
+
+        assertEquals(List.of(1, -1, -1), steps.get(0).get("frame"));
+        assertEquals(false, steps.get(3).get("fault"));
+        // 4 는 가장 오래된 2 를, 5 는 그다음인 3 을 밀어낸다
+        assertEquals(List.of(1, 4, 3), steps.get(4).get("frame"));
+        assertEquals(List.of(1, 4, 5), steps.get(5).get("frame"));
+        assertEquals(5, res.get("faults"));
+    }
+
+    @Test
+    void optFaultsOnTextbookString() {
+        Map<String, Object> res = service.run(req("OPT", 3, TEXTBOOK));
+        assertEquals(9, res.get("faults"));
+    }
+
+    @Test
+    void optEvictsFirstFrameNeverUsedAgain() {
+        // 4 가 들어올 때 1,2,3 모두 다시 안 쓰이므로 맨 앞 프레임을 교체
+        Map<String, Object> res = service.run(req("OPT", 3, List.of(1, 2, 3, 4, 3)));
+        assertEquals(List.of(4, 2, 3), steps(res).get(3).get("frame"));
+        assertEquals(4, res.get("faults"));
+    }
+
+    private static PagingReq req(String algo, int frames, List<Integer> refs) {
+        PagingReq req = new PagingReq();
+        req.algo = algo;
+        req.frames = frames;
+        req.refs = refs;
+        return req;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> steps(Map<String, Object> res) {
+        return (List<Map<String, Object>>) res.get("steps");
+    }
+}
@@ -0,0 +1,44 @@
+package com.scproject.osplatform.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PagingTraceServiceTest {
+
+    private final PagingTraceService service = new PagingTraceService("traces");
+
+    @Test
+    void contentLengthDoesNotSizeTheBuffer() throws Exception {
+        // 본문은 3개인데 헤더는 한도 직전을 주장 -> 헤더만큼 미리 잡지 않고 본문만 읽음
+        ByteBuffer body = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN).putInt(7).putInt(-1).putInt(3);
+        long claimed = (long) PagingTraceService.MAX_REFS * 4;
+        assertArrayEquals(new int[]{7, -1, 3}, service.read("INT32", new ByteArrayInputStream(body.array()), claimed));
+
+        byte[] varint = {14, 1, 6}; // zigzag: 7, -1, 3
+        assertArrayEquals(new int[]{7, -1, 3}, service.read("VARINT", new ByteArrayInputStream(varint), claimed));
+    }
+
+    @Test
+    void readsAddressesWithoutPreallocatingFromTheHeader() throws Exception {
+        ByteBuffer body = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN).putLong(0x7fff_0000_1000L).putLong(42);
+        long claimed = (long) AddressTranslationService.MAX_ADDRESSES * 8;
+        assertArrayEquals(new long[]{0x7fff_0000_1000L, 42},
+                service.readAddresses(new ByteArrayInputStream(body.array()), claimed));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.readAddresses(new ByteArrayInputStream(new byte[0]), claimed + 8));
+    }
+
+    @Test
+    void rejectsTraceOverTheLimitBeforeReading() {
+        long tooBig = 8_000_000_000L;
+        assertThrows(IllegalArgumentException.class,
+                () -> service.read("INT32", new ByteArrayInputStream(new byte[0]), tooBig));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.read("VARINT", new ByteArrayInputStream(new byte[0]), tooBig));
+    }
+}
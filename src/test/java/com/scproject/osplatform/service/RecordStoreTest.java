@@ -0,0 +1,127 @@
+package com.scproject.osplatform.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordStoreTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pagesNewestFirstWithTypeFilter() {
+        RecordStore store = new RecordStore();
+        for (int i = 0; i < 7; i++) {
+            store.create(Map.of("title", "r" + i, "type", i % 2 == 0 ? "paging" : "scheduling"));
+        }
+
+        List<Integer> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            Map<String, Object> page = store.list(null, cursor, 3);
+            for (Map<String, Object> rec : (List<Map<String, Object>>) page.get("items")) ids.add((Integer) rec.get("id"));
+            cursor = (String) page.get("nextCursor");
+        } while (cursor != null);
+        assertEquals(List.of(7, 6, 5, 4, 3, 2, 1), ids);
+
+        List<Map<String, Object>> paging = (List<Map<String, Object>>) store.list("paging", null, 10).get("items");
+        assertEquals(List.of(7, 5, 3, 1), paging.stream().map(r -> r.get("id")).toList());
+        assertEquals(List.of(), store.list("none", null, 10).get("items"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deleteRemovesFromEveryIndex() {
+        RecordStore store = new RecordStore();
+        store.create(Map.of("type", "paging"));
+        store.create(Map.of("type", "paging"));
+        assertTrue(store.delete(1));
+        assertFalse(store.delete(1));
+        assertNull(store.get(1));
+        assertEquals(1, ((List<?>) store.list(null, null, null).get("items")).size());
+        assertEquals(1, ((List<?>) store.list("paging", null, null).get("items")).size());
+        assertThrows(IllegalArgumentException.class, () -> store.list(null, "bad", null));
+    }
+
+    @Test
+    void restartRestoresRecordsAndSeq(@TempDir Path dir) {
+        RecordStore store = new RecordStore(dir.toString(), 3);
+        for (int i = 0; i < 5; i++) store.create(Map.of("title", "r" + i, "type", "paging"));
+        store.delete(2);
+        store.close();
+
+        // 항목 6개 -> 스냅샷이 한 번 이상 만들어지고 이전 세그먼트는 정리됨
+        assertTrue(Files.exists(dir.resolve("snapshot.dat")));
+
+        RecordStore reopened = new RecordStore(dir.toString(), 3);
+        assertEquals(4, reopened.size());
+        assertNull(reopened.get(2));
+        assertEquals("r4", reopened.get(5).get("title"));
+        assertEquals(6, reopened.create(Map.of()).get("id"));
+        reopened.close();
+    }
+
+    @Test
+    void tornTailIsDiscarded(@TempDir Path dir) throws Exception {
+        RecordStore store = new RecordStore(dir.toString(), 1000);
+        store.create(Map.of("title", "a"));
+        store.create(Map.of("title", "b"));
+        // close() 는 스냅샷을 남기므로 닫지 않고 세그먼트 끝에 반쯤 쓰인 항목을 흉내 냄
+        Path seg;
+        try (var files = Files.list(dir)) {
+            seg = files.filter(p -> p.getFileName().toString().endsWith(".seg")).findFirst().orElseThrow();
+        }
+        try (FileChannel ch = FileChannel.open(seg, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ch.write(ByteBuffer.wrap(new byte[]{50, 0, 0, 0, 1, 2, 3}));
+        }
+
+        RecordStore reopened = new RecordStore(dir.toString(), 1000);
+        assertEquals(2, reopened.size());
+        assertEquals(3, reopened.create(Map.of("title", "c")).get("id"));
+        reopened.close();
+
+        RecordStore again = new RecordStore(dir.toString(), 1000);
+        assertEquals(3, again.size());
+        again.close();
+    }
+
+    @Test
+    void identicalPayloadsAreStoredOnce(@TempDir Path dir) {
+        RecordStore store = new RecordStore(dir.toString(), 1000);
+        Map<String, Object> body = Map.of("type", "paging", "algo", "LRU", "faults", 9,
+                "steps", List.of(Map.of("ref", 1, "fault", true)));
+        store.create(withTitle(body, "첫 번째"));
+        store.create(withTitle(body, "두 번째"));
+        assertEquals(1, store.payloadCount());
+
+        // 목록(요약)에는 본문이 없고 headline 만
+        Map<String, Object> summary = store.get(1);
+        assertFalse(summary.containsKey("data"));
+        assertEquals(Map.of("algo", "LRU", "faults", 9), summary.get("headline"));
+        assertEquals(body.get("steps"), ((Map<?, ?>) store.detail(2).get("data")).get("steps"));
+
+        store.delete(1);
+        assertEquals(1, store.payloadCount());
+        store.close();
+
+        RecordStore reopened = new RecordStore(dir.toString(), 1000);
+        assertEquals(1, reopened.payloadCount());
+        assertEquals("LRU", ((Map<?, ?>) reopened.detail(2).get("data")).get("algo"));
+        reopened.delete(2);
+        assertEquals(0, reopened.payloadCount());
+        reopened.close();
+    }
+
+    private static Map<String, Object> withTitle(Map<String, Object> body, String title) {
+        Map<String, Object> out = new HashMap<>(body);
+        out.put("title", title);
+        return out;
+    }
+}
@@ -0,0 +1,114 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.SchedulingReq;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SchedulingServiceTest {
+
+    private final SchedulingService service = new SchedulingService();
+
+    @Test
+    void sjfRunsShortestArrivedJobToCompletion() {
+        Map<String, Object> res = service.run(req("SJF", null,
+                proc("P1", 0, 8, 0), proc("P2", 1, 4, 0), proc("P3", 2, 9, 0), proc("P4", 3, 5, 0)));
+
+        assertEquals(List.of("P1", "P2", "P4", "P3"), order(res));
+        assertEquals(7.75, metrics(res).get("avgWaiting"));
+    }
+
+    @Test
+    void srtfPreemptsOnShorterArrival() {
+        Map<String, Object> res = service.run(req("SRTF", null,
+                proc("P1", 0, 8, 0), proc("P2", 1, 4, 0), proc("P3", 2, 9, 0), proc("P4", 3, 5, 0)));
+
+        assertEquals(List.of("P1", "P2", "P4", "P1", "P3"), order(res));
+        assertEquals(6.5, metrics(res).get("avgWaiting"));
+    }
+
+    @Test
+    void priorityPicksSmallestValue() {
+        Map<String, Object> res = service.run(req("PRIORITY", null,
+                proc("P1", 0, 10, 3), proc("P2", 0, 1, 1), proc("P3", 0, 2, 4),
+                proc("P4", 0, 1, 5), proc("P5", 0, 5, 2)));
+
+        assertEquals(List.of("P2", "P5", "P1", "P3", "P4"), order(res));
+        assertEquals(8.2, metrics(res).get("avgWaiting"));
+    }
+
+    @Test
+    void agingLetsLongWaiterOvertake() {
+        SchedulingReq req = req("PRIORITY", null,
+                proc("P1", 0, 4, 0), proc("P2", 1, 2, 2), proc("P3", 3, 2, 1));
+        assertEquals(List.of("P1", "P3", "P2"), order(service.run(req)));
+
+        req.aging = 1;
+        assertEquals(List.of("P1", "P2", "P3"), order(service.run(req)));
+    }
+
+    @Test
+    void mlfqDemotesAfterQuantumAndPreemptsLowerLevel() {
+        // P1 은 단계 0(q=2), 단계 1(q=4) 을 다 쓰고 단계 2 로 내려간 뒤 P2 도착에 선점된다
+        Map<String, Object> res = service.run(req("MLFQ", 2,
+                proc("P1", 0, 10, 0), proc("P2", 7, 1, 0)));
+
+        // 강등 사이에 끊김이 없으므로 0~7 은 한 조각으로 합쳐진다
+        assertEquals(List.of("P1", "P2", "P1"), order(res));
+        assertEquals(List.of(0, 7, 8), starts(res));
+    }
+
+    @Test
+    void rrFastForwardsLoneProcessIntoOneSegment() {
+        Map<String, Object> res = service.run(req("RR", 1,
+                proc("P1", 0, 1_000_000, 0), proc("P2", 10, 2, 0)));
+
+        // P1 혼자 도는 0~10 은 한 조각, P2 도착 후에는 퀀텀마다 번갈아 실행
+        assertEquals(List.of("P1", "P2", "P1", "P2", "P1"), order(res));
+        assertEquals(List.of(0, 10, 11, 12, 13), starts(res));
+        assertEquals(1.5, metrics(res).get("avgWaiting"));
+    }
+
+    private static SchedulingReq req(String algo, Integer quantum, SchedulingReq.Proc... procs) {
+        SchedulingReq req = new SchedulingReq();
+        req.algo = algo;
+        req.quantum = quantum;
+        req.processes = List.of(procs);
+        return req;
+    }
+
+    private static SchedulingReq.Proc proc(String pid, int arrival, int burst, int priority) {
+        SchedulingReq.Proc p = new SchedulingReq.Proc();
+        p.pid = pid;
+        p.arrival = arrival;
+        p.burst = burst;
+        p.priority = priority;
+        return p;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> gantt(Map<String, Object> res) {
+        return (List<Map<String, Object>>) res.get("gantt");
+    }
+
+    private static List<Object> order(Map<String, Object> res) {
+        List<Object> out = new ArrayList<>();
+        for (Map<String, Object> seg : gantt(res)) out.add(seg.get("pid"));
+        return out;
+    }
+
+    private static List<Object> starts(Map<String, Object> res) {
+        List<Object> out = new ArrayList<>();
+        for (Map<String, Object> seg : gantt(res)) out.add(seg.get("start"));
+        return out;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> metrics(Map<String, Object> res) {
+        return (Map<String, Object>) res.get("metrics");
+    }
+}
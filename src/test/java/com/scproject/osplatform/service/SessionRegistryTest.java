@@ -0,0 +1,47 @@
+package com.scproject.osplatform.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionRegistryTest {
+
+    private static final long MINUTE = 60_000;
+
+    @Test
+    void idleEntriesExpireOnCreateAndOnLookup() {
+        SessionRegistry<String> reg = new SessionRegistry<>("세션", 10, 30);
+        String kept = reg.add("kept", 1, 0);
+        String idle = reg.add("idle", 1, 0);
+
+        assertEquals("kept", reg.get(kept, 20 * MINUTE));
+        reg.add("new", 1, 31 * MINUTE); // 만들 때 idle 정리
+        assertEquals(2, reg.size());
+        assertThrows(NoSuchElementException.class, () -> reg.get(idle, 31 * MINUTE));
+
+        // 정리 전이라도 조회 시점에 만료됐으면 없는 세션
+        assertThrows(NoSuchElementException.class, () -> reg.get(kept, 80 * MINUTE));
+        assertFalse(reg.remove(kept));
+    }
+
+    @Test
+    void fullRegistryRejectsWithCapacityErrorUntilSomethingExpires() {
+        SessionRegistry<String> reg = new SessionRegistry<>("그래프", 2, 100, 30);
+        String a = reg.add("a", 60, 0);
+        assertThrows(RejectedExecutionException.class, () -> reg.add("b", 41, 0)); // 무게 합 초과
+        reg.add("b", 40, 0);
+        assertThrows(RejectedExecutionException.class, () -> reg.add("c", 1, 0));  // 개수 초과
+        assertEquals(100, reg.weight());
+
+        assertTrue(reg.remove(a));
+        assertEquals(40, reg.weight());
+        reg.add("c", 60, 1);
+        // 둘 다 오래 안 쓰이면 새로 만들 때 자리가 남
+        reg.add("d", 100, 31 * MINUTE + 2);
+        assertEquals(1, reg.size());
+        assertEquals(100, reg.weight());
+    }
+}
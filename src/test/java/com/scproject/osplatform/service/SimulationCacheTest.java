@@ -0,0 +1,149 @@
+package com.scproject.osplatform.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scproject.osplatform.dto.sim.PagingBatchReq;
+import com.scproject.osplatform.dto.sim.PagingReq;
+import com.scproject.osplatform.dto.sim.SchedulingReq;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationCacheTest {
+
+    private final PagingService paging = new PagingService();
+
+    @Test
+    void normalizedRequestsShareOneEntry() {
+        SimulationCache cache = new SimulationCache(new ObjectMapper(), new SimulationMetrics(new SimpleMeterRegistry()), 1 << 20);
+        AtomicInteger runs = new AtomicInteger();
+
+        byte[] first = cache.paging(pagingReq("lru", 3), () -> {
+            runs.incrementAndGet();
+            return paging.run(pagingReq("lru", 3));
+        });
+        byte[] second = cache.paging(pagingReq("LRU", 3), () -> {
+            runs.incrementAndGet();
+            return Map.of();
+        });
+        assertSame(first, second);
+        assertEquals(1, runs.get());
+        assertEquals(1L, cache.stats().get("hits"));
+
+        // FCFS 는 quantum 을 안 쓰므로 quantum 이 달라도 같은 키
+        cache.scheduling(schedulingReq("fcfs", 2), () -> Map.of("metrics", Map.of()));
+        cache.scheduling(schedulingReq("FCFS", 5), () -> fail("재계산하면 안 됨"));
+        // RR 은 quantum 이 키에 들어감 (null 은 기본값 1 과 같음)
+        cache.scheduling(schedulingReq("RR", null), () -> Map.of("metrics", Map.of()));
+        cache.scheduling(schedulingReq("rr", 1), () -> fail("재계산하면 안 됨"));
+        assertEquals(3L, cache.stats().get("hits"));
+    }
+
+    @Test
+    void oneOffRequestsDoNotEvictPopularEntries() {
+        // 항목당 약 1KB, 용량은 4KB 정도
+        SimulationCache cache = new SimulationCache(new ObjectMapper(), new SimulationMetrics(new SimpleMeterRegistry()), 8 * 1200);
+        Map<String, Object> big = Map.of("pad", "x".repeat(1000));
+        for (int i = 0; i < 5; i++) cache.get("popular", "test", "LRU", Map.of(), () -> big);
+
+        for (int i = 0; i < 20; i++) cache.get("once-" + i, "test", "LRU", Map.of(), () -> big);
+
+        long missesBefore = (Long) cache.stats().get("misses");
+        cache.get("popular", "test", "LRU", Map.of(), () -> fail("자주 쓰는 항목이 밀려나면 안 됨"));
+        assertEquals(missesBefore, cache.stats().get("misses"));
+        assertTrue((Long) cache.stats().get("rejections") + (Long) cache.stats().get("evictions") > 0);
+        assertTrue((Long) cache.stats().get("bytes") <= 8 * 1200);
+    }
+
+    @Test
+    void recordsTimingsAndSizesPerAlgo() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SimulationCache cache = new SimulationCache(new ObjectMapper(), new SimulationMetrics(registry), 1 << 20);
+        cache.paging(pagingReq("lru", 3), () -> paging.run(pagingReq("lru", 3)));
+        cache.paging(pagingReq("lru", 3), () -> fail("캐시에서 나가야 함"));
+        // 모르는 algo 는 이제 PagingService 가 400 으로 거절하므로 결과는 직접 만들어 넘김
+        cache.paging(pagingReq("no-such-algo", 3), () -> Map.of("faults", 0));
+
+        assertEquals(1, registry.get("sim.simulate.time").tags("endpoint", "paging", "algo", "LRU").timer().count());
+        assertEquals(10.0, registry.get("sim.output.items").tags("algo", "LRU").summary().totalAmount());
+        assertEquals(10.0, registry.get("sim.input.size").tags("algo", "LRU", "dim", "refs").summary().totalAmount());
+        assertEquals(1.0, registry.get("sim.cache.requests").tags("result", "hit").counter().count());
+        // 모르는 algo 는 태그 하나로 묶임
+        assertEquals(1, registry.get("sim.simulate.time").tags("algo", "OTHER").timer().count());
+    }
+
+    @Test
+    void pagingBatchCachesEachConfigAndSharesKeysWithPaging() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        SimulationCache cache = new SimulationCache(mapper, new SimulationMetrics(new SimpleMeterRegistry()), 1 << 20);
+        PagingBatchService batch = new PagingBatchService(paging, ForkJoinPool.commonPool(), cache);
+        cache.paging(pagingReq("LRU", 3), () -> paging.run(pagingReq("LRU", 3)));
+
+        PagingBatchReq req = new PagingBatchReq();
+        req.refs = pagingReq("LRU", 3).refs;
+        req.configs = List.of(config("lru", 3), config("FIFO", 3));
+        Map<?, ?> first = mapper.readValue(batch.run(req), Map.class);
+        assertEquals(1L, cache.stats().get("hits")); // lru/3 는 /paging 이 남긴 항목
+
+        List<?> results = (List<?>) first.get("results");
+        assertEquals(2, results.size());
+        Map<?, ?> lru = (Map<?, ?>) results.get(0);
+        assertEquals("lru", lru.get("algo"));
+        assertEquals(3, lru.get("frames"));
+        Map<?, ?> fresh = mapper.readValue(mapper.writeValueAsBytes(paging.run(pagingReq("LRU", 3))), Map.class);
+        assertEquals(fresh.get("steps"), lru.get("steps"));
+        assertEquals(fresh.get("faults"), lru.get("faults"));
+
+        // 프레임 수만 바꿔 다시 보내면 바뀐 설정만 새로 돌림
+        req.configs = List.of(config("lru", 4), config("FIFO", 3));
+        Map<?, ?> second = mapper.readValue(batch.run(req), Map.class);
+        assertEquals(2L, cache.stats().get("hits"));
+        assertEquals(results.get(1), ((List<?>) second.get("results")).get(1));
+
+        // NUR 은 쓰기 비트까지 키에 들어감: /paging 과 같은 비트면 공유, 다르면 새로 계산
+        PagingReq nur = pagingReq("NUR", 3);
+        nur.writes = List.of(true, false, true);
+        cache.paging(nur, () -> paging.run(nur));
+        req.writes = nur.writes;
+        req.configs = List.of(config("NUR", 3));
+        batch.run(req);
+        assertEquals(3L, cache.stats().get("hits"));
+        req.writes = List.of(false, false, true);
+        batch.run(req);
+        assertEquals(3L, cache.stats().get("hits"));
+
+        req.configs = List.of();
+        assertEquals(Map.of("results", List.of()), mapper.readValue(batch.run(req), Map.class));
+    }
+
+    private static PagingBatchReq.Config config(String algo, int frames) {
+        PagingBatchReq.Config c = new PagingBatchReq.Config();
+        c.algo = algo;
+        c.frames = frames;
+        return c;
+    }
+
+    private static PagingReq pagingReq(String algo, int frames) {
+        PagingReq r = new PagingReq();
+        r.algo = algo;
+        r.frames = frames;
+        r.refs = List.of(7, 0, 1, 2, 0, 3, 0, 4, 2, 3);
+        return r;
+    }
+
+    private static SchedulingReq schedulingReq(String algo, Integer quantum) {
+        SchedulingReq r = new SchedulingReq();
+        r.algo = algo;
+        r.quantum = quantum;
+        SchedulingReq.Proc p = new SchedulingReq.Proc();
+        p.pid = "P1";
+        p.burst = 3;
+        r.processes = List.of(p);
+        return r;
+    }
+}
@@ -0,0 +1,114 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.PagingReq;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationJobServiceTest {
+
+    private final ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(2));
+    private final SimulationJobService jobs = new SimulationJobService(
+            executor, new PagingService(), new SchedulingService(), new BankersService(), 2);
+
+    @AfterEach
+    void tearDown() {
+        jobs.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void jobRunsToCompletion() throws Exception {
+        Map<String, Object> submitted = jobs.submitPaging(pagingReq(List.of(1, 2, 3, 1, 4, 5)), "a");
+        String id = (String) submitted.get("id");
+
+        Map<String, Object> status = await(id);
+        assertEquals(SimulationJob.Status.DONE, status.get("status"));
+        assertEquals(1.0, status.get("progress"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> result = (Map<String, Object>) status.get("result");
+        assertEquals(new PagingService().run(pagingReq(List.of(1, 2, 3, 1, 4, 5))).get("faults"), result.get("faults"));
+    }
+
+    @Test
+    void runningJobCanBeCancelled() throws Exception {
+        String id = (String) jobs.submitPaging(pagingReq(hugeRefs()), "a").get("id");
+        // 실행이 시작될 때까지 대기
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (jobs.status(id).get("status") == SimulationJob.Status.QUEUED && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        jobs.cancel(id);
+        assertEquals(SimulationJob.Status.CANCELLED, await(id).get("status"));
+    }
+
+    @Test
+    void perUserLimitAndQueueDepthAreEnforced() throws Exception {
+        // 하나뿐인 작업자를 막아 두고 대기열(2칸)을 채움
+        CountDownLatch gate = new CountDownLatch(1);
+        executor.submit(() -> {
+            gate.await();
+            return null;
+        });
+        String first = (String) jobs.submitPaging(pagingReq(List.of(1, 2, 3)), "a").get("id");
+        String second = (String) jobs.submitPaging(pagingReq(List.of(1, 2, 3)), "a").get("id");
+        // 사용자 a 는 2개 한도
+        assertThrows(RejectedExecutionException.class, () -> jobs.submitPaging(pagingReq(List.of(1)), "a"));
+        // 대기열이 찼으므로 다른 사용자도 거절
+        assertThrows(RejectedExecutionException.class, () -> jobs.submitPaging(pagingReq(List.of(1)), "b"));
+
+        // 대기 중인 작업을 취소하면 자리가 바로 돌아옴
+        jobs.cancel(second);
+        assertEquals(SimulationJob.Status.CANCELLED, jobs.status(second).get("status"));
+        String third = (String) jobs.submitPaging(pagingReq(List.of(1, 2)), "b").get("id");
+
+        gate.countDown();
+        assertEquals(SimulationJob.Status.DONE, await(first).get("status"));
+        assertEquals(SimulationJob.Status.DONE, await(third).get("status"));
+        assertEquals(SimulationJob.Status.CANCELLED, jobs.status(second).get("status"));
+    }
+
+    @Test
+    void unknownJobIsNotFound() {
+        assertThrows(NoSuchElementException.class, () -> jobs.status("nope"));
+    }
+
+    private Map<String, Object> await(String id) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (System.nanoTime() < deadline) {
+            Map<String, Object> status = jobs.status(id);
+            Object s = status.get("status");
+            if (s != SimulationJob.Status.QUEUED && s != SimulationJob.Status.RUNNING) return status;
+            Thread.sleep(10);
+        }
+        return fail("작업이 끝나지 않음: " + id);
+    }
+
+    // 작은 값만 써서 Integer 캐시를 공유하므로 길어도 참조 배열만큼의 메모리만 씀
+    private static final List<Integer> HUGE = new ArrayList<>(5_000_000);
+
+    static {
+        for (int i = 0; i < 5_000_000; i++) HUGE.add(i % 100);
+    }
+
+    private static List<Integer> hugeRefs() {
+        return HUGE;
+    }
+
+    private static PagingReq pagingReq(List<Integer> refs) {
+        PagingReq req = new PagingReq();
+        req.algo = "LRU";
+        req.frames = 3;
+        req.refs = refs;
+        req.summaryOnly = true;
+        return req;
+    }
+}
@@ -0,0 +1,234 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.PagingReq;
+import com.scproject.osplatform.dto.sim.SchedulingReq;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationSessionServiceTest {
+
+    private final PagingService paging = new PagingService();
+    private final SchedulingService scheduling = new SchedulingService();
+    private final SimulationSessionService service = new SimulationSessionService(scheduling, 30);
+
+    @Test
+    void pagingEditsPatchToTheSameStepsAsAFreshRun() {
+        Random rnd = new Random(5);
+        for (String algo : List.of("FIFO", "LRU", "OPT", "LFU", "NUR", "CLOCK", "WS", "PFF")) {
+            PagingReq req = pagingReq(algo, 4, randomRefs(rnd, 300, 9));
+            req.writes = randomWrites(rnd, 300);
+            req.window = 5;
+            req.pffInterval = 4;
+            req.checkpointEvery = 16;
+
+            Map<String, Object> res = service.createPaging(req);
+            String id = (String) res.get("id");
+            List<Map<String, Object>> view = apply(new ArrayList<>(), res);
+            assertEquals(paging.run(req).get("steps"), view, algo);
+
+            for (int edit = 0; edit < 40; edit++) {
+                List<Integer> refs = new ArrayList<>(req.refs);
+                List<Boolean> writes = new ArrayList<>(req.writes);
+                switch (edit % 4) {
+                    case 0 -> refs.set(rnd.nextInt(refs.size()), rnd.nextInt(12));
+                    case 1 -> writes.set(rnd.nextInt(writes.size()), rnd.nextBoolean());
+                    case 2 -> {
+                        int cut = refs.size() - rnd.nextInt(20);
+                        refs = new ArrayList<>(refs.subList(0, cut));
+                        writes = new ArrayList<>(writes.subList(0, cut));
+                    }
+                    default -> {
+                        for (int k = rnd.nextInt(30); k >= 0; k--) {
+                            refs.add(rnd.nextInt(12));
+                            writes.add(rnd.nextBoolean());
+                        }
+                    }
+                }
+                req.refs = refs;
+                req.writes = writes;
+
+                res = service.runPaging(id, req);
+                Map<String, Object> fresh = paging.run(req);
+                view = apply(view, res);
+                assertEquals(fresh.get("faults"), res.get("faults"), algo + " edit " + edit);
+                assertEquals(fresh.get("steps"), view, algo + " edit " + edit);
+            }
+        }
+    }
+
+    @Test
+    void editNearTheEndResumesFromCheckpointAndReturnsOnlyChangedSteps() {
+        // 페이지 12 개 < 프레임 16 개: 다 올라온 뒤에는 참조 하나를 다른 페이지로 바꿔도 그 스텝만 달라짐
+        List<Integer> refs = randomRefs(new Random(1), 100_000, 12);
+        PagingReq req = pagingReq("LRU", 16, refs);
+        req.summaryOnly = true;
+        String id = (String) service.createPaging(req).get("id");
+
+        List<Integer> edited = new ArrayList<>(refs);
+        edited.set(99_500, (refs.get(99_500) + 1) % 12);
+        req.refs = edited;
+        req.summaryOnly = false;
+        Map<String, Object> res = service.runPaging(id, req);
+
+        assertEquals(99_500, res.get("firstChange"));
+        assertEquals(99_328, res.get("resumedFrom")); // 1024 간격 체크포인트 중 마지막
+        List<Map<String, Object>> steps = steps(res);
+        assertEquals(res.get("changedCount"), steps.size());
+        assertEquals(1, steps.size());
+        assertEquals(99_500, steps.get(0).get("i"));
+        assertEquals(paging.run(req).get("faults"), res.get("faults"));
+
+        // 그대로 다시 돌리면 바뀐 스텝 없음
+        res = service.runPaging(id, req);
+        assertEquals(0, res.get("changedCount"));
+        assertEquals(100_000, res.get("firstChange"));
+    }
+
+    @Test
+    void optAndConfigChangesStartOver() {
+        List<Integer> refs = randomRefs(new Random(2), 5_000, 30);
+        PagingReq req = pagingReq("OPT", 4, refs);
+        String id = (String) service.createPaging(req).get("id");
+        List<Integer> edited = new ArrayList<>(refs);
+        edited.set(4_900, 99);
+        req.refs = edited;
+        Map<String, Object> res = service.runPaging(id, req);
+        assertEquals(0, res.get("resumedFrom"));
+        assertEquals(4_900, res.get("firstChange"));
+
+        req.algo = "LRU";
+        res = service.runPaging(id, req);
+        assertEquals(0, res.get("firstChange"));
+        assertEquals(5_000, steps(res).size());
+    }
+
+    @Test
+    void schedulingEditReturnsGanttSplice() {
+        Random rnd = new Random(3);
+        for (String algo : List.of("FCFS", "RR", "SJF", "SRTF", "PRIORITY", "MLFQ")) {
+            SchedulingReq req = new SchedulingReq();
+            req.algo = algo;
+            req.quantum = 3;
+            req.processes = new ArrayList<>();
+            for (int k = 0; k < 200; k++) req.processes.add(proc("P" + k, rnd.nextInt(1500), 1 + rnd.nextInt(12), rnd.nextInt(5)));
+
+            Map<String, Object> res = service.createScheduling(req);
+            String id = (String) res.get("id");
+            List<Object> view = splice(new ArrayList<>(), res);
+
+            for (int edit = 0; edit < 20; edit++) {
+                List<SchedulingReq.Proc> procs = new ArrayList<>(req.processes);
+                int k = rnd.nextInt(procs.size());
+                procs.set(k, proc(procs.get(k).pid, rnd.nextInt(1500), 1 + rnd.nextInt(12), rnd.nextInt(5)));
+                req.processes = procs;
+
+                res = service.runScheduling(id, req);
+                Map<String, Object> fresh = scheduling.run(req);
+                view = splice(view, res);
+                assertEquals(fresh.get("gantt"), view, algo + " edit " + edit);
+                assertEquals(fresh.get("metrics"), res.get("metrics"));
+                assertEquals(view.size(), res.get("segments"));
+            }
+        }
+    }
+
+    @Test
+    void sessionsAreCreatedOnlyForValidInputAndCanBeClosed() {
+        assertThrows(IllegalArgumentException.class, () -> service.createPaging(pagingReq("NOPE", 3, List.of(1))));
+        assertThrows(NoSuchElementException.class, () -> service.runPaging("missing", pagingReq("LRU", 3, List.of(1))));
+
+        String id = (String) service.createPaging(pagingReq("LRU", 3, List.of(1, 2, 3))).get("id");
+        assertThrows(IllegalArgumentException.class, () -> service.runPaging(id, pagingReq("LRU", 0, List.of(1))));
+        assertTrue(service.closePaging(id));
+        assertFalse(service.closePaging(id));
+    }
+
+    @Test
+    void idleSessionsExpireAndUseKeepsThemAlive() {
+        long t0 = System.currentTimeMillis();
+        String kept = (String) service.createPaging(pagingReq("LRU", 3, List.of(1, 2, 3))).get("id");
+        String idle = (String) service.createPaging(pagingReq("LRU", 3, List.of(1, 2, 3))).get("id");
+        long minute = 60_000;
+
+        service.pagingSessions().get(kept, t0 + 20 * minute);
+        assertEquals(1, service.pagingSessions().expireIdle(t0 + 31 * minute));
+        assertThrows(NoSuchElementException.class, () -> service.runPaging(idle, pagingReq("LRU", 3, List.of(1))));
+        assertNotNull(service.pagingSessions().get(kept, t0 + 45 * minute));
+
+        // 조회 시점에 이미 만료된 세션은 정리 전이라도 없는 세션
+        assertThrows(NoSuchElementException.class, () -> service.pagingSessions().get(kept, t0 + 80 * minute));
+        assertFalse(service.closePaging(kept));
+    }
+
+    @Test
+    void sessionTraceLengthIsCapped() {
+        List<Integer> refs = new ArrayList<>(Collections.nCopies(PagingSession.MAX_REFS + 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> service.createPaging(pagingReq("FIFO", 3, refs)));
+        assertEquals(0, service.pagingSessions().size());
+
+        String id = (String) service.createPaging(pagingReq("FIFO", 3, List.of(1, 2))).get("id");
+        assertThrows(IllegalArgumentException.class, () -> service.runPaging(id, pagingReq("FIFO", 3, refs)));
+        assertEquals(2, service.runPaging(id, pagingReq("FIFO", 3, List.of(1, 2))).get("length"));
+    }
+
+    // 클라이언트가 하듯 길이에 맞춰 자르고 달라진 스텝만 덮어씀
+    private static List<Map<String, Object>> apply(List<Map<String, Object>> view, Map<String, Object> res) {
+        int length = (int) res.get("length");
+        while (view.size() > length) view.remove(view.size() - 1);
+        while (view.size() < length) view.add(null);
+        for (Map<String, Object> s : steps(res)) {
+            Map<String, Object> step = new LinkedHashMap<>(s);
+            int i = (int) step.remove("i");
+            view.set(i, step);
+        }
+        return view;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> splice(List<Object> view, Map<String, Object> res) {
+        Map<String, Object> gantt = (Map<String, Object>) res.get("gantt");
+        int from = (int) gantt.get("from");
+        int removed = (int) gantt.get("removed");
+        List<Object> out = new ArrayList<>(view.subList(0, from));
+        out.addAll((List<Object>) gantt.get("segments"));
+        out.addAll(view.subList(from + removed, view.size()));
+        return out;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> steps(Map<String, Object> res) {
+        return (List<Map<String, Object>>) res.get("steps");
+    }
+
+    private static List<Integer> randomRefs(Random rnd, int n, int pages) {
+        List<Integer> refs = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) refs.add(rnd.nextInt(pages));
+        return refs;
+    }
+
+    private static List<Boolean> randomWrites(Random rnd, int n) {
+        List<Boolean> writes = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) writes.add(rnd.nextInt(4) == 0);
+        return writes;
+    }
+
+    private static PagingReq pagingReq(String algo, int frames, List<Integer> refs) {
+        PagingReq req = new PagingReq();
+        req.algo = algo;
+        req.frames = frames;
+        req.refs = refs;
+        return req;
+    }
+
+    private static SchedulingReq.Proc proc(String pid, int arrival, int burst, int priority) {
+        SchedulingReq.Proc p = new SchedulingReq.Proc();
+        p.pid = pid;
+        p.arrival = arrival;
+        p.burst = burst;
+        p.priority = priority;
+        return p;
+    }
+}
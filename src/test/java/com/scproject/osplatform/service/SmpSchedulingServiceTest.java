@@ -0,0 +1,172 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.SchedulingReq;
+import com.scproject.osplatform.dto.sim.SchedulingWorkloadReq;
+import com.scproject.osplatform.dto.sim.SmpSchedulingReq;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SmpSchedulingServiceTest {
+
+    private final SmpSchedulingService service = new SmpSchedulingService();
+
+    @Test
+    void singleCpuMatchesUniprocessorScheduler() {
+        ProcTable t = WorkloadGenerator.processes(spec(5_000, 0.95));
+        SchedulingService single = new SchedulingService();
+        for (String algo : List.of("RR", "FCFS")) {
+            SchedulingReq one = new SchedulingReq();
+            one.algo = algo;
+            one.quantum = 3;
+            Map<String, Object> expected = metrics(single.run(t, one, GanttListener.NONE));
+
+            SmpSchedulingReq req = req(algo, 1, "STEAL");
+            req.quantum = 3;
+            Map<String, Object> actual = metrics(service.run(t, null, req));
+            for (String key : List.of("avgWaiting", "avgTurnaround", "avgResponse")) {
+                assertEquals(expected.get(key), actual.get(key), algo + " " + key);
+            }
+            assertEquals(0L, actual.get("migrations"));
+        }
+    }
+
+    @Test
+    void idleCpuTakesWorkFromBusyQueue() {
+        // 동시 도착 → 번갈아 배치: CPU0 = P1, P3 (긴 작업), CPU1 = P2, P4 (짧은 작업)
+        assertEquals(40, metrics(service.run(imbalanced("NONE", 0))).get("makespan"));
+
+        for (String balance : List.of("PULL", "STEAL", "PUSH")) {
+            Map<String, Object> res = service.run(imbalanced(balance, 0));
+            // CPU1 이 4 에 놀게 되면 P3 를 가져가 4~24 에 실행
+            assertEquals(24, metrics(res).get("makespan"), balance);
+            assertEquals(1L, metrics(res).get("migrations"), balance);
+            assertEquals(List.of("P2", "P4", "P3"), pids(lane(res, 1)), balance);
+        }
+
+        // 아직 한 번도 돌지 않은 P3 는 다시 적재할 캐시가 없으므로 migrationCost 가 붙지 않음
+        assertEquals(24, metrics(service.run(imbalanced("STEAL", 3))).get("makespan"));
+    }
+
+    @Test
+    void migrationCostIsChargedWhenResumingOnAnotherCpu() {
+        ProcTable t = WorkloadGenerator.processes(spec(2_000, 3.5));
+        long bursts = 0;
+        for (int i = 0; i < t.n; i++) bursts += t.burst[i];
+
+        SmpSchedulingReq req = req("RR", 4, "STEAL");
+        req.summaryOnly = true;
+        assertEquals(bursts, totalBusy(service.run(t, null, req)));
+
+        req.migrationCost = 5;
+        long extra = totalBusy(service.run(t, null, req)) - bursts;
+        assertTrue(extra > 0);
+        assertEquals(0, extra % 5);
+    }
+
+    @Test
+    void affinityPinsProcessesEvenWhenOtherCpuIsIdle() {
+        SmpSchedulingReq req = imbalanced("STEAL", 0);
+        for (SchedulingReq.Proc p : req.processes) p.affinity = List.of(1);
+
+        Map<String, Object> res = service.run(req);
+        assertEquals(44, metrics(res).get("makespan"));
+        assertEquals(0L, metrics(res).get("migrations"));
+        assertTrue(lane(res, 0).isEmpty());
+        assertEquals(44L, cpu(res, 1).get("busy"));
+    }
+
+    @Test
+    void rejectsBadRequests() {
+        assertThrows(IllegalArgumentException.class, () -> service.run(req("RR", 0, "STEAL")));
+        assertThrows(IllegalArgumentException.class, () -> service.run(req("RR", 65, "STEAL")));
+        assertThrows(IllegalArgumentException.class, () -> service.run(req("MLFQ", 2, "STEAL")));
+        assertThrows(IllegalArgumentException.class, () -> service.run(req("RR", 2, "GANG")));
+
+        SmpSchedulingReq req = imbalanced("STEAL", 0);
+        req.processes.get(0).affinity = List.of(2);
+        assertThrows(IllegalArgumentException.class, () -> service.run(req));
+    }
+
+    @Test
+    void sixtyFourCpusWithManyProcesses() {
+        ProcTable t = WorkloadGenerator.processes(spec(100_000, 56));
+        for (String balance : List.of("NONE", "PUSH", "PULL", "STEAL")) {
+            SmpSchedulingReq req = req("RR", 64, balance);
+            req.summaryOnly = true;
+            long begin = System.nanoTime();
+            Map<String, Object> res = service.run(t, null, req);
+            long ms = (System.nanoTime() - begin) / 1_000_000;
+
+            assertEquals(64, ((List<?>) res.get("cpus")).size());
+            assertFalse(cpu(res, 0).containsKey("gantt"));
+            assertTrue((double) metrics(res).get("utilization") > 0.5, balance);
+            assertTrue(ms < 10_000, balance + " took " + ms + "ms");
+        }
+    }
+
+    private static SchedulingWorkloadReq.Spec spec(int count, double load) {
+        SchedulingWorkloadReq.Spec spec = new SchedulingWorkloadReq.Spec();
+        spec.count = count;
+        spec.seed = 7L;
+        spec.burst = "BIMODAL";
+        spec.load = load;
+        return spec;
+    }
+
+    private static SmpSchedulingReq imbalanced(String balance, int migrationCost) {
+        SmpSchedulingReq req = req("FCFS", 2, balance);
+        req.balanceInterval = 1;
+        req.migrationCost = migrationCost;
+        req.processes = new ArrayList<>(List.of(
+                proc("P1", 20), proc("P2", 2), proc("P3", 20), proc("P4", 2)));
+        return req;
+    }
+
+    private static SmpSchedulingReq req(String algo, int cpus, String balance) {
+        SmpSchedulingReq req = new SmpSchedulingReq();
+        req.algo = algo;
+        req.cpus = cpus;
+        req.balance = balance;
+        return req;
+    }
+
+    private static SchedulingReq.Proc proc(String pid, int burst) {
+        SchedulingReq.Proc p = new SchedulingReq.Proc();
+        p.pid = pid;
+        p.burst = burst;
+        return p;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> metrics(Map<String, Object> res) {
+        return (Map<String, Object>) res.get("metrics");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> cpu(Map<String, Object> res, int c) {
+        return ((List<Map<String, Object>>) res.get("cpus")).get(c);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> lane(Map<String, Object> res, int c) {
+        return (List<Map<String, Object>>) cpu(res, c).get("gantt");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long totalBusy(Map<String, Object> res) {
+        long sum = 0;
+        for (Map<String, Object> cpu : (List<Map<String, Object>>) res.get("cpus")) sum += (long) cpu.get("busy");
+        return sum;
+    }
+
+    private static List<Object> pids(List<Map<String, Object>> lane) {
+        List<Object> out = new ArrayList<>();
+        for (Map<String, Object> s : lane) out.add(s.get("pid"));
+        return out;
+    }
+}
@@ -0,0 +1,160 @@
+package com.scproject.osplatform.service;
+
+import com.scproject.osplatform.dto.sim.PagingReq;
+import com.scproject.osplatform.dto.sim.PagingWorkloadReq;
+import com.scproject.osplatform.dto.sim.SchedulingReq;
+import com.scproject.osplatform.dto.sim.SchedulingWorkloadReq;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkloadServiceTest {
+
+    private final PagingService paging = new PagingService();
+    private final SchedulingService scheduling = new SchedulingService();
+    private final WorkloadService service = new WorkloadService(paging, scheduling);
+
+    @Test
+    void sameSeedGivesSameWorkload() {
+        Map<String, Object> a = service.paging(pagingReq("LRU", 64, spec("ZIPF", 100_000, 1000, 7L)));
+        Map<String, Object> b = service.paging(pagingReq("LRU", 64, spec("ZIPF", 100_000, 1000, 7L)));
+        Map<String, Object> c = service.paging(pagingReq("LRU", 64, spec("ZIPF", 100_000, 1000, 8L)));
+        assertEquals(a.get("faults"), b.get("faults"));
+        assertNotEquals(a.get("faults"), c.get("faults"));
+    }
+
+    @Test
+    void generatedRefsRunLikeTheSameRefsPostedAsJson() {
+        PagingWorkloadReq.Spec spec = spec("PHASE", 20_000, 500, 3L);
+        spec.phaseLength = 1000;
+        spec.locality = 20;
+        int[] refs = WorkloadGenerator.refs(spec).refs();
+        List<Integer> list = new ArrayList<>();
+        for (int r : refs) list.add(r);
+
+        for (String algo : List.of("FIFO", "LRU", "OPT", "LFU", "CLOCK", "WS")) {
+            PagingReq req = new PagingReq();
+            req.algo = algo;
+            req.frames = 16;
+            req.refs = list;
+            req.summaryOnly = true;
+            assertEquals(paging.run(req).get("faults"), service.paging(pagingReq(algo, 16, spec)).get("faults"), algo);
+        }
+    }
+
+    @Test
+    void patternsHaveTheirShape() {
+        // LOOP: 프레임이 페이지 수보다 하나만 적어도 LRU 는 전부 fault
+        assertEquals(10_000, service.paging(pagingReq("LRU", 99, spec("LOOP", 10_000, 100, null))).get("faults"));
+
+        // PHASE: 각 단계 안의 참조는 locality 폭 안에 모임
+        PagingWorkloadReq.Spec phase = spec("PHASE", 8000, 10_000, 1L);
+        phase.phaseLength = 1000;
+        phase.locality = 50;
+        int[] refs = WorkloadGenerator.refs(phase).refs();
+        for (int p = 0; p < 8; p++) {
+            int lo = Integer.MAX_VALUE, hi = Integer.MIN_VALUE;
+            for (int i = p * 1000; i < (p + 1) * 1000; i++) {
+                lo = Math.min(lo, refs[i]);
+                hi = Math.max(hi, refs[i]);
+            }
+            assertTrue(hi - lo < 50, "phase " + p);
+        }
+
+        // ZIPF(s=1): P(페이지 0) = 1/H_n, P(페이지 1) = P(페이지 0)/2
+        int n = 100;
+        double harmonic = 0;
+        for (int k = 1; k <= n; k++) harmonic += 1.0 / k;
+        int[] zipf = WorkloadGenerator.refs(spec("ZIPF", 400_000, n, 5L)).refs();
+        int[] counts = new int[n];
+        for (int r : zipf) counts[r]++;
+        assertEquals(1 / harmonic, counts[0] / 400_000.0, 0.005);
+        assertEquals(0.5, counts[1] / (double) counts[0], 0.03);
+    }
+
+    @Test
+    void poissonArrivalsMatchRequestedLoad() {
+        SchedulingWorkloadReq.Spec spec = new SchedulingWorkloadReq.Spec();
+        spec.count = 200_000;
+        spec.seed = 11L;
+        spec.burst = "BIMODAL";
+        spec.meanBurst = 4;
+        spec.longBurst = 40;
+        spec.longRatio = 0.1;
+        spec.load = 0.8;
+        ProcTable t = WorkloadGenerator.processes(spec);
+
+        long total = 0;
+        for (int i = 0; i < t.n; i++) {
+            assertTrue(t.burst[i] >= 1);
+            if (i > 0) assertTrue(t.arrival[i] >= t.arrival[i - 1]);
+            total += t.burst[i];
+        }
+        double mean = total / (double) t.n;
+        assertEquals(0.9 * 4 + 0.1 * 40, mean, 0.3);
+        assertEquals(0.8, total / (double) t.arrival[t.n - 1], 0.03);
+
+        SchedulingWorkloadReq req = new SchedulingWorkloadReq();
+        req.algo = "SRTF";
+        req.summaryOnly = true;
+        req.workload = spec;
+        Map<String, Object> res = service.scheduling(req);
+        assertTrue(res.containsKey("metrics"));
+        assertEquals(200_000, ((Map<?, ?>) res.get("workload")).get("count"));
+    }
+
+    @Test
+    void streamsWithoutBuildingSteps() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PagingWorkloadReq req0 = pagingReq("FIFO", 3, spec("UNIFORM", 50, 10, 2L));
+        req0.summaryOnly = false;
+        service.streamPaging(req0, out);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(52, lines.length); // 헤더 + 스텝 50 + faults
+        assertTrue(lines[0].contains("\"refs\":50"));
+
+        SchedulingWorkloadReq req = new SchedulingWorkloadReq();
+        req.algo = "RR";
+        req.quantum = 2;
+        req.workload = new SchedulingWorkloadReq.Spec();
+        req.workload.count = 20;
+        ByteArrayOutputStream sched = new ByteArrayOutputStream();
+        service.streamScheduling(req, sched);
+        assertTrue(sched.toString(StandardCharsets.UTF_8).contains("\"metrics\""));
+    }
+
+    @Test
+    void rejectsBadSpecs() {
+        assertThrows(IllegalArgumentException.class, () -> service.paging(pagingReq("LRU", 3, spec("SPIRAL", 10, 10, null))));
+        assertThrows(IllegalArgumentException.class, () -> service.paging(pagingReq("LRU", 3, spec("UNIFORM", 10, 0, null))));
+        assertThrows(IllegalArgumentException.class, () -> service.paging(pagingReq("LRU", 3, null)));
+        // 스텝을 통째로 JSON 으로 받기에는 너무 큼
+        PagingWorkloadReq big = pagingReq("LRU", 3, spec("UNIFORM", WorkloadService.MAX_INLINE + 1, 10, null));
+        big.summaryOnly = false;
+        assertThrows(IllegalArgumentException.class, () -> service.paging(big));
+    }
+
+    private static PagingWorkloadReq pagingReq(String algo, int frames, PagingWorkloadReq.Spec spec) {
+        PagingWorkloadReq req = new PagingWorkloadReq();
+        req.algo = algo;
+        req.frames = frames;
+        req.summaryOnly = true;
+        req.workload = spec;
+        return req;
+    }
+
+    private static PagingWorkloadReq.Spec spec(String pattern, int length, int pages, Long seed) {
+        PagingWorkloadReq.Spec spec = new PagingWorkloadReq.Spec();
+        spec.pattern = pattern;
+        spec.length = length;
+        spec.pages = pages;
+        spec.seed = seed;
+        return spec;
+    }
+}